@@ -8,6 +8,8 @@ import java.util.List;
 
 import javax.swing.JFrame;
 
+import com.webforj.webswing.bridge.WebswingBridge;
+
 public class Application {
 
   public static void main(String[] args) {
@@ -26,7 +28,8 @@ public class Application {
           new Customer(i, faker.name().fullName(), faker.company().name(), faker.internet().emailAddress()));
     }
 
-    CustomerTable customerTable = new CustomerTable(frame, customers);
+    WebswingBridge bridge = WebswingBridge.create();
+    CustomerTable customerTable = new CustomerTable(frame, customers, bridge);
 
     frame.add(customerTable.getScrollPane(), BorderLayout.CENTER);
     frame.setVisible(true);
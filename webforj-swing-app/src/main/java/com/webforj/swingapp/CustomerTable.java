@@ -1,7 +1,9 @@
 package com.webforj.swingapp;
 
 import java.awt.Color;
+import java.lang.reflect.InvocationTargetException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 
@@ -9,30 +11,21 @@ import javax.swing.BorderFactory;
 import javax.swing.JFrame;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.SwingUtilities;
 
-import org.webswing.toolkit.api.WebswingUtil;
-
-import com.google.gson.Gson;
+import com.webforj.webswing.bridge.RecordSync;
+import com.webforj.webswing.bridge.WebswingBridge;
 
 public class CustomerTable {
 
   private final JTable table;
-  private final DefaultTableModel model;
-  private final List<Customer> customers;
-
-  public CustomerTable(JFrame frame, List<Customer> customers) {
-    this.customers = customers;
-
-    String[] columnNames = { "Name", "Company", "Email" };
-    this.model = new DefaultTableModel(columnNames, 0) {
-      @Override
-      public boolean isCellEditable(int row, int column) {
-        return false;
-      }
-    };
+  private final CustomerTableModel model;
+  private final RecordSync<Customer> records;
 
-    refresh();
+  public CustomerTable(JFrame frame, List<Customer> customers, WebswingBridge bridge) {
+    this.model = new CustomerTableModel(customers);
+    // the records are read from the model when the browser asks for them, not copied up front
+    this.records = new RecordSync<>(bridge, "customers", Customer.class, this::findCustomer);
 
     this.table = new JTable(model);
     table.setRowHeight(30);
@@ -44,41 +37,65 @@ public class CustomerTable {
       public void mouseClicked(MouseEvent e) {
         if (e.getClickCount() == 2) {
           int row = table.rowAtPoint(e.getPoint());
-          if (row >= 0 && row < customers.size()) {
-            Customer customer = customers.get(row);
-            Gson gson = new Gson();
-            WebswingUtil.getWebswingApi().sendActionEvent("select-customer", gson.toJson(customer), null);
+          if (row >= 0 && row < model.getRowCount()) {
+            Customer customer = model.getCustomer(table.convertRowIndexToModel(row));
+            // only the key is sent, the browser reads the record from its replica
+            bridge.sendJson("select-customer", customer.getId());
           }
         }
       }
     });
 
-    WebswingUtil.getWebswingApi().addBrowserActionListener(event -> {
-      switch (event.getActionName()) {
-        case "update-customer":
-          Customer customer = new Gson().fromJson(event.getData(), Customer.class);
-          // update the customer in the list
-          for (int i = 0; i < customers.size(); i++) {
-            if (customers.get(i).getId() == customer.getId()) {
-              customers.set(i, customer);
-              refresh();
-              // reselect the updated row
-              table.setRowSelectionInterval(i, i);
-              break;
-            }
+    // patched on a worker, only the last update of a customer reaches the EDT
+    records.onChange((key, customer, fields) ->
+        bridge.runOnEdt(customer.getId(), () -> {
+          // only the updated row is repainted
+          int row = model.update(customer);
+          if (row >= 0) {
+            // reselect the updated row
+            int viewRow = table.convertRowIndexToView(row);
+            table.setRowSelectionInterval(viewRow, viewRow);
           }
-          break;
-        default:
-          break;
-      }
-    });
+        }));
+  }
+
+  public CustomerTableModel getModel() {
+    return model;
+  }
+
+  public RecordSync<Customer> getRecords() {
+    return records;
   }
 
-  public void refresh() {
-    model.setRowCount(0);
-    for (Customer customer : customers) {
-      model.addRow(new Object[] { customer.getName(), customer.getCompany(), customer.getEmail() });
+  /**
+   * Reads a customer of the model on the EDT, which owns the model.
+   *
+   * @return the customer with the given key or null if it is not in the model
+   */
+  private Customer findCustomer(String key) {
+    int id;
+    try {
+      id = Integer.parseInt(key);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+
+    if (SwingUtilities.isEventDispatchThread()) {
+      int row = model.indexOf(id);
+      return row >= 0 ? model.getCustomer(row) : null;
+    }
+
+    AtomicReference<Customer> customer = new AtomicReference<>();
+    try {
+      SwingUtilities.invokeAndWait(() -> customer.set(findCustomer(key)));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return null;
+    } catch (InvocationTargetException e) {
+      throw new IllegalStateException("Failed to read the customer " + key, e.getCause());
     }
+
+    return customer.get();
   }
 
   public JScrollPane getScrollPane() {
@@ -0,0 +1,238 @@
+package com.webforj.swingapp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * A table model storing the customers column by column.
+ *
+ * <p>
+ * Every column is an array indexed by row, companies are stored once and referenced by code, and
+ * rows are found by customer id through an open addressing index. Updating a customer touches a
+ * single row and only repaints that row, which keeps edits cheap on tables with hundreds of
+ * thousands of rows. The model must be used on the EDT like any Swing model.
+ * </p>
+ */
+public class CustomerTableModel extends AbstractTableModel {
+  private static final String[] COLUMN_NAMES = { "Name", "Company", "Email" };
+  private static final int INITIAL_CAPACITY = 16;
+
+  private int size = 0;
+  private int[] ids = new int[INITIAL_CAPACITY];
+  private String[] names = new String[INITIAL_CAPACITY];
+  private int[] companies = new int[INITIAL_CAPACITY];
+  private String[] emails = new String[INITIAL_CAPACITY];
+  private final List<String> companyValues = new ArrayList<>();
+  private final Map<String, Integer> companyCodes = new HashMap<>();
+  private final IdIndex index = new IdIndex();
+
+  public CustomerTableModel(List<Customer> customers) {
+    addAll(customers);
+  }
+
+  public CustomerTableModel() {
+    this(List.of());
+  }
+
+  /**
+   * Appends customers to the model. Customers whose id is already in the model are updated
+   * instead.
+   */
+  public void addAll(List<Customer> customers) {
+    int first = size;
+    ensureCapacity(size + customers.size());
+    for (Customer customer : customers) {
+      int row = index.get(customer.getId());
+      if (row >= first) {
+        // repeated within this batch, the row is announced below
+        set(row, customer);
+      } else if (row >= 0) {
+        update(customer);
+      } else {
+        set(size, customer);
+        index.put(customer.getId(), size);
+        size++;
+      }
+    }
+
+    if (size > first) {
+      fireTableRowsInserted(first, size - 1);
+    }
+  }
+
+  public void add(Customer customer) {
+    addAll(List.of(customer));
+  }
+
+  /**
+   * Replaces the customer with the same id.
+   *
+   * @return the row of the customer or -1 if the customer is not in the model
+   */
+  public int update(Customer customer) {
+    int row = index.get(customer.getId());
+    if (row >= 0) {
+      set(row, customer);
+      fireTableRowsUpdated(row, row);
+    }
+
+    return row;
+  }
+
+  /**
+   * @return the row of the customer with the given id or -1 if not in the model
+   */
+  public int indexOf(int id) {
+    return index.get(id);
+  }
+
+  /**
+   * @return a new customer holding the values of the given row
+   */
+  public Customer getCustomer(int row) {
+    checkRow(row);
+    return new Customer(ids[row], names[row], companyValues.get(companies[row]), emails[row]);
+  }
+
+  @Override
+  public int getRowCount() {
+    return size;
+  }
+
+  @Override
+  public int getColumnCount() {
+    return COLUMN_NAMES.length;
+  }
+
+  @Override
+  public String getColumnName(int column) {
+    return COLUMN_NAMES[column];
+  }
+
+  @Override
+  public Class<?> getColumnClass(int column) {
+    return String.class;
+  }
+
+  @Override
+  public Object getValueAt(int row, int column) {
+    checkRow(row);
+    switch (column) {
+      case 0:
+        return names[row];
+      case 1:
+        return companyValues.get(companies[row]);
+      case 2:
+        return emails[row];
+      default:
+        throw new IndexOutOfBoundsException("Column " + column);
+    }
+  }
+
+  private void set(int row, Customer customer) {
+    ids[row] = customer.getId();
+    names[row] = customer.getName();
+    companies[row] = companyCode(customer.getCompany());
+    emails[row] = customer.getEmail();
+  }
+
+  private int companyCode(String company) {
+    Integer code = companyCodes.get(company);
+    if (code == null) {
+      code = companyValues.size();
+      companyValues.add(company);
+      companyCodes.put(company, code);
+    }
+
+    return code;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= ids.length) {
+      return;
+    }
+
+    int grown = Math.max(capacity, ids.length + (ids.length >> 1));
+    ids = Arrays.copyOf(ids, grown);
+    names = Arrays.copyOf(names, grown);
+    companies = Arrays.copyOf(companies, grown);
+    emails = Arrays.copyOf(emails, grown);
+  }
+
+  private void checkRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+    }
+  }
+
+  /**
+   * Maps customer ids to rows with linear probing over a pair of int arrays, without boxing.
+   */
+  private static final class IdIndex {
+    private static final int EMPTY = -1;
+
+    private int[] keys = new int[INITIAL_CAPACITY * 2];
+    private int[] rows = new int[INITIAL_CAPACITY * 2];
+    private int count = 0;
+
+    IdIndex() {
+      Arrays.fill(rows, EMPTY);
+    }
+
+    int get(int id) {
+      int mask = keys.length - 1;
+      for (int slot = mix(id) & mask; rows[slot] != EMPTY; slot = (slot + 1) & mask) {
+        if (keys[slot] == id) {
+          return rows[slot];
+        }
+      }
+
+      return EMPTY;
+    }
+
+    void put(int id, int row) {
+      // keep the table at most half full so probe sequences stay short
+      if ((count + 1) * 2 > keys.length) {
+        rehash(keys.length * 2);
+      }
+
+      int mask = keys.length - 1;
+      int slot = mix(id) & mask;
+      while (rows[slot] != EMPTY && keys[slot] != id) {
+        slot = (slot + 1) & mask;
+      }
+
+      if (rows[slot] == EMPTY) {
+        count++;
+      }
+
+      keys[slot] = id;
+      rows[slot] = row;
+    }
+
+    private void rehash(int capacity) {
+      int[] oldKeys = keys;
+      int[] oldRows = rows;
+      keys = new int[capacity];
+      rows = new int[capacity];
+      Arrays.fill(rows, EMPTY);
+      count = 0;
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldRows[i] != EMPTY) {
+          put(oldKeys[i], oldRows[i]);
+        }
+      }
+    }
+
+    // ids are often sequential, spread them over the table
+    private static int mix(int id) {
+      int h = id * 0x9E3779B9;
+      return h ^ (h >>> 16);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.webforj.webswing.bridge;
+
+/**
+ * Handles the actions with a given name received from the browser.
+ *
+ * @author Hyyan Abo Fakher
+ */
+@FunctionalInterface
+public interface ActionHandler {
+
+  /**
+   * Handles the given action. Called on a worker thread of the bridge, never on the EDT. UI
+   * mutations must go through {@link WebswingBridge#runOnEdt(Object, Runnable)}.
+   *
+   * @param action the action
+   * @throws Exception if the action cannot be handled, passed to the error handler of the bridge
+   */
+  void handle(BridgeAction action) throws Exception;
+}
@@ -0,0 +1,187 @@
+package com.webforj.webswing.bridge;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Sends large payloads to the browser as a chunked stream.
+ *
+ * <p>
+ * Only a limited window of chunks is sent before waiting for the webforj side to acknowledge
+ * them, so neither side has to buffer the whole payload. Sending blocks until every chunk has been
+ * sent within the window and must not be called on the EDT. The chunks of the last window are not
+ * waited for: the stream is closed right after them, so a consumer reading the payload only once
+ * the stream is closed does not stall the sender.
+ * </p>
+ *
+ * <p>
+ * The acknowledgements are handled on the thread delivering the browser actions, so a payload can
+ * be sent from an action handler without waiting for a free worker of the bridge.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public class ActionStreamSender {
+  /**
+   * The default size of a chunk in bytes.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+  /**
+   * The default number of chunks sent ahead of the acknowledgements.
+   */
+  public static final int DEFAULT_WINDOW = 4;
+  /**
+   * The default time to wait for an acknowledgement in milliseconds.
+   */
+  public static final long DEFAULT_ACK_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+  private static final String PREFIX = WebswingBridge.STREAM_ACTION_PREFIX;
+  private static final String ACK_ACTION = PREFIX + "ack";
+
+  private final WebswingBridge bridge;
+  private final int chunkSize;
+  private final int window;
+  private final long ackTimeout;
+  private final Map<String, Transfer> transfers = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new stream sender.
+   *
+   * @param bridge the bridge the streams are sent through
+   * @param chunkSize the size of a chunk in bytes
+   * @param window the number of chunks sent ahead of the acknowledgements
+   * @param ackTimeout the time to wait for an acknowledgement in milliseconds
+   */
+  public ActionStreamSender(WebswingBridge bridge, int chunkSize, int window, long ackTimeout) {
+    this.bridge = bridge;
+    this.chunkSize = chunkSize;
+    this.window = window;
+    this.ackTimeout = ackTimeout;
+
+    bridge.onInline(ACK_ACTION, action -> acknowledge(action.getData()));
+  }
+
+  /**
+   * Creates a new stream sender with chunks of 64 KiB, a window of 4 chunks and an
+   * acknowledgement timeout of 30 seconds.
+   *
+   * @param bridge the bridge the streams are sent through
+   */
+  public ActionStreamSender(WebswingBridge bridge) {
+    this(bridge, DEFAULT_CHUNK_SIZE, DEFAULT_WINDOW, DEFAULT_ACK_TIMEOUT);
+  }
+
+  /**
+   * Sends a payload and blocks until every chunk has been sent within the window. Returns without
+   * waiting for the acknowledgement of the chunks of the last window.
+   *
+   * @param name the name of the stream, reported to the webforj listeners
+   * @param payload the payload
+   * @throws IOException if the stream is not acknowledged in time or the thread is interrupted
+   */
+  public void send(String name, byte[] payload) throws IOException {
+    send(name, new ByteArrayInputStream(payload), payload.length);
+  }
+
+  /**
+   * Sends a payload read from the given stream and blocks until every chunk has been sent within
+   * the window. Returns without waiting for the acknowledgement of the chunks of the last window.
+   * The stream is not closed.
+   *
+   * @param name the name of the stream, reported to the webforj listeners
+   * @param payload the stream to read the payload from
+   * @param size the size of the payload in bytes, -1 if unknown
+   * @throws IOException if reading the payload fails, the stream is not acknowledged in time or
+   *         the thread is interrupted
+   */
+  public void send(String name, InputStream payload, long size) throws IOException {
+    String id = UUID.randomUUID().toString();
+    Transfer transfer = new Transfer();
+    transfers.put(id, transfer);
+
+    try {
+      JsonObject open = new JsonObject();
+      open.addProperty("id", id);
+      open.addProperty("name", name);
+      open.addProperty("size", size);
+      bridge.sendNow(PREFIX + "open", WebswingBridge.getGson().toJson(open), null);
+
+      byte[] buffer = new byte[chunkSize];
+      int sent = 0;
+      int read;
+      while ((read = payload.readNBytes(buffer, 0, chunkSize)) > 0) {
+        transfer.awaitWindow(sent - window + 1, ackTimeout);
+        bridge.sendNow(PREFIX + "chunk", id, Arrays.copyOf(buffer, read));
+        sent++;
+      }
+
+      bridge.sendNow(PREFIX + "close", id, null);
+    } catch (IOException | RuntimeException e) {
+      JsonObject abort = new JsonObject();
+      abort.addProperty("id", id);
+      abort.addProperty("reason", e.getMessage());
+      bridge.sendNow(PREFIX + "abort", WebswingBridge.getGson().toJson(abort), null);
+      throw e;
+    } finally {
+      transfers.remove(id);
+    }
+  }
+
+  // acks are "<stream id>:<consumed chunks>", malformed ones are ignored
+  private void acknowledge(String data) {
+    int separator = data != null ? data.lastIndexOf(':') : -1;
+    if (separator <= 0) {
+      return;
+    }
+
+    Transfer transfer = transfers.get(data.substring(0, separator));
+    if (transfer == null) {
+      return;
+    }
+
+    int consumed;
+    try {
+      consumed = Integer.parseInt(data.substring(separator + 1));
+    } catch (NumberFormatException e) {
+      return;
+    }
+
+    transfer.acknowledge(consumed);
+  }
+
+  private static class Transfer {
+    private int acknowledged = 0;
+
+    synchronized void acknowledge(int consumed) {
+      if (consumed > acknowledged) {
+        acknowledged = consumed;
+        notifyAll();
+      }
+    }
+
+    synchronized void awaitWindow(int required, long timeout) throws IOException {
+      long deadline = System.currentTimeMillis() + timeout;
+      while (acknowledged < required) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          throw new IOException("Timed out waiting for the stream to be acknowledged");
+        }
+
+        try {
+          wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while waiting for the stream to be acknowledged", e);
+        }
+      }
+    }
+  }
+}
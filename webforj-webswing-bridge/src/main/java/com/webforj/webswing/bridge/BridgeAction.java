@@ -0,0 +1,221 @@
+package com.webforj.webswing.bridge;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+import com.webforj.webswing.protocol.ActionCompression;
+import com.webforj.webswing.protocol.ActionNames;
+import com.webforj.webswing.protocol.CompactLayout;
+
+/**
+ * An action received from the browser.
+ *
+ * <p>
+ * The raw Webswing action name carries the routing information added by the webforj connector:
+ * the channel of the connector on a {@link WebswingBridge#setSharedConnection(boolean) shared
+ * connection} ({@code channel/name}) and the correlation id of a request ({@code name#id}). The
+ * bridge strips both so handlers are registered by the plain action name, and
+ * {@link #reply(String, byte[])} puts them back.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class BridgeAction {
+  private final WebswingBridge bridge;
+  private final String rawName;
+  private final String name;
+  private final String channel;
+  private final String correlationId;
+  private final boolean compressed;
+  private String data;
+  private byte[] binaryData;
+
+  private BridgeAction(WebswingBridge bridge, String rawName, String name, String channel,
+      String correlationId, String data, byte[] binaryData) {
+    this.bridge = bridge;
+    this.rawName = rawName;
+    this.name = name;
+    this.channel = channel;
+    this.correlationId = correlationId;
+    this.data = data;
+    this.binaryData = binaryData;
+    this.compressed = ActionCompression.isCompressed(data, binaryData);
+  }
+
+  static BridgeAction parse(WebswingBridge bridge, String rawName, String data,
+      byte[] binaryData) {
+    String name = rawName;
+    String channel = null;
+    String correlationId = null;
+
+    // only the connectors of a shared connection prefix their channel
+    int channelEnd =
+        bridge.isSharedConnection() ? name.indexOf(ActionNames.CHANNEL_SEPARATOR) : -1;
+    if (channelEnd > 0) {
+      channel = name.substring(0, channelEnd);
+      name = name.substring(channelEnd + 1);
+    }
+
+    int requestStart = name.lastIndexOf(ActionNames.REQUEST_SEPARATOR);
+    if (requestStart > 0) {
+      correlationId = name.substring(requestStart + 1);
+      name = name.substring(0, requestStart);
+    }
+
+    return new BridgeAction(bridge, rawName, name, channel, correlationId, data, binaryData);
+  }
+
+  /**
+   * Gets the action name, without channel and correlation id.
+   *
+   * @return the action name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the action name as sent by Webswing.
+   *
+   * @return the raw action name
+   */
+  public String getRawName() {
+    return rawName;
+  }
+
+  /**
+   * Gets the channel of the connector which sent the action on a shared connection.
+   *
+   * @return the channel or null if the action was not sent on a shared connection
+   */
+  public String getChannel() {
+    return channel;
+  }
+
+  /**
+   * Gets the correlation id of the request.
+   *
+   * @return the correlation id or null if the sender does not wait for a reply
+   */
+  public String getCorrelationId() {
+    return correlationId;
+  }
+
+  /**
+   * Checks whether the sender waits for a reply.
+   *
+   * @return true if the action is a request
+   */
+  public boolean isRequest() {
+    return correlationId != null;
+  }
+
+  /**
+   * Gets the data, inflated on first access if the connector sent it compressed.
+   *
+   * @return the data
+   * @throws IllegalArgumentException if the data is compressed and can not be inflated within the
+   *         maximum size
+   * @see WebswingBridge#setMaxInflatedSize(int)
+   */
+  public String getData() {
+    if (compressed && binaryData != null) {
+      data = ActionCompression.inflate(binaryData, bridge.getMaxInflatedSize());
+      binaryData = null;
+    }
+
+    return data;
+  }
+
+  /**
+   * Checks whether the connector sent the data compressed.
+   *
+   * @return true if the data was compressed
+   */
+  public boolean isCompressed() {
+    return compressed;
+  }
+
+  /**
+   * Decodes the JSON data with the shared codec of the bridge.
+   *
+   * @param <T> the type of the data
+   * @param type the type of the data
+   * @return the decoded data or null if no data was sent
+   */
+  public <T> T getDataAs(Type type) {
+    String json = getData();
+    return json != null ? WebswingBridge.getGson().fromJson(json, type) : null;
+  }
+
+  /**
+   * Decodes the data with the shared codec of the bridge, whether it was sent as JSON or in the
+   * compact format of the connector.
+   *
+   * @param <T> the type of the data
+   * @param type the class of the data
+   * @return the decoded data or null if no data was sent
+   */
+  public <T> T getDataAs(Class<T> type) {
+    if (!compressed && binaryData != null && CompactLayout.MARKER.equals(data)) {
+      return CompactLayout.of(type).read(ByteBuffer.wrap(binaryData));
+    }
+
+    String json = getData();
+    return json != null ? WebswingBridge.getGson().fromJson(json, type) : null;
+  }
+
+  /**
+   * Gets the binary data.
+   *
+   * @return the binary data or null if no binary data was sent
+   */
+  public byte[] getBinaryData() {
+    return compressed ? null : binaryData;
+  }
+
+  /**
+   * Sends an action back to the sender under the same name. The reply of a request resolves the
+   * pending request of the connector, a reply on a shared connection only reaches the channel of
+   * the sender.
+   *
+   * @param replyData the data
+   * @param replyBinaryData the binary data, can be null
+   */
+  public void reply(String replyData, byte[] replyBinaryData) {
+    String replyName =
+        correlationId != null ? name + ActionNames.REQUEST_SEPARATOR + correlationId : name;
+    bridge.sendTo(channel, replyName, replyData, replyBinaryData);
+  }
+
+  /**
+   * Sends an action back to the sender under the same name.
+   *
+   * @param replyData the data
+   * @see #reply(String, byte[])
+   */
+  public void reply(String replyData) {
+    reply(replyData, null);
+  }
+
+  /**
+   * Sends the given value encoded as JSON back to the sender under the same name.
+   *
+   * @param value the value
+   * @see #reply(String, byte[])
+   */
+  public void replyJson(Object value) {
+    reply(WebswingBridge.getGson().toJson(value), null);
+  }
+
+  /**
+   * Sends the given value in the compact binary format back to the sender under the same name.
+   *
+   * @param value the value, a record or an instance of a class with a constructor without
+   *        parameters
+   * @see WebswingBridge#sendCompact(String, Object)
+   */
+  public void replyCompact(Object value) {
+    reply(CompactLayout.MARKER, CompactLayout.encode(value));
+  }
+}
@@ -0,0 +1,25 @@
+package com.webforj.webswing.bridge;
+
+import java.util.Set;
+
+/**
+ * Listens to the changes the browser makes to the records of a {@link RecordSync}.
+ *
+ * @param <T> the type of the records
+ *
+ * @author Hyyan Abo Fakher
+ */
+@FunctionalInterface
+public interface RecordListener<T> {
+
+  /**
+   * Called once a change of the browser is accepted. Called on a worker thread of the bridge,
+   * never on the EDT. UI mutations must go through
+   * {@link WebswingBridge#runOnEdt(Object, Runnable)}.
+   *
+   * @param key the key of the record
+   * @param record a new instance holding the changed record
+   * @param fields the names of the changed fields
+   */
+  void recordChanged(String key, T record, Set<String> fields);
+}
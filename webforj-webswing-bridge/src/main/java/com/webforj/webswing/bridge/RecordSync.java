@@ -0,0 +1,130 @@
+package com.webforj.webswing.bridge;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.webforj.webswing.protocol.RecordAuthority;
+import com.webforj.webswing.protocol.RecordSyncProtocol;
+
+/**
+ * Owns a keyed collection of records replicated by the webforj {@code WebswingRecordSync}.
+ *
+ * <p>
+ * The Swing side is the authority of the collection: every record carries a version which is
+ * bumped by each accepted change. Local changes reported with {@link #changed(String)} are sent
+ * to the browser as patches holding only the changed fields. Patches of the browser are accepted
+ * when they are based on the current version and answered with the new version, otherwise they
+ * are rejected with the current record so the replica can resolve the conflict.
+ * </p>
+ *
+ * <p>
+ * The records stay in the model of the application and are read through the source of the
+ * collection. Records are not pushed to the browser, the replica fetches the ones it needs and is
+ * kept up to date from then on, so only those are serialized and remembered. The source is called
+ * on the thread handling the browser action or reporting the change and must be safe to call from
+ * there. The collection can be used from any thread. The protocol itself is implemented by the
+ * {@link RecordAuthority} shared with the webforj side.
+ * </p>
+ *
+ * @param <T> the type of the records
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class RecordSync<T> {
+  private final WebswingBridge bridge;
+  private final String actionName;
+  private final Class<T> type;
+  private final Function<String, T> source;
+  private final RecordAuthority authority;
+  private final List<RecordListener<T>> listeners = new CopyOnWriteArrayList<>();
+  private final WebswingBridge.Registration registration;
+
+  /**
+   * Creates a new collection.
+   *
+   * @param bridge the bridge
+   * @param collection the name of the collection, must not contain {@code /} or {@code #}
+   * @param type the class of the records
+   * @param source returns the current record of a key, or null if there is none
+   */
+  public RecordSync(WebswingBridge bridge, String collection, Class<T> type,
+      Function<String, T> source) {
+    this.bridge = bridge;
+    this.actionName = RecordSyncProtocol.getActionName(collection);
+    this.type = type;
+    this.source = source;
+    this.authority = new RecordAuthority(this::read,
+        message -> bridge.send(actionName, message.toString()));
+    this.registration = bridge.on(actionName, this::handle);
+  }
+
+  /**
+   * Reports that a record of the source changed. The changed fields are sent to the browser if it
+   * replicates the record, other records are not even read.
+   *
+   * @param key the key of the record
+   * @return true if the changed fields were sent
+   */
+  public boolean changed(String key) {
+    return authority.changed(key);
+  }
+
+  /**
+   * Gets the version of a record.
+   *
+   * @param key the key of the record
+   * @return the version or 0 if the browser did not fetch or change the record
+   */
+  public long getVersion(String key) {
+    return authority.getVersion(key);
+  }
+
+  /**
+   * Adds a listener notified of the changes accepted from the browser.
+   *
+   * @param listener the listener
+   * @return the registration of the listener
+   */
+  public WebswingBridge.Registration onChange(RecordListener<T> listener) {
+    listeners.add(listener);
+    return () -> listeners.remove(listener);
+  }
+
+  /**
+   * Stops handling the messages of the browser.
+   */
+  public void close() {
+    registration.remove();
+  }
+
+  private JsonObject read(String key) {
+    T record = source.apply(key);
+    return record != null
+        ? WebswingBridge.getGson().toJsonTree(record, type).getAsJsonObject()
+        : null;
+  }
+
+  private void handle(BridgeAction action) {
+    String data = action.getData();
+    if (data == null || data.isEmpty()) {
+      return;
+    }
+
+    // on a shared connection other connectors may replicate the record as well, the sender
+    // skips the echo as it already knows the version
+    RecordAuthority.Change change =
+        authority.receive(JsonParser.parseString(data).getAsJsonObject(),
+            reply -> action.reply(reply.toString()), action.getChannel() != null);
+    if (change == null) {
+      return;
+    }
+
+    T changed = WebswingBridge.getGson().fromJson(change.getRecord(), type);
+    for (RecordListener<T> listener : listeners) {
+      listener.recordChanged(change.getKey(), changed, change.getFields());
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.webforj.webswing.bridge;
+
+/**
+ * Handles the actions with a given name whose JSON data is decoded to a given type.
+ *
+ * @param <T> the type of the data
+ *
+ * @author Hyyan Abo Fakher
+ */
+@FunctionalInterface
+public interface TypedActionHandler<T> {
+
+  /**
+   * Handles the given action. Called on a worker thread of the bridge, never on the EDT.
+   *
+   * @param value the decoded data, null if the action has no data
+   * @param action the action
+   * @throws Exception if the action cannot be handled, passed to the error handler of the bridge
+   */
+  void handle(T value, BridgeAction action) throws Exception;
+}
@@ -0,0 +1,563 @@
+package com.webforj.webswing.bridge;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.SwingUtilities;
+
+import org.webswing.toolkit.api.WebswingApi;
+import org.webswing.toolkit.api.WebswingUtil;
+import org.webswing.toolkit.api.action.BrowserActionListener;
+import org.webswing.toolkit.api.action.WebActionEvent;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.webforj.webswing.protocol.ActionCompression;
+import com.webforj.webswing.protocol.ActionNames;
+import com.webforj.webswing.protocol.CompactLayout;
+
+/**
+ * Connects a Swing application to the webforj Webswing connector.
+ *
+ * <p>
+ * Incoming actions are routed by name to handlers running on a worker pool, so decoding and
+ * business logic never block the EDT. Actions with the same name are handled one at a time in
+ * the order they arrived, actions with different names in parallel. Handlers hand their UI
+ * mutations to {@link #runOnEdt(Object, Runnable)}, which coalesces the mutations with the same
+ * key so a burst of updates results in a single repaint.
+ * </p>
+ *
+ * <p>
+ * Outgoing actions are collected for a short delay and sent as a single {@code webswing-batch}
+ * action, which the connector unpacks in the browser. Actions with large binary data and stream
+ * messages are sent right away, after the pending batch so the order is kept.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class WebswingBridge implements AutoCloseable {
+  static final String BATCH_ACTION = "webswing-batch";
+  static final String STREAM_ACTION_PREFIX = "webswing-stream-";
+  private static final Gson GSON = new Gson();
+  private static final Logger LOGGER = Logger.getLogger(WebswingBridge.class.getName());
+  private static final long DEFAULT_BATCH_DELAY = 10;
+  private static final int DEFAULT_MAX_BATCH_SIZE = 64;
+  private static final int MAX_BATCHED_BINARY_SIZE = 4 * 1024;
+
+  private final WebswingApi api;
+  private final ExecutorService workers;
+  private final boolean ownsWorkers;
+  private final ScheduledExecutorService sender =
+      Executors.newSingleThreadScheduledExecutor(daemonThreads("webswing-bridge-sender"));
+  private final BrowserActionListener listener = this::dispatch;
+  private final Map<String, Route> routes = new ConcurrentHashMap<>();
+  private final Map<String, ActionHandler> inlineHandlers = new ConcurrentHashMap<>();
+  private final Object sendLock = new Object();
+  private final List<Outgoing> outgoing = new ArrayList<>();
+  private ScheduledFuture<?> pendingFlush;
+  private final Map<Object, Runnable> edtMutations = new LinkedHashMap<>();
+  private boolean edtFlushScheduled = false;
+  private volatile long batchDelay = DEFAULT_BATCH_DELAY;
+  private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+  private volatile int compressionThreshold = 0;
+  private volatile int maxInflatedSize = ActionCompression.DEFAULT_MAX_INFLATED_SIZE;
+  private volatile boolean sharedConnection = false;
+  private volatile Consumer<Throwable> errorHandler =
+      e -> LOGGER.log(Level.SEVERE, "An action handler or EDT mutation failed", e);
+
+  /**
+   * Creates a new bridge handling actions on the given worker pool.
+   *
+   * @param api the Webswing API
+   * @param workers the worker pool, not shut down by {@link #close()}
+   */
+  public WebswingBridge(WebswingApi api, ExecutorService workers) {
+    this(api, workers, false);
+  }
+
+  /**
+   * Creates a new bridge handling actions on a pool of one worker per processor.
+   *
+   * @param api the Webswing API
+   */
+  public WebswingBridge(WebswingApi api) {
+    this(api, Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()),
+        daemonThreads("webswing-bridge-worker")), true);
+  }
+
+  private WebswingBridge(WebswingApi api, ExecutorService workers, boolean ownsWorkers) {
+    this.api = api;
+    this.workers = workers;
+    this.ownsWorkers = ownsWorkers;
+    api.addBrowserActionListener(listener);
+  }
+
+  /**
+   * Creates a new bridge on the Webswing API of the running application.
+   *
+   * @return the bridge
+   */
+  public static WebswingBridge create() {
+    return new WebswingBridge(WebswingUtil.getWebswingApi());
+  }
+
+  /**
+   * Gets the codec shared by the bridge, its type adapters are created once per type.
+   *
+   * @return the shared Gson instance
+   */
+  public static Gson getGson() {
+    return GSON;
+  }
+
+  /**
+   * Sets how long outgoing actions are collected before being sent as a batch.
+   *
+   * @param batchDelay the delay in milliseconds, 0 sends every action right away. Defaults to 10.
+   * @return the bridge
+   */
+  public WebswingBridge setBatchDelay(long batchDelay) {
+    this.batchDelay = Math.max(0, batchDelay);
+    return this;
+  }
+
+  /**
+   * Sets the number of collected actions which triggers sending the batch before the delay.
+   *
+   * @param maxBatchSize the number of actions, defaults to 64
+   * @return the bridge
+   */
+  public WebswingBridge setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    return this;
+  }
+
+  /**
+   * Sets the handler of the exceptions thrown by action handlers and EDT mutations.
+   *
+   * @param errorHandler the error handler, defaults to logging the exception with
+   *        {@code java.util.logging}
+   * @return the bridge
+   */
+  public WebswingBridge setErrorHandler(Consumer<Throwable> errorHandler) {
+    this.errorHandler = errorHandler;
+    return this;
+  }
+
+  /**
+   * Sets the size from which the data of outgoing actions is deflated. The connector inflates it
+   * transparently. Actions with binary data and stream messages are sent as they are. Compressed
+   * actions of the connector are always inflated, whatever the threshold, up to the
+   * {@link #setMaxInflatedSize(int) maximum inflated size}.
+   *
+   * @param compressionThreshold the threshold in bytes of UTF-8 data, 0 disables the
+   *        compression. Defaults to 0.
+   * @return the bridge
+   */
+  public WebswingBridge setCompressionThreshold(int compressionThreshold) {
+    this.compressionThreshold = Math.max(0, compressionThreshold);
+    return this;
+  }
+
+  /**
+   * Sets the maximum size of the data of a compressed action once inflated. Reading the data of a
+   * compressed action which inflates to more throws an {@link IllegalArgumentException}, a few
+   * kilobytes sent by the browser could otherwise expand to gigabytes.
+   *
+   * @param maxInflatedSize the maximum size in bytes. Defaults to 16 MiB.
+   * @return the bridge
+   * @throws IllegalArgumentException if the size is not positive
+   */
+  public WebswingBridge setMaxInflatedSize(int maxInflatedSize) {
+    if (maxInflatedSize <= 0) {
+      throw new IllegalArgumentException("The maximum inflated size must be positive");
+    }
+
+    this.maxInflatedSize = maxInflatedSize;
+    return this;
+  }
+
+  int getMaxInflatedSize() {
+    return maxInflatedSize;
+  }
+
+  /**
+   * Sets whether the connectors reach the application through a shared connection, that is with
+   * a {@code sharedChannel} in their options. Only then the action names start with the channel
+   * of their connector, which the bridge strips and reports with {@link BridgeAction#getChannel()}.
+   * On a dedicated connection the names are taken as they are.
+   *
+   * @param sharedConnection true if the connection is shared. Defaults to false.
+   * @return the bridge
+   */
+  public WebswingBridge setSharedConnection(boolean sharedConnection) {
+    this.sharedConnection = sharedConnection;
+    return this;
+  }
+
+  boolean isSharedConnection() {
+    return sharedConnection;
+  }
+
+  /**
+   * Adds a handler for the actions with the given name.
+   *
+   * @param actionName the action name, without channel and correlation id
+   * @param handler the handler
+   * @return the registration of the handler
+   * @throws IllegalArgumentException if the name is empty or contains {@code /} or {@code #},
+   *         which the connector uses to route actions
+   */
+  public Registration on(String actionName, ActionHandler handler) {
+    ActionNames.check(actionName);
+    Route route = routes.computeIfAbsent(actionName, key -> new Route());
+    route.handlers.add(handler);
+    return () -> route.handlers.remove(handler);
+  }
+
+  /**
+   * Adds a handler for the actions with the given name whose JSON data is decoded to the given
+   * type on the worker thread.
+   *
+   * @param <T> the type of the data
+   * @param actionName the action name, without channel and correlation id
+   * @param type the class of the data
+   * @param handler the handler
+   * @return the registration of the handler
+   * @throws IllegalArgumentException if the name is empty or contains {@code /} or {@code #},
+   *         which the connector uses to route actions
+   */
+  public <T> Registration on(String actionName, Class<T> type, TypedActionHandler<T> handler) {
+    return on(actionName, action -> handler.handle(action.getDataAs(type), action));
+  }
+
+  /**
+   * Runs the given UI mutation on the EDT. Mutations queued with the same key before the EDT
+   * gets to them are coalesced, only the latest one runs.
+   *
+   * @param key identifies what the mutation updates, for instance the id of a record
+   * @param mutation the mutation
+   */
+  public void runOnEdt(Object key, Runnable mutation) {
+    synchronized (edtMutations) {
+      // the latest mutation also takes the latest position
+      edtMutations.remove(key);
+      edtMutations.put(key, mutation);
+      if (!edtFlushScheduled) {
+        edtFlushScheduled = true;
+        SwingUtilities.invokeLater(this::flushEdtMutations);
+      }
+    }
+  }
+
+  /**
+   * Runs the given UI mutation on the EDT, together with the other queued mutations.
+   *
+   * @param mutation the mutation
+   */
+  public void runOnEdt(Runnable mutation) {
+    runOnEdt(new Object(), mutation);
+  }
+
+  /**
+   * Sends an action to the browser.
+   *
+   * @param actionName the action name
+   * @param data the data, can be null
+   * @param binaryData the binary data, can be null
+   */
+  public void send(String actionName, String data, byte[] binaryData) {
+    boolean stream = actionName.startsWith(STREAM_ACTION_PREFIX);
+    if (!stream && (binaryData == null || binaryData.length == 0)) {
+      byte[] deflated = ActionCompression.deflate(data, compressionThreshold);
+      if (deflated != null) {
+        data = ActionCompression.MARKER;
+        binaryData = deflated;
+      }
+    }
+
+    if (stream || (binaryData != null && binaryData.length > MAX_BATCHED_BINARY_SIZE)) {
+      sendNow(actionName, data, binaryData);
+      return;
+    }
+
+    synchronized (sendLock) {
+      outgoing.add(new Outgoing(actionName, data, binaryData));
+      if (batchDelay == 0 || outgoing.size() >= maxBatchSize) {
+        flushLocked();
+      } else if (pendingFlush == null) {
+        pendingFlush = sender.schedule(this::flush, batchDelay, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /**
+   * Sends an action to the browser.
+   *
+   * @param actionName the action name
+   * @param data the data, can be null
+   */
+  public void send(String actionName, String data) {
+    send(actionName, data, null);
+  }
+
+  /**
+   * Sends the given value encoded as JSON to the browser.
+   *
+   * @param actionName the action name
+   * @param value the value
+   */
+  public void sendJson(String actionName, Object value) {
+    send(actionName, GSON.toJson(value), null);
+  }
+
+  /**
+   * Sends the given value in the compact binary format to the browser. The fields are written
+   * by position without names, which is smaller and cheaper to read than JSON. The connector
+   * decodes the value with any codec of a class with the same field names and types.
+   *
+   * @param actionName the action name
+   * @param value the value, a record or an instance of a class with a constructor without
+   *        parameters
+   */
+  public void sendCompact(String actionName, Object value) {
+    send(actionName, CompactLayout.MARKER, CompactLayout.encode(value));
+  }
+
+  /**
+   * Sends an action to the connector of the given channel on a shared connection.
+   *
+   * @param channel the channel, null to send to all the connectors
+   * @param actionName the action name
+   * @param data the data, can be null
+   * @param binaryData the binary data, can be null
+   */
+  public void sendTo(String channel, String actionName, String data, byte[] binaryData) {
+    String name = channel != null ? channel + ActionNames.CHANNEL_SEPARATOR + actionName
+        : actionName;
+    send(name, data, binaryData);
+  }
+
+  /**
+   * Sends the pending batch right away.
+   */
+  public void flush() {
+    synchronized (sendLock) {
+      flushLocked();
+    }
+  }
+
+  /**
+   * Stops receiving actions and sends the pending batch. The worker pool is shut down if it was
+   * created by the bridge.
+   */
+  @Override
+  public void close() {
+    api.removeBrowserActionListener(listener);
+    flush();
+    sender.shutdownNow();
+    if (ownsWorkers) {
+      workers.shutdown();
+    }
+  }
+
+  /**
+   * Handles the actions with the given name on the thread delivering the actions, before and
+   * instead of the routed handlers. Reserved for protocol actions which must not wait for a
+   * worker, such as the acknowledgements of a stream sent from a worker.
+   */
+  void onInline(String actionName, ActionHandler handler) {
+    inlineHandlers.put(ActionNames.check(actionName), handler);
+  }
+
+  /**
+   * Sends an action right away, after the pending batch.
+   */
+  void sendNow(String actionName, String data, byte[] binaryData) {
+    synchronized (sendLock) {
+      flushLocked();
+      api.sendActionEvent(actionName, data, binaryData);
+    }
+  }
+
+  private void flushLocked() {
+    if (pendingFlush != null) {
+      pendingFlush.cancel(false);
+      pendingFlush = null;
+    }
+
+    if (outgoing.isEmpty()) {
+      return;
+    }
+
+    if (outgoing.size() == 1) {
+      Outgoing action = outgoing.get(0);
+      api.sendActionEvent(action.actionName, action.data, action.binaryData);
+    } else {
+      JsonArray batch = new JsonArray(outgoing.size());
+      for (Outgoing action : outgoing) {
+        JsonObject item = new JsonObject();
+        item.addProperty("actionName", action.actionName);
+        item.addProperty("data", action.data);
+        if (action.binaryData != null) {
+          item.addProperty("binaryDataBase64",
+              Base64.getEncoder().encodeToString(action.binaryData));
+        }
+        batch.add(item);
+      }
+
+      api.sendActionEvent(BATCH_ACTION, GSON.toJson(batch), null);
+    }
+
+    outgoing.clear();
+  }
+
+  private void dispatch(WebActionEvent event) {
+    if (event.getActionName() == null) {
+      return;
+    }
+
+    BridgeAction action =
+        BridgeAction.parse(this, event.getActionName(), event.getData(), event.getBinaryData());
+    ActionHandler inline = inlineHandlers.get(action.getName());
+    if (inline != null) {
+      handle(inline, action);
+      return;
+    }
+
+    Route route = routes.get(action.getName());
+    if (route == null || route.handlers.isEmpty()) {
+      return;
+    }
+
+    route.executor.execute(() -> {
+      for (ActionHandler handler : route.handlers) {
+        handle(handler, action);
+      }
+    });
+  }
+
+  private void handle(ActionHandler handler, BridgeAction action) {
+    try {
+      handler.handle(action);
+    } catch (Exception e) {
+      errorHandler.accept(e);
+    }
+  }
+
+  private void flushEdtMutations() {
+    List<Runnable> mutations;
+    synchronized (edtMutations) {
+      mutations = new ArrayList<>(edtMutations.values());
+      edtMutations.clear();
+      edtFlushScheduled = false;
+    }
+
+    for (Runnable mutation : mutations) {
+      try {
+        mutation.run();
+      } catch (RuntimeException e) {
+        errorHandler.accept(e);
+      }
+    }
+  }
+
+  private static ThreadFactory daemonThreads(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * The registration of an action handler.
+   */
+  @FunctionalInterface
+  public interface Registration {
+
+    /**
+     * Removes the handler.
+     */
+    void remove();
+  }
+
+  private static final class Outgoing {
+    private final String actionName;
+    private final String data;
+    private final byte[] binaryData;
+
+    Outgoing(String actionName, String data, byte[] binaryData) {
+      this.actionName = actionName;
+      this.data = data;
+      this.binaryData = binaryData;
+    }
+  }
+
+  private final class Route {
+    private final List<ActionHandler> handlers = new CopyOnWriteArrayList<>();
+    private final SerialExecutor executor = new SerialExecutor(workers);
+  }
+
+  /**
+   * Runs its tasks one at a time, in order, on a shared executor.
+   */
+  private static final class SerialExecutor implements Executor {
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private final Executor executor;
+    private Runnable active;
+
+    SerialExecutor(Executor executor) {
+      this.executor = executor;
+    }
+
+    @Override
+    public synchronized void execute(Runnable task) {
+      tasks.add(() -> {
+        try {
+          task.run();
+        } finally {
+          scheduleNext();
+        }
+      });
+
+      if (active == null) {
+        scheduleNext();
+      }
+    }
+
+    private synchronized void scheduleNext() {
+      active = tasks.poll();
+      if (active != null) {
+        try {
+          executor.execute(active);
+        } catch (RejectedExecutionException e) {
+          // the bridge or the given worker pool is shut down, drop the queued tasks and let the
+          // next task try again instead of leaving the route stalled on a task which never runs
+          tasks.clear();
+          active = null;
+        }
+      }
+    }
+  }
+}
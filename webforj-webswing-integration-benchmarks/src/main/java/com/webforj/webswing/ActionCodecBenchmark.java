@@ -0,0 +1,84 @@
+package com.webforj.webswing;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.webforj.webswing.codec.WebswingActionCodec;
+import com.webforj.webswing.event.WebswingConnectorActionEvent;
+
+/**
+ * Measures the typed codecs on a customer record: a new Gson instance per action as consumers
+ * used to do, the cached JSON codec and the compact binary codec, in both directions.
+ *
+ * @author Hyyan Abo Fakher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionCodecBenchmark {
+
+  /**
+   * A customer as sent by the demo.
+   */
+  public record Customer(int id, String name, String company, String email, double balance) {
+  }
+
+  private final WebswingActionCodec<Customer> json = WebswingActionCodec.json(Customer.class);
+  private final WebswingActionCodec<Customer> compact =
+      WebswingActionCodec.compact(Customer.class);
+
+  private WebswingConnector connector;
+  private Customer customer;
+  private Map<String, Object> jsonEvent;
+  private Map<String, Object> compactEvent;
+
+  @Setup
+  public void setup() {
+    connector = new WebswingConnector(BenchmarkPayloads.URL, false);
+    customer = new Customer(4242, "Customer 4242", "Company 17", "customer4242@example.com",
+        1234.56);
+    jsonEvent = json.encode("select-customer", customer).toClientMap();
+    compactEvent = compact.encode("select-customer", customer).toClientMap();
+  }
+
+  @Benchmark
+  public Customer decodeWithNewGson() {
+    WebswingConnectorActionEvent event = new WebswingConnectorActionEvent(connector, jsonEvent);
+    return new Gson().fromJson(event.getActionData(), Customer.class);
+  }
+
+  @Benchmark
+  public Customer decodeJson() {
+    return json.decode(new WebswingConnectorActionEvent(connector, jsonEvent));
+  }
+
+  @Benchmark
+  public Customer decodeCompact() {
+    return compact.decode(new WebswingConnectorActionEvent(connector, compactEvent));
+  }
+
+  @Benchmark
+  public Map<String, Object> encodeJson() {
+    return json.encode("update-customer", customer).toClientMap();
+  }
+
+  @Benchmark
+  public Map<String, Object> encodeCompact() {
+    return compact.encode("update-customer", customer).toClientMap();
+  }
+}
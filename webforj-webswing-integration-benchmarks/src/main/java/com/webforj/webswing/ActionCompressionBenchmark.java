@@ -0,0 +1,62 @@
+package com.webforj.webswing;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.webforj.webswing.protocol.ActionCompression;
+
+/**
+ * Measures the cost of compressing the JSON data of an action against sending it as it is, and
+ * of inflating the data of a compressed action.
+ *
+ * @author Hyyan Abo Fakher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionCompressionBenchmark {
+  private static final int THRESHOLD = 1024;
+
+  @Param({"1024", "16384", "262144"})
+  private int size;
+
+  private WebswingAction action;
+  private byte[] deflated;
+
+  @Setup
+  public void setup() {
+    String text = BenchmarkPayloads.json(size);
+    action = new WebswingAction("text-action", text);
+    deflated = ActionCompression.deflate(text);
+  }
+
+  @Benchmark
+  public Map<String, Object> uncompressed() {
+    return action.toClientMap();
+  }
+
+  @Benchmark
+  public Map<String, Object> compressed() {
+    return WebswingActionCompression.compress(action, THRESHOLD).toClientMap();
+  }
+
+  @Benchmark
+  public String inflate() {
+    return ActionCompression.inflate(deflated);
+  }
+}
@@ -0,0 +1,92 @@
+package com.webforj.webswing;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the work done on the server for every action sent to the Swing application: copying
+ * the payload into a {@link WebswingAction}, encoding its binary data in Base64 and building the
+ * structure passed to the client.
+ *
+ * @author Hyyan Abo Fakher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionEncodingBenchmark {
+
+  @Param({"64", "1024", "16384", "262144"})
+  private int size;
+
+  private byte[] binary;
+  private ByteBuffer buffer;
+  private String text;
+  private WebswingAction action;
+  private List<WebswingAction> batch;
+
+  @Setup
+  public void setup() {
+    binary = BenchmarkPayloads.bytes(size);
+    buffer = ByteBuffer.wrap(binary);
+    text = BenchmarkPayloads.json(size);
+    action = WebswingAction.ofBinary("binary-action", null, binary);
+
+    batch = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      batch.add(new WebswingAction("batched-action", text));
+    }
+  }
+
+  @Benchmark
+  public String encodeBytes() {
+    return WebswingAction.ofBinary("binary-action", null, binary).getBinaryDataBase64();
+  }
+
+  @Benchmark
+  public String encodeBuffer() {
+    return WebswingAction.ofBinary("binary-action", null, buffer).getBinaryDataBase64();
+  }
+
+  @Benchmark
+  public String encodeUtf8String() {
+    return new WebswingAction("text-action", null, text).getBinaryDataBase64();
+  }
+
+  @Benchmark
+  public String encodeOnly() {
+    return action.getBinaryDataBase64();
+  }
+
+  @Benchmark
+  public Map<String, Object> textAction() {
+    return new WebswingAction("text-action", text).toClientMap();
+  }
+
+  @Benchmark
+  public List<Object> batchOf16() {
+    List<Object> payload = new ArrayList<>(batch.size());
+    for (WebswingAction item : batch) {
+      payload.add(item.toClientMap());
+    }
+
+    return payload;
+  }
+}
@@ -0,0 +1,89 @@
+package com.webforj.webswing;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.webforj.webswing.event.WebswingConnectorActionEvent;
+
+/**
+ * Measures the work done on the server for every action received from the Swing application:
+ * creating the {@link WebswingConnectorActionEvent} from the event map, decoding its binary data
+ * and parsing its JSON data as the demo does.
+ *
+ * @author Hyyan Abo Fakher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionEventDecodingBenchmark {
+
+  @Param({"64", "1024", "16384", "262144"})
+  private int size;
+
+  private WebswingConnector connector;
+  private Map<String, Object> textEvent;
+  private Map<String, Object> binaryEvent;
+
+  @Setup
+  public void setup() {
+    connector = new WebswingConnector(BenchmarkPayloads.URL, false);
+
+    textEvent = new HashMap<>();
+    textEvent.put("actionName", "select-customer");
+    textEvent.put("data", BenchmarkPayloads.json(size));
+    textEvent.put("correlationId", null);
+    textEvent.put("timedOut", false);
+    textEvent.put("roundTripTime", 12.0);
+
+    binaryEvent = new HashMap<>(textEvent);
+    binaryEvent.put("data", null);
+    binaryEvent.put("binaryDataBase64",
+        Base64.getEncoder().encodeToString(BenchmarkPayloads.bytes(size)));
+  }
+
+  @Benchmark
+  public String createEvent() {
+    return new WebswingConnectorActionEvent(connector, textEvent).getActionData();
+  }
+
+  @Benchmark
+  public JsonElement createEventAndParseJson() {
+    WebswingConnectorActionEvent event = new WebswingConnectorActionEvent(connector, textEvent);
+    return JsonParser.parseString(event.getActionData());
+  }
+
+  @Benchmark
+  public ByteBuffer createEventAndDecodeBinary() {
+    return new WebswingConnectorActionEvent(connector, binaryEvent).getActionBinaryDataAsBuffer();
+  }
+
+  @Benchmark
+  public String createEventAndDecodeUtf8() {
+    return new WebswingConnectorActionEvent(connector, binaryEvent).getActionBinaryData();
+  }
+
+  @Benchmark
+  public byte[] createEventAndCopyBinary() {
+    return new WebswingConnectorActionEvent(connector, binaryEvent).getActionBinaryDataAsBytes();
+  }
+}
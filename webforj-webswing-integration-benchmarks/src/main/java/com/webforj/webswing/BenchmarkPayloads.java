@@ -0,0 +1,52 @@
+package com.webforj.webswing;
+
+import java.util.Random;
+
+/**
+ * Deterministic payloads shared by the benchmarks.
+ *
+ * @author Hyyan Abo Fakher
+ */
+final class BenchmarkPayloads {
+  static final String URL = "http://localhost:8080/webforj-swing-app/";
+  private static final long SEED = 42;
+
+  private BenchmarkPayloads() {}
+
+  /**
+   * Creates random bytes.
+   *
+   * @param size the number of bytes
+   * @return the bytes
+   */
+  static byte[] bytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random(SEED).nextBytes(bytes);
+    return bytes;
+  }
+
+  /**
+   * Creates a JSON array of customer records, as sent by the demo, of about the given size.
+   *
+   * @param size the approximate number of characters
+   * @return the JSON
+   */
+  static String json(int size) {
+    Random random = new Random(SEED);
+    StringBuilder builder = new StringBuilder(size + 128).append('[');
+    int id = 0;
+    do {
+      if (id > 0) {
+        builder.append(',');
+      }
+
+      builder.append("{\"id\":").append(id++).append(",\"name\":\"Customer ")
+          .append(random.nextInt(100_000)).append("\",\"company\":\"Company ")
+          .append(random.nextInt(1_000)).append("\",\"email\":\"customer").append(id)
+          .append("@example.com\",\"city\":\"City ").append(random.nextInt(500))
+          .append("\",\"balance\":").append(random.nextInt(1_000_000) / 100.0).append('}');
+    } while (builder.length() < size);
+
+    return builder.append(']').toString();
+  }
+}
@@ -0,0 +1,80 @@
+package com.webforj.webswing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Measures the serialization of {@link WebswingConnectorOptions}, done every time options are set
+ * on a connector, for mutable options and for options made immutable once and shared.
+ *
+ * @author Hyyan Abo Fakher
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionsSerializationBenchmark {
+
+  /**
+   * The number of action policies, which is the part of the options growing with the application.
+   */
+  @Param({"0", "16", "256"})
+  private int policies;
+
+  private WebswingConnectorOptions mutable;
+  private WebswingConnectorOptions immutable;
+
+  @Setup
+  public void setup() {
+    mutable = new WebswingConnectorOptions().setAutoStart(true).setArgs("-Dfoo=bar")
+        .setSharedChannel("customers")
+        .setBandwidthSaver(new WebswingConnectorOptions.BandwidthSaver())
+        .setReconnectPolicy(WebswingConnectorOptions.ReconnectPolicy.exponential())
+        .setIdlePolicy(new WebswingConnectorOptions.IdlePolicy());
+    for (int i = 0; i < policies; i++) {
+      mutable.setActionPolicy("action-" + i, WebswingConnectorOptions.ActionPolicy.debounce(100));
+    }
+
+    immutable = mutable.toImmutable();
+  }
+
+  @Benchmark
+  public String mutableToJson() {
+    return mutable.toJson();
+  }
+
+  @Benchmark
+  public JsonObject mutableToJsonTree() {
+    return mutable.toJsonTree();
+  }
+
+  @Benchmark
+  public String immutableToJson() {
+    return immutable.toJson();
+  }
+
+  @Benchmark
+  public JsonObject immutableToJsonTree() {
+    return immutable.toJsonTree();
+  }
+
+  @Benchmark
+  public WebswingConnectorOptions toImmutable() {
+    return mutable.toImmutable();
+  }
+}
@@ -1,6 +1,5 @@
 package com.webforj.webswing.demo.components;
 
-import com.google.gson.JsonObject;
 import com.webforj.component.Composite;
 import com.webforj.component.button.Button;
 import com.webforj.component.button.ButtonTheme;
@@ -8,6 +7,7 @@ import com.webforj.component.dialog.Dialog;
 import com.webforj.component.field.TextField;
 import com.webforj.component.html.elements.H3;
 import com.webforj.component.layout.flexlayout.FlexLayout;
+import com.webforj.webswing.demo.models.Customer;
 
 public class CustomerForm extends Composite<Dialog> {
   private Dialog self = getBoundComponent();
@@ -21,22 +21,22 @@ public class CustomerForm extends Composite<Dialog> {
   private Runnable action = () -> {
   };
 
-  public CustomerForm(JsonObject customer) {
+  public CustomerForm(Customer customer) {
     self.setMaxWidth("400px");
     self.setCloseable(false);
     self.add(form);
     self.addToHeader(new H3("Edit Customer"));
     self.addToFooter(buttons);
 
-    nameField.setValue(customer.get("name").getAsString());
-    companyField.setValue(customer.get("company").getAsString());
-    emailField.setValue(customer.get("email").getAsString());
+    nameField.setValue(customer.getName());
+    companyField.setValue(customer.getCompany());
+    emailField.setValue(customer.getEmail());
 
     cancelButton.onClick(event -> self.close());
     saveButton.onClick(event -> {
-      customer.addProperty("name", nameField.getValue());
-      customer.addProperty("company", companyField.getValue());
-      customer.addProperty("email", emailField.getValue());
+      customer.setName(nameField.getValue());
+      customer.setCompany(companyField.getValue());
+      customer.setEmail(emailField.getValue());
 
       action.run();
       self.destroy();
@@ -1,13 +1,12 @@
 package com.webforj.webswing.demo.views;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.webforj.component.Composite;
 import com.webforj.component.layout.flexlayout.FlexLayout;
 import com.webforj.router.annotation.Route;
 import com.webforj.webswing.WebswingConnector;
 import com.webforj.webswing.demo.components.CustomerForm;
+import com.webforj.webswing.demo.models.Customer;
+import com.webforj.webswing.sync.WebswingRecordSync;
 
 @Route("/")
 public class CustomerView extends Composite<FlexLayout> {
@@ -17,20 +16,20 @@ public class CustomerView extends Composite<FlexLayout> {
     WebswingConnector connector = new WebswingConnector("http://localhost:8080/webforj-swing-app/");
     connector.setSize("100vw", "100vh");
 
-    connector.onAction(event -> {
-      switch (event.getActionName()) {
-        case "select-customer":
-          JsonObject customer = JsonParser.parseString(event.getActionData()).getAsJsonObject();
-          CustomerForm dialog = new CustomerForm(customer);
-          self.add(dialog);
-          dialog.onSave(() -> {
-            Gson gson = new Gson();
-            connector.performAction("update-customer", gson.toJson(customer));
-          });
-          break;
-        default:
-          break;
-      }
+    // the customers are fetched once, afterwards only the changed fields travel
+    WebswingRecordSync<Customer> customers = new WebswingRecordSync<>(connector, "customers",
+        Customer.class, customer -> String.valueOf(customer.getId()));
+
+    connector.onAction("select-customer", Integer.class, (id, event) -> {
+      customers.fetch(String.valueOf(id)).thenAccept(customer -> {
+        if (customer == null) {
+          return;
+        }
+
+        CustomerForm dialog = new CustomerForm(customer);
+        self.add(dialog);
+        dialog.onSave(() -> customers.update(customer));
+      });
     });
 
     self.add(connector);
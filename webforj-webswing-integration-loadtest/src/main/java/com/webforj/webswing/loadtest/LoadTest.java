@@ -0,0 +1,172 @@
+package com.webforj.webswing.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.webforj.webswing.WebswingAdmissionController;
+import com.webforj.webswing.metrics.SimpleWebswingMetrics;
+import com.webforj.webswing.metrics.WebswingMetrics;
+import com.webforj.webswing.pool.WebswingServerPool;
+import com.webforj.webswing.pool.WebswingServerProbe;
+import com.webforj.webswing.pool.WebswingServerStatus;
+
+/**
+ * Runs a load test of the connector against stub Webswing servers and prints throughput and
+ * latency percentiles.
+ *
+ * <p>
+ * Usage: {@code java -jar loadtest.jar [--name=value ...]}, see {@link LoadTestConfig} for the
+ * arguments. Everything runs in the same JVM on the loopback interface, no Webswing deployment
+ * or browser is involved.
+ * </p>
+ *
+ * <p>
+ * The run measures the server pool, the admission controller and the event decoders. With
+ * {@code --connector} the actions also go through the send path of the connector
+ * ({@code performAction} and batching) and the answers through its event dispatch, with the
+ * browser element replaced by {@link LoadTestConnector}. The browser itself is never measured,
+ * see {@link SimulatedClient}.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class LoadTest {
+  private static final Duration PROBE_INTERVAL = Duration.ofSeconds(1);
+
+  private final LoadTestConfig config;
+  private final SimpleWebswingMetrics metrics = new SimpleWebswingMetrics();
+  private final LongAdder streamedBytes = new LongAdder();
+
+  /**
+   * Creates a new load test.
+   *
+   * @param config the configuration of the run
+   */
+  public LoadTest(LoadTestConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Runs the load test.
+   *
+   * @param args the arguments, see {@link LoadTestConfig}
+   * @throws Exception if the run fails
+   */
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.parse(args);
+    new LoadTest(config).run(System.out);
+  }
+
+  /**
+   * Runs the load test and prints the report.
+   *
+   * @param out the stream the report is printed to
+   * @throws IOException if the stub servers cannot be started
+   * @throws InterruptedException if the run is interrupted
+   */
+  public void run(PrintStream out) throws IOException, InterruptedException {
+    out.println("Load test: " + config);
+    out.println(config.isConnector()
+        ? "Covers the pool, the admission, the send path and the event dispatch of the "
+            + "connector, not the browser"
+        : "Covers the pool, the admission and the event decoders, "
+            + "not the send path of the connector");
+
+    List<StubWebswingServer> servers = new ArrayList<>();
+    ExecutorService clients = Executors.newFixedThreadPool(config.getClients());
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    ExecutorService httpExecutor = Executors.newCachedThreadPool();
+    HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5))
+        .executor(httpExecutor).build();
+
+    try {
+      List<String> urls = new ArrayList<>();
+      for (int i = 0; i < config.getServers(); i++) {
+        StubWebswingServer server = new StubWebswingServer(config.getServerThreads(),
+            config.getStartTime(), config.getProcessingTime());
+        servers.add(server);
+        urls.add(server.getUrl());
+      }
+
+      try (WebswingServerPool pool = new WebswingServerPool(urls)) {
+        pool.setStrategy(config.getStrategy())
+            .setProbe(WebswingServerProbe.http(Duration.ofSeconds(1)))
+            .setProbeInterval(PROBE_INTERVAL);
+        pool.probeNow();
+        pool.start();
+
+        WebswingAdmissionController admission =
+            new WebswingAdmissionController(config.getMaxConcurrentStarts());
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(config.getDuration());
+
+        if (config.isFailover() && servers.size() > 1) {
+          scheduler.schedule(() -> servers.get(0).setDown(true), config.getDuration() / 2L,
+              TimeUnit.SECONDS);
+        }
+
+        for (int i = 0; i < config.getClients(); i++) {
+          clients.execute(new SimulatedClient(i, config, pool, admission, http, metrics,
+              streamedBytes, deadline));
+        }
+
+        clients.shutdown();
+        if (!clients.awaitTermination(config.getDuration() + 60L, TimeUnit.SECONDS)) {
+          clients.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        report(out, seconds, pool.getServers(), servers);
+      }
+    } finally {
+      clients.shutdownNow();
+      scheduler.shutdownNow();
+      httpExecutor.shutdownNow();
+      for (StubWebswingServer server : servers) {
+        server.close();
+      }
+    }
+  }
+
+  private void report(PrintStream out, double seconds, List<WebswingServerStatus> statuses,
+      List<StubWebswingServer> servers) {
+    long received = metrics.getCount(WebswingMetrics.ACTIONS_RECEIVED);
+
+    out.println();
+    out.printf("Duration            %.1f s%n", seconds);
+    out.printf("Sessions started    %d%n", metrics.getCount(WebswingMetrics.STARTED));
+    out.printf("Actions             %d sent, %d answered%n",
+        metrics.getCount(WebswingMetrics.ACTIONS_PERFORMED), received);
+    out.printf("Throughput          %.1f actions/s, %.1f KiB/s of binary data%n",
+        received / seconds, received * (double) config.getPayloadSize() / 1024 / seconds);
+    if (config.getStreamSize() > 0) {
+      out.printf("Streams             %.1f MiB/s%n", streamedBytes.sum() / 1048576.0 / seconds);
+    }
+    out.printf("Failures            %d%n", metrics.getCount(SimulatedClient.FAILURES));
+
+    out.println();
+    out.println("Timers (ms)");
+    for (Map.Entry<String, SimpleWebswingMetrics.Snapshot> timer : metrics.getTimers()
+        .entrySet()) {
+      out.printf("  %-34s %s%n", timer.getKey(), timer.getValue());
+    }
+
+    out.println();
+    out.println("Servers");
+    for (int i = 0; i < statuses.size(); i++) {
+      StubWebswingServer server = servers.get(i);
+      out.printf("  %s sessions=%d actions=%d%n", statuses.get(i), server.getSessions(),
+          server.getActions());
+    }
+  }
+}
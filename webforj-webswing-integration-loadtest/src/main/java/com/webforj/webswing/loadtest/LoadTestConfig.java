@@ -0,0 +1,222 @@
+package com.webforj.webswing.loadtest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.webforj.webswing.pool.WebswingServerPool;
+
+/**
+ * The parameters of a load test run, parsed from {@code --name=value} arguments.
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class LoadTestConfig {
+  private int servers = 2;
+  private int clients = 100;
+  private int duration = 30;
+  private int maxConcurrentStarts = 10;
+  private long startTime = 500;
+  private long processingTime = 2;
+  private long thinkTime = 50;
+  private int payloadSize = 1024;
+  private int streamSize = 0;
+  private int serverThreads = 64;
+  private WebswingServerPool.Strategy strategy = WebswingServerPool.Strategy.LEAST_LOADED;
+  private boolean failover = false;
+  private boolean connector = false;
+  private int batchSize = 1;
+
+  /**
+   * Parses the given arguments.
+   *
+   * @param args the arguments
+   * @return the configuration
+   * @throws IllegalArgumentException if an argument is unknown or malformed
+   */
+  public static LoadTestConfig parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--")) {
+        throw new IllegalArgumentException("Unexpected argument " + arg);
+      }
+
+      int separator = arg.indexOf('=');
+      if (separator < 0) {
+        values.put(arg.substring(2), "true");
+      } else {
+        values.put(arg.substring(2, separator), arg.substring(separator + 1));
+      }
+    }
+
+    LoadTestConfig config = new LoadTestConfig();
+    config.servers = Integer.parseInt(values.getOrDefault("servers", "2"));
+    config.clients = Integer.parseInt(values.getOrDefault("clients", "100"));
+    config.duration = Integer.parseInt(values.getOrDefault("duration", "30"));
+    config.maxConcurrentStarts = Integer.parseInt(values.getOrDefault("max-starts", "10"));
+    config.startTime = Long.parseLong(values.getOrDefault("start-time", "500"));
+    config.processingTime = Long.parseLong(values.getOrDefault("processing-time", "2"));
+    config.thinkTime = Long.parseLong(values.getOrDefault("think-time", "50"));
+    config.payloadSize = Integer.parseInt(values.getOrDefault("payload", "1024"));
+    config.streamSize = Integer.parseInt(values.getOrDefault("stream", "0"));
+    config.serverThreads = Integer.parseInt(values.getOrDefault("server-threads", "64"));
+    config.strategy = WebswingServerPool.Strategy
+        .valueOf(values.getOrDefault("strategy", "LEAST_LOADED").toUpperCase());
+    config.failover = Boolean.parseBoolean(values.getOrDefault("failover", "false"));
+    config.connector = Boolean.parseBoolean(values.getOrDefault("connector", "false"));
+    config.batchSize = Integer.parseInt(values.getOrDefault("batch", "1"));
+    if (config.batchSize > 1 && !config.connector) {
+      throw new IllegalArgumentException("--batch requires --connector");
+    }
+
+    values.keySet()
+        .removeAll(List.of("servers", "clients", "duration", "max-starts", "start-time",
+            "processing-time", "think-time", "payload", "stream", "server-threads", "strategy",
+            "failover", "connector", "batch"));
+    if (!values.isEmpty()) {
+      throw new IllegalArgumentException("Unknown arguments " + values.keySet());
+    }
+
+    return config;
+  }
+
+  /**
+   * Gets the number of stub Webswing servers.
+   *
+   * @return the number of servers
+   */
+  public int getServers() {
+    return servers;
+  }
+
+  /**
+   * Gets the number of simulated browser clients, each with its own connector.
+   *
+   * @return the number of clients
+   */
+  public int getClients() {
+    return clients;
+  }
+
+  /**
+   * Gets the length of the run.
+   *
+   * @return the duration in seconds
+   */
+  public int getDuration() {
+    return duration;
+  }
+
+  /**
+   * Gets the maximum number of Swing sessions starting at the same time.
+   *
+   * @return the maximum number of starts
+   */
+  public int getMaxConcurrentStarts() {
+    return maxConcurrentStarts;
+  }
+
+  /**
+   * Gets the time a Swing session takes to start on a stub server.
+   *
+   * @return the time in milliseconds
+   */
+  public long getStartTime() {
+    return startTime;
+  }
+
+  /**
+   * Gets the time the Swing application takes to handle an action.
+   *
+   * @return the time in milliseconds
+   */
+  public long getProcessingTime() {
+    return processingTime;
+  }
+
+  /**
+   * Gets the pause of a client between two actions.
+   *
+   * @return the time in milliseconds
+   */
+  public long getThinkTime() {
+    return thinkTime;
+  }
+
+  /**
+   * Gets the size of the binary data of every action.
+   *
+   * @return the size in bytes
+   */
+  public int getPayloadSize() {
+    return payloadSize;
+  }
+
+  /**
+   * Gets the size of the stream every client receives after its Swing session started.
+   *
+   * @return the size in bytes, 0 for no stream
+   */
+  public int getStreamSize() {
+    return streamSize;
+  }
+
+  /**
+   * Gets the number of threads of every stub server.
+   *
+   * @return the number of threads
+   */
+  public int getServerThreads() {
+    return serverThreads;
+  }
+
+  /**
+   * Gets the strategy of the server pool.
+   *
+   * @return the strategy
+   */
+  public WebswingServerPool.Strategy getStrategy() {
+    return strategy;
+  }
+
+  /**
+   * Checks whether the first server is taken down halfway through the run.
+   *
+   * @return true to simulate a failover
+   */
+  public boolean isFailover() {
+    return failover;
+  }
+
+  /**
+   * Checks whether the actions are performed through the connector, with a load test element in
+   * place of the browser, instead of being sent directly to the stub servers.
+   *
+   * @return true to drive the connector
+   */
+  public boolean isConnector() {
+    return connector;
+  }
+
+  /**
+   * Gets the number of actions performed in one {@code batchActions} call of the connector.
+   *
+   * @return the number of actions, 1 to perform them one by one
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return String.format(
+        "servers=%d clients=%d duration=%ds max-starts=%d start-time=%dms processing-time=%dms "
+            + "think-time=%dms payload=%dB stream=%dB strategy=%s failover=%b connector=%b "
+            + "batch=%d",
+        servers, clients, duration, maxConcurrentStarts, startTime, processingTime, thinkTime,
+        payloadSize, streamSize, strategy, failover, connector, batchSize);
+  }
+}
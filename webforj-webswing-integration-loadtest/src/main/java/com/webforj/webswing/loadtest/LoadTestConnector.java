@@ -0,0 +1,103 @@
+package com.webforj.webswing.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.webforj.webswing.WebswingConnector;
+import com.webforj.webswing.WebswingConnectorOptions;
+import com.webforj.webswing.event.WebswingConnectorActionEvent;
+import com.webforj.webswing.metrics.WebswingMetrics;
+import com.webforj.webswing.pool.WebswingServerPool;
+
+/**
+ * A connector whose browser element is played by the load test.
+ *
+ * <p>
+ * The actions the connector hands to its element, one by one or as a batch, are sent to the stub
+ * server as the client sends them to Webswing, one request per action. The answers are dispatched
+ * as {@link WebswingConnectorActionEvent}s through the event dispatcher of the connector, which
+ * routes them to its action listeners as it does for the events of the browser. The other calls
+ * to the element are ignored.
+ * </p>
+ *
+ * <p>
+ * The answers are dispatched on the thread performing the action before the call returns, where
+ * the browser delivers them later on the request thread of webforj.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+final class LoadTestConnector extends WebswingConnector {
+  private static final Gson GSON = new Gson();
+  private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+  private final HttpClient http;
+  private final String url;
+
+  LoadTestConnector(WebswingServerPool pool, String key, HttpClient http,
+      WebswingMetrics metrics) {
+    super(pool, key, new WebswingConnectorOptions());
+    this.http = http;
+    this.url = getServerLease().getUrl();
+    setMetrics(metrics);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void callClient(String function, Object... arguments) {
+    switch (function) {
+      case "performAction":
+        send((String) arguments[0], (String) arguments[1], (String) arguments[2]);
+        break;
+      case "performActionBatch":
+        for (Object action : (List<?>) arguments[0]) {
+          Map<?, ?> map = (Map<?, ?>) action;
+          send((String) map.get("actionName"), (String) map.get("data"),
+              (String) map.get("binaryDataBase64"));
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void send(String actionName, String data, String binaryDataBase64) {
+    Map<String, Object> message = new HashMap<>();
+    message.put("actionName", actionName);
+    message.put("data", data);
+    message.put("binaryDataBase64", binaryDataBase64);
+
+    String body;
+    try {
+      HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(url + "action"))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(GSON.toJson(message))).build(),
+          HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new IOException("The server answered with status " + response.statusCode());
+      }
+
+      body = response.body();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while sending the action", e);
+    }
+
+    Map<String, Object> eventMap = GSON.fromJson(body, MAP_TYPE);
+    getEventDispatcher().dispatchEvent(new WebswingConnectorActionEvent(this, eventMap));
+  }
+}
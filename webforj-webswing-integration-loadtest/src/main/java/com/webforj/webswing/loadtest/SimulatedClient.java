@@ -0,0 +1,264 @@
+package com.webforj.webswing.loadtest;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.webforj.webswing.WebswingAction;
+import com.webforj.webswing.WebswingAdmissionController;
+import com.webforj.webswing.WebswingConnector;
+import com.webforj.webswing.WebswingConnectorOptions;
+import com.webforj.webswing.event.WebswingConnectorActionEvent;
+import com.webforj.webswing.event.WebswingConnectorStreamEvent;
+import com.webforj.webswing.metrics.WebswingMetrics;
+import com.webforj.webswing.pool.WebswingServerPool;
+
+/**
+ * A browser tab embedding the Swing application, played by a thread.
+ *
+ * <p>
+ * The client goes through what a connector does on the server: it leases a server from the pool,
+ * waits for the admission controller, starts its Swing session, optionally receives a stream and
+ * then sends actions until the end of the run, decoding every answer into the events the
+ * connector would dispatch. When its server fails the client starts over with a new connector,
+ * as a reloaded page would.
+ * </p>
+ *
+ * <p>
+ * By default the connector is only used as the lease of the pool and the key of the metrics, and
+ * the actions are sent by the client with its own {@link HttpClient}. With
+ * {@link LoadTestConfig#isConnector()} the actions go through
+ * {@link WebswingConnector#performAction(WebswingAction)}, grouped by
+ * {@link WebswingConnector#batchActions(Runnable)} when a batch size is set, and the answers reach
+ * the client through an action listener of the connector, see {@link LoadTestConnector}.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+final class SimulatedClient implements Runnable {
+  static final String FAILURES = "loadtest.failures";
+  static final String STREAM_TIME = "loadtest.stream.time";
+  private static final Gson GSON = new Gson();
+  private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+  private static final long ADMISSION_POLL_INTERVAL = 100;
+  private static final long RETRY_DELAY = 500;
+  private static final int STREAM_CHUNK_SIZE = 64 * 1024;
+  private static final String ECHO_ACTION = "loadtest-echo";
+
+  private final int id;
+  private final LoadTestConfig config;
+  private final WebswingServerPool pool;
+  private final WebswingAdmissionController admission;
+  private final HttpClient http;
+  private final WebswingMetrics metrics;
+  private final LongAdder streamedBytes;
+  private final long deadline;
+  private final byte[] payload;
+  private long sequence = 0;
+  private int answers = 0;
+
+  SimulatedClient(int id, LoadTestConfig config, WebswingServerPool pool,
+      WebswingAdmissionController admission, HttpClient http, WebswingMetrics metrics,
+      LongAdder streamedBytes, long deadline) {
+    this.id = id;
+    this.config = config;
+    this.pool = pool;
+    this.admission = admission;
+    this.http = http;
+    this.metrics = metrics;
+    this.streamedBytes = streamedBytes;
+    this.deadline = deadline;
+    this.payload = new byte[config.getPayloadSize()];
+    new Random(id).nextBytes(payload);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void run() {
+    while (!expired()) {
+      WebswingConnector connector = createConnector();
+      try {
+        String url = connector.getServerLease().getUrl();
+        start(connector, url);
+        if (config.getStreamSize() > 0) {
+          receiveStream(connector, url);
+        }
+
+        while (!expired()) {
+          if (config.isConnector()) {
+            roundTripThroughConnector(connector);
+          } else {
+            roundTrip(connector, url);
+          }
+
+          Thread.sleep(config.getThinkTime());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (IOException | RuntimeException e) {
+        metrics.increment(FAILURES, connector);
+        pause(RETRY_DELAY);
+      } finally {
+        connector.destroy();
+      }
+    }
+  }
+
+  private WebswingConnector createConnector() {
+    if (!config.isConnector()) {
+      return new WebswingConnector(pool, "user-" + id, new WebswingConnectorOptions());
+    }
+
+    WebswingConnector connector = new LoadTestConnector(pool, "user-" + id, http, metrics);
+    connector.onAction(ECHO_ACTION, event -> {
+      ByteBuffer answer = event.getActionBinaryDataAsBuffer();
+      if (answer != null && answer.remaining() == payload.length) {
+        answers++;
+      }
+    });
+
+    return connector;
+  }
+
+  private void start(WebswingConnector connector, String url)
+      throws IOException, InterruptedException {
+    WebswingAdmissionController.Ticket ticket = admission.request();
+    try {
+      while (ticket.poll() == WebswingAdmissionController.Ticket.State.QUEUED) {
+        Thread.sleep(ADMISSION_POLL_INTERVAL);
+      }
+
+      metrics.record(WebswingMetrics.ADMISSION_WAIT_TIME, ticket.getWaitTime(), connector);
+      long started = System.nanoTime();
+      send(HttpRequest.newBuilder(URI.create(url + "start"))
+          .POST(HttpRequest.BodyPublishers.noBody()).build(),
+          HttpResponse.BodyHandlers.discarding());
+      metrics.record(WebswingMetrics.START_TIME, elapsed(started), connector);
+      metrics.increment(WebswingMetrics.STARTED, connector);
+    } finally {
+      ticket.release();
+    }
+  }
+
+  private void roundTrip(WebswingConnector connector, String url)
+      throws IOException, InterruptedException {
+    WebswingAction action = WebswingAction.ofBinary(ECHO_ACTION, "client-" + id, payload);
+    byte[] binary = action.getBinaryData();
+    Map<String, Object> message = new HashMap<>();
+    message.put("actionName", action.getActionName());
+    message.put("data", action.getData());
+    message.put("binaryDataBase64", Base64.getEncoder().encodeToString(binary));
+    message.put("correlationId", id + "-" + (++sequence));
+
+    long started = System.nanoTime();
+    metrics.increment(WebswingMetrics.ACTIONS_PERFORMED, connector);
+    String body = send(HttpRequest.newBuilder(URI.create(url + "action"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(GSON.toJson(message))).build(),
+        HttpResponse.BodyHandlers.ofString());
+
+    Map<String, Object> eventMap = GSON.fromJson(body, MAP_TYPE);
+    WebswingConnectorActionEvent event = new WebswingConnectorActionEvent(connector, eventMap);
+    ByteBuffer answer = event.getActionBinaryDataAsBuffer();
+    if (answer == null || answer.remaining() != binary.length) {
+      throw new IOException("The answer does not match the action");
+    }
+
+    metrics.record(WebswingMetrics.ROUND_TRIP_TIME, elapsed(started), connector);
+    metrics.increment(WebswingMetrics.ACTIONS_RECEIVED, connector);
+  }
+
+  // the connector counts the actions performed and received, the answers are dispatched to the
+  // listener of the echo action before performAction returns
+  private void roundTripThroughConnector(WebswingConnector connector) throws IOException {
+    int expected = answers + config.getBatchSize();
+    long started = System.nanoTime();
+    if (config.getBatchSize() > 1) {
+      connector.batchActions(() -> {
+        for (int i = 0; i < config.getBatchSize(); i++) {
+          connector.performAction(WebswingAction.ofBinary(ECHO_ACTION, "client-" + id, payload));
+        }
+      });
+    } else {
+      connector.performAction(WebswingAction.ofBinary(ECHO_ACTION, "client-" + id, payload));
+    }
+
+    if (answers != expected) {
+      throw new IOException("The answers do not match the actions");
+    }
+
+    metrics.record(WebswingMetrics.ROUND_TRIP_TIME, elapsed(started), connector);
+  }
+
+  private void receiveStream(WebswingConnector connector, String url)
+      throws IOException, InterruptedException {
+    long started = System.nanoTime();
+    HttpRequest request = HttpRequest.newBuilder(URI.create(
+        url + "stream?size=" + config.getStreamSize() + "&chunk=" + STREAM_CHUNK_SIZE)).build();
+    Stream<String> lines = send(request, HttpResponse.BodyHandlers.ofLines());
+
+    long received = 0;
+    boolean closed = false;
+    try (lines) {
+      Iterator<String> iterator = lines.iterator();
+      while (iterator.hasNext()) {
+        Map<String, Object> eventMap = GSON.fromJson(iterator.next(), MAP_TYPE);
+        WebswingConnectorStreamEvent event = new WebswingConnectorStreamEvent(connector, eventMap);
+        if (event.getType() == WebswingConnectorStreamEvent.Type.CHUNK) {
+          received += event.getChunk().length;
+        } else if (event.getType() == WebswingConnectorStreamEvent.Type.CLOSE) {
+          closed = true;
+        }
+      }
+    }
+
+    if (!closed || received != config.getStreamSize()) {
+      throw new IOException("The stream was cut after " + received + " bytes");
+    }
+
+    streamedBytes.add(received);
+    metrics.record(STREAM_TIME, elapsed(started), connector);
+  }
+
+  private <T> T send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+      throws IOException, InterruptedException {
+    HttpResponse<T> response = http.send(request, handler);
+    if (response.statusCode() != 200) {
+      throw new IOException("The server answered with status " + response.statusCode());
+    }
+
+    return response.body();
+  }
+
+  private boolean expired() {
+    return System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted();
+  }
+
+  private static long elapsed(long started) {
+    return (System.nanoTime() - started) / 1_000_000;
+  }
+
+  private static void pause(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
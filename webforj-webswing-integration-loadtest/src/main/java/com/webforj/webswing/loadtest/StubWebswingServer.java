@@ -0,0 +1,266 @@
+package com.webforj.webswing.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A stand-in for a Webswing server running the Swing application.
+ *
+ * <p>
+ * The stub speaks plain HTTP in place of the Webswing websocket. It answers the health probes of
+ * the server pool and simulates the Swing side of the connector:
+ * </p>
+ *
+ * <ul>
+ * <li>{@code HEAD /} or {@code GET /}: the health check, 503 while the server is down.</li>
+ * <li>{@code POST /start}: starts a Swing session, taking the configured start time.</li>
+ * <li>{@code POST /action}: receives an action in the shape the client sends to Webswing and
+ * answers as the Swing application would with {@code sendActionEvent}, after the configured
+ * processing time.</li>
+ * <li>{@code GET /stream?size=n&chunk=n}: sends a payload chunked as the Swing side stream sender
+ * does, one stream message per line.</li>
+ * </ul>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class StubWebswingServer implements AutoCloseable {
+  private static final Gson GSON = new Gson();
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final long startTime;
+  private final long processingTime;
+  private final AtomicInteger sessions = new AtomicInteger();
+  private final AtomicInteger actions = new AtomicInteger();
+  private volatile boolean down = false;
+
+  /**
+   * Creates and starts a stub server on a free local port.
+   *
+   * @param threads the number of threads serving requests
+   * @param startTime the time a Swing session takes to start in milliseconds
+   * @param processingTime the time the Swing application takes to handle an action in
+   *        milliseconds
+   * @throws IOException if the server cannot be bound
+   */
+  public StubWebswingServer(int threads, long startTime, long processingTime) throws IOException {
+    this.startTime = startTime;
+    this.processingTime = processingTime;
+    this.executor = Executors.newFixedThreadPool(threads);
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+    server.createContext("/", this::handleHealth);
+    server.createContext("/start", this::handleStart);
+    server.createContext("/action", this::handleAction);
+    server.createContext("/stream", this::handleStream);
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  /**
+   * Gets the url of the server, ending with a slash as Webswing application urls do.
+   *
+   * @return the url
+   */
+  public String getUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+  }
+
+  /**
+   * Takes the server down or brings it back up. A down server fails all requests.
+   *
+   * @param down true to take the server down
+   */
+  public void setDown(boolean down) {
+    this.down = down;
+  }
+
+  /**
+   * Gets the number of Swing sessions started on the server.
+   *
+   * @return the number of sessions
+   */
+  public int getSessions() {
+    return sessions.get();
+  }
+
+  /**
+   * Gets the number of actions handled by the server.
+   *
+   * @return the number of actions
+   */
+  public int getActions() {
+    return actions.get();
+  }
+
+  /**
+   * Stops the server.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handleHealth(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      exchange.getRequestBody().readAllBytes();
+      exchange.sendResponseHeaders(down ? 503 : 200, -1);
+    }
+  }
+
+  private void handleStart(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      exchange.getRequestBody().readAllBytes();
+      if (rejected(exchange)) {
+        return;
+      }
+
+      pause(startTime);
+      sessions.incrementAndGet();
+      exchange.sendResponseHeaders(200, -1);
+    }
+  }
+
+  private void handleAction(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      JsonObject action;
+      try (InputStream body = exchange.getRequestBody()) {
+        action = GSON.fromJson(new String(body.readAllBytes(), StandardCharsets.UTF_8),
+            JsonObject.class);
+      }
+
+      if (rejected(exchange)) {
+        return;
+      }
+
+      // what a Swing listener does: decode the action and send an answer back
+      String binary = getString(action, "binaryDataBase64");
+      byte[] bytes = binary != null ? Base64.getDecoder().decode(binary) : null;
+      pause(processingTime);
+      actions.incrementAndGet();
+
+      Map<String, Object> answer = new HashMap<>();
+      answer.put("actionName", getString(action, "actionName"));
+      answer.put("data", getString(action, "data"));
+      answer.put("binaryDataBase64",
+          bytes != null ? Base64.getEncoder().encodeToString(bytes) : null);
+      answer.put("correlationId", getString(action, "correlationId"));
+
+      byte[] response = GSON.toJson(answer).getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, response.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(response);
+      }
+    }
+  }
+
+  private void handleStream(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      exchange.getRequestBody().readAllBytes();
+      if (rejected(exchange)) {
+        return;
+      }
+
+      Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+      int size = Integer.parseInt(query.getOrDefault("size", "1048576"));
+      int chunkSize = Math.max(1, Integer.parseInt(query.getOrDefault("chunk", "65536")));
+      String id = UUID.randomUUID().toString();
+      byte[] chunk = new byte[chunkSize];
+      new Random(size).nextBytes(chunk);
+
+      exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+      exchange.sendResponseHeaders(200, 0);
+      try (Writer out =
+          new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)) {
+        Map<String, Object> open = new HashMap<>();
+        open.put("streamId", id);
+        open.put("type", "open");
+        open.put("name", "loadtest");
+        open.put("size", size);
+        writeLine(out, open);
+
+        for (int sent = 0; sent < size; sent += chunkSize) {
+          int length = Math.min(chunkSize, size - sent);
+          Map<String, Object> message = new HashMap<>();
+          message.put("streamId", id);
+          message.put("type", "chunk");
+          message.put("binaryDataBase64",
+              Base64.getEncoder().encodeToString(length == chunkSize ? chunk
+                  : Arrays.copyOf(chunk, length)));
+          writeLine(out, message);
+        }
+
+        Map<String, Object> close = new HashMap<>();
+        close.put("streamId", id);
+        close.put("type", "close");
+        writeLine(out, close);
+      }
+    }
+  }
+
+  private boolean rejected(HttpExchange exchange) throws IOException {
+    if (down) {
+      exchange.sendResponseHeaders(503, -1);
+      return true;
+    }
+
+    return false;
+  }
+
+  private static String getString(JsonObject object, String key) {
+    return object.has(key) && !object.get(key).isJsonNull() ? object.get(key).getAsString() : null;
+  }
+
+  private static void writeLine(Writer out, Map<String, Object> message) throws IOException {
+    out.write(GSON.toJson(message));
+    out.write('\n');
+  }
+
+  private static Map<String, String> parseQuery(String query) {
+    Map<String, String> result = new HashMap<>();
+    if (query == null) {
+      return result;
+    }
+
+    for (String pair : query.split("&")) {
+      int separator = pair.indexOf('=');
+      if (separator > 0) {
+        result.put(pair.substring(0, separator), pair.substring(separator + 1));
+      }
+    }
+
+    return result;
+  }
+
+  private static void pause(long millis) {
+    if (millis <= 0) {
+      return;
+    }
+
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
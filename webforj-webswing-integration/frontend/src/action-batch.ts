@@ -0,0 +1,33 @@
+import { FiredAction } from './action-policy';
+import { decodeBase64 } from './base64';
+
+// The action the Swing side bridge sends several collected actions with.
+export const BATCH_ACTION = 'webswing-batch';
+
+interface BatchedAction {
+  actionName: string;
+  data?: string | null;
+  binaryDataBase64?: string | null;
+}
+
+/**
+ * Unpack the actions sent by the Swing application. A batch is expanded to the actions it holds,
+ * in the order they were sent, any other action is returned as is.
+ *
+ * @param actionName The name of the received action.
+ * @param data The data of the received action.
+ * @param binaryData The binary data of the received action.
+ * @returns The actions to handle.
+ */
+export function unpackActions(actionName: string, data: string | null, binaryData: Uint8Array | null): FiredAction[] {
+  if (actionName != BATCH_ACTION || data == null) {
+    return [{ actionName, data, binaryData }];
+  }
+
+  const batch = JSON.parse(data) as BatchedAction[];
+  return batch.map((item) => ({
+    actionName: item.actionName,
+    data: item.data ?? null,
+    binaryData: decodeBase64(item.binaryDataBase64)
+  }));
+}
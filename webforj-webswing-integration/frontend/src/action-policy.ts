@@ -0,0 +1,125 @@
+/**
+ * The policy applied to the actions of a given name before they are sent to the server.
+ *
+ * - `DEBOUNCE`: only the last action of a burst is sent, once no action was fired for `value` ms.
+ * - `THROTTLE`: at most `value` actions per second are sent, the others are dropped.
+ * - `COALESCE`: only the latest action fired within each period of `value` ms is sent.
+ */
+export interface ActionPolicy {
+  type: 'DEBOUNCE' | 'THROTTLE' | 'COALESCE';
+  value: number;
+}
+
+/**
+ * An action fired by the Swing application.
+ */
+export interface FiredAction {
+  actionName: string;
+  data: string | null;
+  binaryData: Uint8Array | null;
+}
+
+interface PolicyState {
+  timer: number | null;
+  lastSent: number;
+  latest: FiredAction | null;
+}
+
+/**
+ * Applies the configured policies to the actions fired by the Swing application.
+ */
+export class ActionPolicies {
+  private policies: Record<string, ActionPolicy> = {};
+  private states: Map<string, PolicyState> = new Map();
+
+  /**
+   * @param send Sends an action to the server.
+   */
+  constructor(private readonly send: (action: FiredAction) => void) { }
+
+  /**
+   * Replace the configured policies. Pending actions of removed policies are sent right away.
+   *
+   * @param policies The policies keyed by action name.
+   */
+  public setPolicies(policies: Record<string, ActionPolicy> | null | undefined) {
+    this.policies = policies ?? {};
+    this.states.forEach((state, actionName) => {
+      if (this.policies[actionName] == null) {
+        this.flush(actionName, state);
+        this.states.delete(actionName);
+      }
+    });
+  }
+
+  /**
+   * Apply the policy of the action, if any.
+   *
+   * @param action The fired action.
+   * @returns true if the policy took care of the action, false if it must be sent right away.
+   */
+  public handle(action: FiredAction): boolean {
+    const policy = this.policies[action.actionName];
+    if (policy == null) {
+      return false;
+    }
+
+    let state = this.states.get(action.actionName);
+    if (state == null) {
+      state = { timer: null, lastSent: 0, latest: null };
+      this.states.set(action.actionName, state);
+    }
+
+    switch (policy.type) {
+      case 'DEBOUNCE':
+        state.latest = action;
+        if (state.timer != null) {
+          window.clearTimeout(state.timer);
+        }
+        state.timer = window.setTimeout(() => this.flush(action.actionName, state!), policy.value);
+        return true;
+      case 'THROTTLE': {
+        const now = performance.now();
+        if (now - state.lastSent >= 1000 / policy.value) {
+          state.lastSent = now;
+          return false;
+        }
+        return true;
+      }
+      case 'COALESCE':
+        state.latest = action;
+        if (state.timer == null) {
+          state.timer = window.setTimeout(() => this.flush(action.actionName, state!), policy.value);
+        }
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Drop all pending actions and timers.
+   */
+  public dispose() {
+    this.states.forEach((state) => {
+      if (state.timer != null) {
+        window.clearTimeout(state.timer);
+      }
+    });
+    this.states.clear();
+  }
+
+  private flush(actionName: string, state: PolicyState) {
+    if (state.timer != null) {
+      window.clearTimeout(state.timer);
+      state.timer = null;
+    }
+
+    const latest = state.latest;
+    state.latest = null;
+    if (latest != null && latest.actionName == actionName) {
+      state.lastSent = performance.now();
+      this.send(latest);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+import { getWebswingApi } from 'webswing-api';
+
+export type WebswingApi = Awaited<ReturnType<typeof getWebswingApi>>;
+
+// Loaded (or loading) Webswing APIs keyed by server URL, shared by all connectors of the page.
+const apis: Map<string, Promise<WebswingApi>> = new Map();
+
+/**
+ * Load the Webswing API of the given server. The API is fetched only once per URL, all callers
+ * share the same promise. Failed loads are evicted so they can be retried.
+ *
+ * @param url The URL of the Webswing server.
+ * @returns A promise which resolves with the Webswing API.
+ */
+export function loadWebswingApi(url: string): Promise<WebswingApi> {
+  let api = apis.get(url);
+  if (api == null) {
+    api = getWebswingApi(url);
+    apis.set(url, api);
+    api.catch(() => {
+      if (apis.get(url) === api) {
+        apis.delete(url);
+      }
+    });
+  }
+
+  return api;
+}
+
+/**
+ * Start loading the Webswing API of the given server without waiting for it.
+ *
+ * @param url The URL of the Webswing server.
+ */
+export function preloadWebswingApi(url: string | null | undefined) {
+  if (url) {
+    loadWebswingApi(url).catch(() => {
+      // reported by the connector which actually uses the API
+    });
+  }
+}
@@ -0,0 +1,148 @@
+/**
+ * The bandwidth saver options of the connector.
+ *
+ * - `OFF`: the Swing application is rendered at full fidelity.
+ * - `ON`: the bandwidth saver is always active.
+ * - `AUTO`: the bandwidth saver is active while the ping threshold is breached.
+ *
+ * `overridePagePixelRatio` opts in to capping `window.devicePixelRatio`, which affects the whole
+ * page and not only the connector.
+ */
+export interface BandwidthSaverOptions {
+  mode: 'OFF' | 'ON' | 'AUTO';
+  maxPixelRatio?: number;
+  maxFrameRate?: number;
+  overridePagePixelRatio?: boolean;
+}
+
+// The device pixel ratio caps requested by the active bandwidth savers of the page.
+const pixelRatioCaps: Map<BandwidthSaver, number> = new Map();
+// The own descriptor of window.devicePixelRatio before it was overridden, undefined if there was none.
+let originalDescriptor: PropertyDescriptor | undefined;
+let overridden = false;
+
+function nativePixelRatio(): number {
+  const prototypeGetter = Object.getOwnPropertyDescriptor(Window.prototype, 'devicePixelRatio')?.get;
+  const value = originalDescriptor?.get?.call(window) ?? originalDescriptor?.value ?? prototypeGetter?.call(window);
+  return typeof value === 'number' ? value : 1;
+}
+
+/**
+ * Webswing sizes its canvases from `window.devicePixelRatio`, which is page wide. While at least
+ * one active bandwidth saver opted in to the override, the ratio is capped to the lowest requested
+ * cap for every script and component of the page, then Webswing is told to re-layout.
+ */
+function applyPixelRatioCaps() {
+  if (pixelRatioCaps.size > 0) {
+    const cap = Math.min(...pixelRatioCaps.values());
+    if (!overridden) {
+      originalDescriptor = Object.getOwnPropertyDescriptor(window, 'devicePixelRatio');
+      overridden = true;
+    }
+
+    Object.defineProperty(window, 'devicePixelRatio', {
+      configurable: true,
+      get: () => Math.min(nativePixelRatio(), cap)
+    });
+  } else if (overridden) {
+    if (originalDescriptor != null) {
+      Object.defineProperty(window, 'devicePixelRatio', originalDescriptor);
+    } else {
+      delete (window as { devicePixelRatio?: number }).devicePixelRatio;
+    }
+    originalDescriptor = undefined;
+    overridden = false;
+  }
+
+  window.dispatchEvent(new Event('resize'));
+}
+
+/**
+ * Lowers the rendering cost of a connector. The pixel ratio and frame rate caps are passed to the
+ * Swing application, which is the one able to render less. Capping the device pixel ratio of the
+ * page is opt-in as it is not scoped to the connector.
+ */
+export class BandwidthSaver {
+  private options: BandwidthSaverOptions | null = null;
+  private breached: boolean = false;
+  private active: boolean = false;
+
+  /**
+   * @param changed Notified when the bandwidth saver is activated or deactivated.
+   */
+  constructor(private readonly changed: (active: boolean) => void) { }
+
+  /**
+   * Whether the bandwidth saver is currently active.
+   */
+  public get isActive(): boolean {
+    return this.active;
+  }
+
+  /**
+   * Whether the latency has to be measured to drive the bandwidth saver.
+   */
+  public get needsLatency(): boolean {
+    return this.options?.mode == 'AUTO';
+  }
+
+  /**
+   * The payload describing the current state, sent to the Swing application.
+   */
+  public get state(): string {
+    return JSON.stringify({
+      active: this.active,
+      maxPixelRatio: this.options?.maxPixelRatio ?? 1,
+      maxFrameRate: this.options?.maxFrameRate ?? 0
+    });
+  }
+
+  /**
+   * Apply new options.
+   *
+   * @param options The bandwidth saver options or null to turn the bandwidth saver off.
+   */
+  public configure(options: BandwidthSaverOptions | null | undefined) {
+    this.options = options ?? null;
+    this.update();
+  }
+
+  /**
+   * Notified for every latency sample.
+   *
+   * @param breached Whether the ping threshold is breached.
+   */
+  public latencyChanged(breached: boolean) {
+    this.breached = breached;
+    this.update();
+  }
+
+  /**
+   * Deactivate the bandwidth saver and release its pixel ratio cap.
+   */
+  public dispose() {
+    this.options = null;
+    this.breached = false;
+    this.update();
+  }
+
+  private update() {
+    const mode = this.options?.mode ?? 'OFF';
+    const active = mode == 'ON' || (mode == 'AUTO' && this.breached);
+    const cap = this.options?.maxPixelRatio ?? 1;
+
+    if (active && this.options?.overridePagePixelRatio) {
+      if (pixelRatioCaps.get(this) !== cap) {
+        pixelRatioCaps.set(this, cap);
+        applyPixelRatioCaps();
+      }
+    } else if (pixelRatioCaps.delete(this)) {
+      applyPixelRatioCaps();
+    }
+
+    if (active != this.active) {
+      this.active = active;
+      this.changed(active);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+// Number of bytes converted per String.fromCharCode call. Large enough to keep the number of
+// calls low, small enough to stay below the engine's maximum argument count.
+const CHUNK_SIZE = 0x8000;
+
+/**
+ * Encode raw bytes as a Base64 string.
+ *
+ * @param bytes The bytes to encode.
+ * @returns The Base64 string or null if no bytes were given.
+ */
+export function encodeBase64(bytes: Uint8Array | null | undefined): string | null {
+  if (bytes == null) {
+    return null;
+  }
+
+  let binary = '';
+  for (let i = 0; i < bytes.length; i += CHUNK_SIZE) {
+    binary += String.fromCharCode.apply(null, bytes.subarray(i, i + CHUNK_SIZE) as unknown as number[]);
+  }
+
+  return btoa(binary);
+}
+
+/**
+ * Decode a Base64 string to raw bytes.
+ *
+ * @param base64 The Base64 string to decode.
+ * @returns The decoded bytes or null if no string was given.
+ */
+export function decodeBase64(base64: string | null | undefined): Uint8Array | null {
+  if (base64 == null) {
+    return null;
+  }
+
+  const binary = atob(base64);
+  const bytes = new Uint8Array(binary.length);
+  for (let i = 0; i < binary.length; i++) {
+    bytes[i] = binary.charCodeAt(i);
+  }
+
+  return bytes;
+}
@@ -0,0 +1,116 @@
+import { INTERACTION_EVENTS } from './start-trigger';
+
+/**
+ * The idle policy of the connector.
+ *
+ * - `idleTimeout`: ms without input on the connector after which it is suspended, 0 to disable.
+ * - `suspendWhenHidden`: whether the connector is suspended while the page is hidden.
+ * - `hiddenDelay`: ms the page has to stay hidden before the connector is suspended.
+ * - `message`: the text of the placeholder shown while suspended.
+ */
+export interface IdlePolicy {
+  idleTimeout?: number;
+  suspendWhenHidden?: boolean;
+  hiddenDelay?: number;
+  message?: string;
+}
+
+/**
+ * Why the connector was suspended, `MANUAL` when `suspend()` was called.
+ */
+export type SuspendReason = 'IDLE' | 'HIDDEN' | 'MANUAL';
+
+// The events which count as user input, besides the interaction events.
+const INPUT_EVENTS = [...INTERACTION_EVENTS, 'pointermove', 'wheel'];
+
+/**
+ * Watches the input on the connector and the visibility of the page, and reports when the
+ * connector became idle according to the policy.
+ */
+export class IdleMonitor {
+  private policy: IdlePolicy | null = null;
+  private idleTimer: number | null = null;
+  private hiddenTimer: number | null = null;
+  private lastInput: number = 0;
+  private readonly onInput = () => this.inputReceived();
+  private readonly onVisibilityChange = () => this.visibilityChanged();
+
+  /**
+   * @param element The connector.
+   * @param idle Notified when the connector became idle.
+   */
+  constructor(private readonly element: HTMLElement, private readonly idle: (reason: SuspendReason) => void) { }
+
+  /**
+   * Start watching with the given policy.
+   *
+   * @param policy The idle policy or null to stop watching.
+   */
+  public watch(policy: IdlePolicy | null | undefined) {
+    this.stop();
+    this.policy = policy ?? null;
+    if (this.policy == null) {
+      return;
+    }
+
+    INPUT_EVENTS.forEach((type) => this.element.addEventListener(type, this.onInput, { capture: true, passive: true }));
+    document.addEventListener('visibilitychange', this.onVisibilityChange);
+    this.inputReceived();
+    this.visibilityChanged();
+  }
+
+  /**
+   * Stop watching.
+   */
+  public stop() {
+    INPUT_EVENTS.forEach((type) => this.element.removeEventListener(type, this.onInput, { capture: true }));
+    document.removeEventListener('visibilitychange', this.onVisibilityChange);
+    this.clearTimers();
+    this.policy = null;
+  }
+
+  private inputReceived() {
+    // input events fire at a high rate, only re-arm the timer once in a while
+    const now = performance.now();
+    if (this.idleTimer != null && now - this.lastInput < 1000) {
+      return;
+    }
+
+    this.lastInput = now;
+    const timeout = this.policy?.idleTimeout ?? 0;
+    if (this.idleTimer != null) {
+      window.clearTimeout(this.idleTimer);
+      this.idleTimer = null;
+    }
+    if (timeout > 0) {
+      this.idleTimer = window.setTimeout(() => this.fire('IDLE'), timeout);
+    }
+  }
+
+  private visibilityChanged() {
+    if (this.hiddenTimer != null) {
+      window.clearTimeout(this.hiddenTimer);
+      this.hiddenTimer = null;
+    }
+
+    if (this.policy?.suspendWhenHidden && document.visibilityState == 'hidden') {
+      this.hiddenTimer = window.setTimeout(() => this.fire('HIDDEN'), this.policy.hiddenDelay ?? 0);
+    }
+  }
+
+  private fire(reason: SuspendReason) {
+    this.clearTimers();
+    this.idle(reason);
+  }
+
+  private clearTimers() {
+    if (this.idleTimer != null) {
+      window.clearTimeout(this.idleTimer);
+      this.idleTimer = null;
+    }
+    if (this.hiddenTimer != null) {
+      window.clearTimeout(this.hiddenTimer);
+      this.hiddenTimer = null;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+import { IWebswingInstance } from 'webswing-api/build/types';
+
+/**
+ * A Webswing instance together with the element it renders into.
+ */
+export interface ParkableSession {
+  url: string;
+  instance: IWebswingInstance;
+  root: HTMLElement;
+}
+
+interface ParkedSession {
+  session: ParkableSession;
+  holder: HTMLElement;
+  timer: number;
+}
+
+// Sessions of detached connectors waiting to be reclaimed, keyed by keep-alive key.
+const parked: Map<string, ParkedSession> = new Map();
+
+/**
+ * Park the session of a detached connector. The render root is kept in an offscreen holder so the
+ * Webswing instance keeps running, and the session is disconnected once the timeout elapses
+ * without being reclaimed.
+ *
+ * @param key The keep-alive key.
+ * @param session The session to park.
+ * @param timeout The number of milliseconds to keep the session alive.
+ */
+export function parkSession(key: string, session: ParkableSession, timeout: number) {
+  releaseSession(key);
+
+  const holder = document.createElement('div');
+  holder.style.cssText = 'position: fixed; left: -100000px; top: 0; width: 100vw; height: 100vh;'
+    + 'visibility: hidden; pointer-events: none;';
+  holder.appendChild(session.root);
+  document.body.appendChild(holder);
+
+  const timer = window.setTimeout(() => releaseSession(key), timeout);
+  parked.set(key, { session, holder, timer });
+}
+
+/**
+ * Reclaim the session parked with the given key.
+ *
+ * @param key The keep-alive key.
+ * @param url The URL of the Webswing server the session must be connected to.
+ * @returns The session or null if no matching session is parked.
+ */
+export function reclaimSession<T extends ParkableSession>(key: string, url: string): T | null {
+  const entry = parked.get(key);
+  if (entry == null) {
+    return null;
+  }
+
+  if (entry.session.url != url) {
+    releaseSession(key);
+    return null;
+  }
+
+  parked.delete(key);
+  window.clearTimeout(entry.timer);
+  entry.holder.remove();
+  return entry.session as T;
+}
+
+function releaseSession(key: string) {
+  const entry = parked.get(key);
+  if (entry == null) {
+    return;
+  }
+
+  parked.delete(key);
+  window.clearTimeout(entry.timer);
+  entry.holder.remove();
+  entry.session.instance.disconnect();
+}
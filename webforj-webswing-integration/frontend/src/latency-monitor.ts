@@ -0,0 +1,132 @@
+/**
+ * The parameters of the connection stability check, as passed to Webswing.
+ *
+ * - `count`: the number of latest samples the check looks at.
+ * - `interval`: the number of seconds between two samples.
+ * - `maxLatency`: the highest acceptable latency in ms.
+ * - `notifyIf`: the number of samples above `maxLatency` within the window which marks the
+ *   connection as unstable.
+ */
+export interface PingParams {
+  count: number;
+  interval: number;
+  maxLatency: number;
+  notifyIf: number;
+}
+
+/**
+ * The result of a latency probe.
+ *
+ * `latency` is the round trip to the server in ms, or -1 if the server could not be reached.
+ */
+export interface LatencySample {
+  latency: number;
+  exceeded: number;
+  samples: number;
+  breached: boolean;
+}
+
+// The Webswing defaults.
+const DEFAULT_PING_PARAMS: PingParams = { count: 6, interval: 5, maxLatency: 500, notifyIf: 3 };
+
+/**
+ * Measure the round trip to the given server with a HEAD request which bypasses the cache.
+ *
+ * @param url The URL of the server.
+ * @param timeout The number of milliseconds after which the probe is abandoned.
+ * @param signal Aborts the probe.
+ * @returns A promise which resolves with the latency in ms, or -1 if the server was not reached.
+ */
+export function probeServer(url: string, timeout: number, signal?: AbortSignal): Promise<number> {
+  const abort = new AbortController();
+  const timer = window.setTimeout(() => abort.abort(), timeout);
+  signal?.addEventListener('abort', () => abort.abort());
+  const started = performance.now();
+
+  return fetch(url, { method: 'HEAD', cache: 'no-store', mode: 'no-cors', credentials: 'omit', signal: abort.signal })
+    .then(() => Math.round(performance.now() - started), () => -1)
+    .finally(() => window.clearTimeout(timer));
+}
+
+/**
+ * Periodically measures the round trip to the Webswing server. The server is probed with a HEAD
+ * request which bypasses the cache, the time to the response headers is the latency. A probe
+ * which fails or does not complete before the next one is due counts as a lost sample.
+ */
+export class LatencyMonitor {
+  private url: string | null = null;
+  private params: PingParams = DEFAULT_PING_PARAMS;
+  private timer: number | null = null;
+  private abort: AbortController | null = null;
+  private window: number[] = [];
+
+  /**
+   * @param report Receives the result of every probe.
+   */
+  constructor(private readonly report: (sample: LatencySample) => void) { }
+
+  /**
+   * Start probing the given server. Probing restarts from an empty window when the server or
+   * the parameters change.
+   *
+   * @param url The URL of the Webswing server.
+   * @param params The ping parameters, missing values fall back to the Webswing defaults.
+   */
+  public start(url: string, params: Partial<PingParams> | null | undefined) {
+    const next = { ...DEFAULT_PING_PARAMS, ...params };
+    if (this.timer != null && this.url == url && JSON.stringify(next) == JSON.stringify(this.params)) {
+      return;
+    }
+
+    this.stop();
+    this.url = url;
+    this.params = next;
+    this.schedule();
+  }
+
+  /**
+   * Stop probing.
+   */
+  public stop() {
+    if (this.timer != null) {
+      window.clearTimeout(this.timer);
+      this.timer = null;
+    }
+
+    this.abort?.abort();
+    this.abort = null;
+    this.window = [];
+  }
+
+  private schedule() {
+    this.timer = window.setTimeout(() => this.probe(), Math.max(1, this.params.interval) * 1000);
+  }
+
+  private probe() {
+    const abort = new AbortController();
+    this.abort = abort;
+
+    probeServer(this.url!, Math.max(1, this.params.interval) * 1000, abort.signal)
+      .then((latency) => {
+        if (this.abort !== abort) {
+          // stopped or restarted meanwhile
+          return;
+        }
+
+        this.abort = null;
+        this.record(latency);
+        this.schedule();
+      });
+  }
+
+  private record(latency: number) {
+    const { count, maxLatency, notifyIf } = this.params;
+    this.window.push(latency);
+    while (this.window.length > Math.max(1, count)) {
+      this.window.shift();
+    }
+
+    const exceeded = this.window.filter((value) => value < 0 || value > maxLatency).length;
+    this.report({ latency, exceeded, samples: this.window.length, breached: exceeded >= notifyIf });
+  }
+}
@@ -0,0 +1,169 @@
+/**
+ * The reconnect policy of the connector.
+ *
+ * The delay before attempt `n` is `min(maxDelay, initialDelay * multiplier^(n - 1))`. With
+ * `jitter` the delay is picked uniformly between 0 and that value (full jitter), which spreads the
+ * clients reconnecting to a restarted server. `maxAttempts` of 0 retries forever.
+ */
+export interface ReconnectPolicy {
+  initialDelay?: number;
+  maxDelay?: number;
+  multiplier?: number;
+  maxAttempts?: number;
+  jitter?: boolean;
+}
+
+/**
+ * The outcome reported for a reconnect attempt.
+ *
+ * - `SCHEDULED`: the attempt is due after the reported delay.
+ * - `SUCCEEDED`: the server was reached and the instance was bootstrapped again.
+ * - `FAILED`: the server was still unreachable, another attempt follows.
+ * - `EXHAUSTED`: the server was still unreachable after the last attempt.
+ */
+export type ReconnectOutcome = 'SCHEDULED' | 'SUCCEEDED' | 'FAILED' | 'EXHAUSTED';
+
+const DEFAULT_POLICY: Required<ReconnectPolicy> = {
+  initialDelay: 1000,
+  maxDelay: 30000,
+  multiplier: 2,
+  maxAttempts: 10,
+  jitter: true
+};
+
+/**
+ * Compute the delay before the given attempt.
+ *
+ * @param policy The reconnect policy.
+ * @param attempt The attempt number, starting at 1.
+ * @param random The source of randomness, in [0, 1).
+ * @returns The delay in ms.
+ */
+export function reconnectDelay(policy: ReconnectPolicy, attempt: number, random: () => number = Math.random): number {
+  const { initialDelay, maxDelay, multiplier, jitter } = { ...DEFAULT_POLICY, ...policy };
+  const ceiling = Math.min(maxDelay, initialDelay * Math.pow(multiplier, attempt - 1));
+  return Math.round(jitter ? random() * ceiling : ceiling);
+}
+
+/**
+ * Drives the reconnect attempts once the connection to the server is lost. Before each attempt
+ * the server is probed, the instance is bootstrapped again only once the server answers.
+ */
+export class Reconnector {
+  private timer: number | null = null;
+  private attempt: number = 0;
+  private policy: ReconnectPolicy = DEFAULT_POLICY;
+
+  /**
+   * @param probe Resolves with true if the server is reachable.
+   * @param reconnect Bootstraps the instance again.
+   * @param report Notified of every attempt.
+   */
+  constructor(
+    private readonly probe: () => Promise<boolean>,
+    private readonly reconnect: () => void,
+    private readonly report: (attempt: number, delay: number, outcome: ReconnectOutcome) => void) { }
+
+  /**
+   * Whether reconnect attempts are in progress.
+   */
+  public get isRunning(): boolean {
+    return this.attempt > 0;
+  }
+
+  /**
+   * Start reconnecting, unless already reconnecting.
+   *
+   * @param policy The reconnect policy.
+   * @param immediate Whether the first attempt is due right away instead of after its delay.
+   */
+  public start(policy: ReconnectPolicy, immediate: boolean = false) {
+    if (this.isRunning) {
+      return;
+    }
+
+    this.policy = policy;
+    this.schedule(1, immediate);
+  }
+
+  /**
+   * Stop the reconnect attempts.
+   */
+  public cancel() {
+    if (this.timer != null) {
+      window.clearTimeout(this.timer);
+      this.timer = null;
+    }
+
+    this.attempt = 0;
+  }
+
+  private schedule(attempt: number, immediate: boolean = false) {
+    const delay = immediate ? 0 : reconnectDelay(this.policy, attempt);
+    this.attempt = attempt;
+    this.report(attempt, delay, 'SCHEDULED');
+    this.timer = window.setTimeout(() => this.run(attempt), delay);
+  }
+
+  private run(attempt: number) {
+    this.timer = null;
+    this.probe().then((reachable) => {
+      if (this.attempt != attempt) {
+        // cancelled meanwhile
+        return;
+      }
+
+      if (reachable) {
+        this.attempt = 0;
+        this.reconnect();
+        this.report(attempt, 0, 'SUCCEEDED');
+        return;
+      }
+
+      const maxAttempts = this.policy.maxAttempts ?? DEFAULT_POLICY.maxAttempts;
+      if (maxAttempts > 0 && attempt >= maxAttempts) {
+        this.attempt = 0;
+        this.report(attempt, 0, 'EXHAUSTED');
+        return;
+      }
+
+      this.report(attempt, 0, 'FAILED');
+      this.schedule(attempt + 1);
+    });
+  }
+}
+
+// The dialogs Webswing shows once its connection to the server is lost.
+const CONNECTION_LOST_DIALOGS = ['disconnectedDialog', 'connectionErrorDialog'];
+
+/**
+ * The part of the dialog service of a Webswing instance the connector watches.
+ */
+interface DialogService {
+  show: (content: unknown) => unknown;
+  content?: Record<string, unknown>;
+}
+
+/**
+ * Call back whenever the Webswing instance reports that its connection to the server is lost,
+ * that is when it shows its disconnected or connection error dialog. Webswing shows them once
+ * own `autoReconnect` gave up, or right away when it is not set.
+ *
+ * @param dialog The dialog service of the instance, from its injector.
+ * @param lost Notified of every loss.
+ */
+export function watchConnectionLoss(dialog: DialogService | undefined, lost: () => void) {
+  if (dialog == null) {
+    return;
+  }
+
+  const show = dialog.show;
+  dialog.show = (content: unknown) => {
+    const result = show.call(dialog, content);
+    if (CONNECTION_LOST_DIALOGS.some((name) => dialog.content?.[name] === content)) {
+      lost();
+    }
+
+    return result;
+  };
+}
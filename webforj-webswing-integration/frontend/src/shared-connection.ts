@@ -0,0 +1,229 @@
+import { IWebswingInstance, WebswingOptions } from 'webswing-api/build/types';
+import { loadWebswingApi } from './api-loader';
+import { unpackActions } from './action-batch';
+import { InitializedTiming, NOT_MEASURED, StartedTiming, elapsedSince } from './timing';
+
+// Separates the channel from the action name on a shared connection.
+export const CHANNEL_SEPARATOR = '/';
+
+/**
+ * A connector attached to a shared connection.
+ */
+export interface SharedConnectionClient {
+  /**
+   * The channel of the connector. Actions are routed by channel and the Swing window with the same
+   * name is rendered in the connector.
+   */
+  readonly channel: string;
+  /**
+   * The element the connector renders the Webswing content into.
+   */
+  readonly container: HTMLElement;
+
+  receiveAction(actionName: string, data: string | null, binaryData: Uint8Array | null): void;
+  connectionInitialized(timing: InitializedTiming): void;
+  connectionStarted(timing: StartedTiming): void;
+}
+
+/**
+ * A Swing window rendered by the compositing window manager of Webswing.
+ */
+interface CompositingWindow {
+  name?: string;
+  element?: HTMLElement;
+}
+
+// Shared connections keyed by server URL.
+const connections: Map<string, SharedConnection> = new Map();
+
+/**
+ * Attach a connector to the shared connection of the given server, opening the connection if
+ * the connector is the first one.
+ *
+ * @param url The URL of the Webswing server.
+ * @param options The Webswing options, only used when the connection is opened.
+ * @param client The connector.
+ * @returns The shared connection.
+ */
+export function attachSharedConnection(url: string, options: WebswingOptions,
+  client: SharedConnectionClient): SharedConnection {
+  let connection = connections.get(url);
+  if (connection == null) {
+    connection = new SharedConnection(url, options);
+    connections.set(url, connection);
+  }
+
+  connection.attach(client);
+  return connection;
+}
+
+/**
+ * A single Webswing instance shared by all the connectors of the page pointing to the same
+ * server. Actions are multiplexed over the instance by prefixing their name with the channel of
+ * the connector, actions sent by the Swing application without a known channel are delivered to
+ * every connector.
+ */
+export class SharedConnection {
+  private clients: Map<string, SharedConnectionClient> = new Map();
+  private host: HTMLElement = document.createElement('div');
+  private instance: IWebswingInstance | null = null;
+  private initialized: boolean = false;
+  private started: boolean = false;
+  private startRequested: boolean = false;
+  private startRequestedAt: number = 0;
+
+  constructor(private readonly url: string, private readonly options: WebswingOptions) {
+    this.host.className = 'webswing-shared-root';
+    this.host.style.cssText = 'width: 100%; height: 100%;';
+  }
+
+  /**
+   * Attach a connector to the connection.
+   */
+  public attach(client: SharedConnectionClient) {
+    if (this.clients.has(client.channel)) {
+      throw new Error(`Channel "${client.channel}" is already attached to ${this.url}`);
+    }
+
+    this.clients.set(client.channel, client);
+    if (this.host.parentElement == null) {
+      client.container.appendChild(this.host);
+    }
+
+    if (this.clients.size == 1 && this.instance == null) {
+      this.bootstrap();
+    } else {
+      requestAnimationFrame(() => {
+        // the connection was opened by another connector, nothing was measured for this one
+        if (this.initialized) {
+          client.connectionInitialized({ apiLoadTime: NOT_MEASURED, bootstrapTime: NOT_MEASURED });
+        }
+        if (this.started) {
+          client.connectionStarted({ startTime: NOT_MEASURED });
+        }
+      });
+    }
+  }
+
+  /**
+   * Detach a connector from the connection. The connection is closed when the last connector is
+   * detached.
+   */
+  public detach(client: SharedConnectionClient) {
+    this.clients.delete(client.channel);
+
+    if (this.clients.size == 0) {
+      connections.delete(this.url);
+      this.host.remove();
+      this.instance?.disconnect();
+      this.instance = null;
+      return;
+    }
+
+    if (client.container.contains(this.host)) {
+      this.clients.values().next().value!.container.appendChild(this.host);
+    }
+  }
+
+  /**
+   * Start the Swing application, once for all connectors.
+   */
+  public start() {
+    if (this.started) {
+      return;
+    }
+
+    if (this.instance == null) {
+      this.startRequested = true;
+      return;
+    }
+
+    this.started = true;
+    this.startRequestedAt = performance.now();
+    this.instance.start();
+  }
+
+  /**
+   * Perform an action on behalf of the given connector.
+   */
+  public performAction(client: SharedConnectionClient, actionName: string, data: string | undefined,
+    binaryData: Uint8Array | undefined) {
+    this.instance?.performAction({
+      actionName: `${client.channel}${CHANNEL_SEPARATOR}${actionName}`,
+      data,
+      binaryData
+    });
+  }
+
+  private bootstrap() {
+    const loadStart = performance.now();
+    loadWebswingApi(this.url).then((api) => {
+      if (this.clients.size == 0) {
+        return;
+      }
+
+      const apiLoadTime = elapsedSince(loadStart);
+      const bootstrapStart = performance.now();
+      this.startRequestedAt = bootstrapStart;
+
+      const startupOptions = {
+        connectionUrl: this.url,
+        ...this.options,
+        autoStart: false,
+        onStart: () => {
+          this.started = true;
+          const timing = { startTime: elapsedSince(this.startRequestedAt) };
+          this.clients.forEach((client) => client.connectionStarted(timing));
+        }
+      };
+
+      // render each Swing window in the connector of the same name
+      const compositingWindowsListener = {
+        windowOpened: (win: CompositingWindow) => this.placeWindow(win)
+      };
+
+      this.instance = api.bootstrap(this.host, Object.assign(startupOptions, { compositingWindowsListener }), (injector) => {
+        injector.services.base!.handleActionEvent = (actionName: string, data: string | null, binaryData: Uint8Array | null) => {
+          // a batch may hold actions of several channels
+          for (const action of unpackActions(actionName, data, binaryData)) {
+            this.route(action.actionName, action.data, action.binaryData);
+          }
+        }
+
+        requestAnimationFrame(() => {
+          this.initialized = true;
+          const timing = { apiLoadTime, bootstrapTime: elapsedSince(bootstrapStart) };
+          this.clients.forEach((client) => client.connectionInitialized(timing));
+        });
+      });
+
+      if (this.startRequested || this.options.autoStart) {
+        this.start();
+      }
+    })
+      .catch((e) => {
+        connections.delete(this.url);
+        throw new Error(`Failed to initialize Webswing: ${e.message}`);
+      });
+  }
+
+  private placeWindow(win: CompositingWindow) {
+    const client = win.name != null ? this.clients.get(win.name) : undefined;
+    if (client != null && win.element != null) {
+      client.container.appendChild(win.element);
+    }
+  }
+
+  private route(actionName: string, data: string | null, binaryData: Uint8Array | null) {
+    const separator = actionName.indexOf(CHANNEL_SEPARATOR);
+    if (separator > 0) {
+      const client = this.clients.get(actionName.substring(0, separator));
+      if (client != null) {
+        client.receiveAction(actionName.substring(separator + 1), data, binaryData);
+        return;
+      }
+    }
+
+    this.clients.forEach((client) => client.receiveAction(actionName, data, binaryData));
+  }
+}
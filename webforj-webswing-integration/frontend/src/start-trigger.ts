@@ -0,0 +1,79 @@
+/**
+ * When the connector starts the Swing application.
+ *
+ * - `EAGER`: right after the instance is initialized.
+ * - `ON_VISIBLE`: once the connector is visible in the viewport of a visible page.
+ * - `ON_INTERACTION`: once the user interacts with the connector.
+ * - `MANUAL`: only when `start()` is called.
+ */
+export type StartMode = 'EAGER' | 'ON_VISIBLE' | 'ON_INTERACTION' | 'MANUAL';
+
+// The events which count as an interaction with the connector.
+export const INTERACTION_EVENTS = ['pointerdown', 'keydown', 'focusin', 'touchstart'];
+
+/**
+ * Waits for the condition of a lazy start mode and then starts the Swing application once.
+ * While waiting, the `start-pending` attribute is set on the element so it can be styled.
+ */
+export class StartTrigger {
+  private cleanup: (() => void) | null = null;
+
+  /**
+   * Wait for the condition of the given mode.
+   *
+   * @param element The connector.
+   * @param mode The start mode, only `ON_VISIBLE` and `ON_INTERACTION` are waited for.
+   * @param start Starts the Swing application.
+   */
+  public arm(element: HTMLElement, mode: StartMode | null | undefined, start: () => void) {
+    this.disarm();
+    if (mode != 'ON_VISIBLE' && mode != 'ON_INTERACTION') {
+      return;
+    }
+
+    const fire = () => {
+      this.disarm();
+      start();
+    };
+
+    if (mode == 'ON_VISIBLE') {
+      let intersecting = false;
+      const check = () => {
+        if (intersecting && document.visibilityState == 'visible') {
+          fire();
+        }
+      };
+      const observer = new IntersectionObserver((entries) => {
+        intersecting = entries.some((entry) => entry.isIntersecting);
+        check();
+      });
+
+      observer.observe(element);
+      document.addEventListener('visibilitychange', check);
+      this.cleanup = () => {
+        observer.disconnect();
+        document.removeEventListener('visibilitychange', check);
+      };
+    } else {
+      INTERACTION_EVENTS.forEach((type) => element.addEventListener(type, fire, { capture: true }));
+      this.cleanup = () => {
+        INTERACTION_EVENTS.forEach((type) => element.removeEventListener(type, fire, { capture: true }));
+      };
+    }
+
+    element.setAttribute('start-pending', '');
+    const release = this.cleanup;
+    this.cleanup = () => {
+      release();
+      element.removeAttribute('start-pending');
+    };
+  }
+
+  /**
+   * Stop waiting.
+   */
+  public disarm() {
+    this.cleanup?.();
+    this.cleanup = null;
+  }
+}
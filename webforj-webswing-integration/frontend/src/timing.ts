@@ -0,0 +1,27 @@
+/**
+ * The timings reported with the `webswing-initialized` event, in milliseconds.
+ */
+export interface InitializedTiming {
+  apiLoadTime: number;
+  bootstrapTime: number;
+}
+
+/**
+ * The timings reported with the `webswing-started` event, in milliseconds.
+ */
+export interface StartedTiming {
+  startTime: number;
+}
+
+// Reported for the timings which could not be measured, e.g. when a running session is reused.
+export const NOT_MEASURED = -1;
+
+/**
+ * Milliseconds elapsed since the given timestamp.
+ *
+ * @param start A timestamp obtained from `performance.now()`.
+ * @returns The elapsed milliseconds rounded to an integer.
+ */
+export function elapsedSince(start: number): number {
+  return Math.round(performance.now() - start);
+}
@@ -1,23 +1,166 @@
-import { LitElement, html } from 'lit'
+import { LitElement, PropertyValues, html } from 'lit'
 import { customElement, property } from 'lit/decorators.js'
-import { getWebswingApi } from 'webswing-api';
-import { IWebswingInstance, WebswingOptions } from 'webswing-api/build/types';
+import { WebswingOptions } from 'webswing-api/build/types';
+import { loadWebswingApi, preloadWebswingApi } from './api-loader';
+import { ActionPolicies, ActionPolicy, FiredAction } from './action-policy';
+import { unpackActions } from './action-batch';
+import { decodeBase64, encodeBase64 } from './base64';
+import { ParkableSession, parkSession, reclaimSession } from './keep-alive';
+import { SharedConnection, SharedConnectionClient, attachSharedConnection } from './shared-connection';
+import { InitializedTiming, NOT_MEASURED, StartedTiming, elapsedSince } from './timing';
+import { LatencyMonitor, LatencySample, PingParams, probeServer } from './latency-monitor';
+import { ReconnectOutcome, ReconnectPolicy, Reconnector, watchConnectionLoss } from './reconnect';
+import { INTERACTION_EVENTS, StartMode, StartTrigger } from './start-trigger';
+import { IdleMonitor, IdlePolicy, SuspendReason } from './idle-monitor';
+import { BandwidthSaver, BandwidthSaverOptions } from './bandwidth-saver';
+
+// Actions whose name starts with this prefix carry the messages of a chunked stream.
+const STREAM_ACTION_PREFIX = 'webswing-stream-';
+// Separates the action name from the correlation id of a request.
+const REQUEST_SEPARATOR = '#';
+// Milliseconds to wait for the next stream message before polling the server for acknowledgements.
+const STREAM_POLL_INTERVAL = 250;
+// Milliseconds a detached connector keeps its session alive when no timeout is configured.
+const DEFAULT_KEEP_ALIVE_TIMEOUT = 60000;
+// The action which tells the Swing application about the bandwidth saver state.
+const BANDWIDTH_SAVER_ACTION = 'webswing-bandwidth-saver';
+// Milliseconds to wait for the server to answer before a reconnect attempt.
+const RECONNECT_PROBE_TIMEOUT = 5000;
+// The text of the placeholder shown while the connector is suspended, when none is configured.
+const DEFAULT_SUSPENDED_MESSAGE = 'The session was suspended. Click to resume.';
+// Milliseconds between two admission requests while the start is queued.
+const ADMISSION_POLL_INTERVAL = 2000;
+
+/**
+ * An action sent from the server to the Webswing instance.
+ */
+export interface WebswingAction {
+  actionName: string;
+  data: string | undefined;
+  binaryDataBase64: string | null;
+}
+
+/**
+ * The options of the connector. Besides the Webswing options, they configure the features the
+ * connector adds on top of the Webswing instance.
+ */
+export interface ConnectorOptions extends WebswingOptions {
+  actionPolicies?: Record<string, ActionPolicy>;
+  keepAliveKey?: string | null;
+  keepAliveTimeout?: number;
+  sharedChannel?: string | null;
+  bandwidthSaver?: BandwidthSaverOptions | null;
+  reconnectPolicy?: ReconnectPolicy | null;
+  startMode?: StartMode | null;
+  idlePolicy?: IdlePolicy | null;
+  compressionThreshold?: number;
+  maxInflatedSize?: number;
+}
+
+// The options handled by the connector itself, they are not passed to Webswing.
+const CONNECTOR_OPTION_KEYS: string[] = [
+  'actionPolicies', 'keepAliveKey', 'keepAliveTimeout', 'sharedChannel', 'bandwidthSaver', 'reconnectPolicy',
+  'startMode', 'idlePolicy', 'compressionThreshold', 'maxInflatedSize'
+];
+
+/**
+ * A Webswing instance and the connector currently displaying it. The owner changes when a
+ * kept-alive session is reclaimed by another connector.
+ */
+interface WebswingSession extends ParkableSession {
+  started: boolean;
+  startRequestedAt: number;
+  owner: WebswingElement | null;
+}
+
+/**
+ * Strip the connector specific keys from the options.
+ *
+ * @param options The connector options.
+ * @returns The options understood by Webswing.
+ */
+function toWebswingOptions(options: ConnectorOptions): WebswingOptions {
+  const webswingOptions: Record<string, unknown> = { ...options };
+  for (const key of CONNECTOR_OPTION_KEYS) {
+    delete webswingOptions[key];
+  }
+
+  // the start mode replaces autoStart, lazy modes are started by the connector
+  if (options.startMode) {
+    webswingOptions.autoStart = options.startMode == 'EAGER';
+  }
+
+  return webswingOptions as WebswingOptions;
+}
+
+/**
+ * A request waiting for the response of the Swing application.
+ */
+interface PendingRequest {
+  correlationId: string;
+  actionName: string;
+  timer: number;
+  sentAt: number;
+}
 
 /**
  * A custom element that wraps a Webswing instance.
  *
  * @attr {String} url - The URL of the Webswing server.
  * @attr {Object} options - The options for initializing the Webswing instance.
+ * @attr {String} optionsJson - The options serialized as JSON, they replace the options when set.
+ * @attr {Array} subscribedActions - The names of the actions the server listens to.
+ * @attr {Boolean} latencyTelemetry - Whether the latency to the server is measured and reported.
+ * @attr {Boolean} admissionControl - Whether the server has to admit the start of the Swing application.
  *
- * @fires webswing-initialized - Fired when the Webswing instance is initialized.
- * @fires webswing-started - Fired when the Webswing instance is started.
+ * @attr start-pending - Set while a lazy start mode waits for the connector to be seen or used.
+ * @attr suspended - Set while the connector is suspended.
+ * @attr queue-position - Set to the position in the start queue while the start waits for admission.
+ *
+ * @fires webswing-initialized - Fired when the Webswing instance is initialized, with the API load and bootstrap times.
+ * @fires webswing-started - Fired when the Webswing instance is started, with the start time.
  * @fires webswing-action - Fired when an action is performed on the Webswing instance.
+ * @fires webswing-stream - Fired for every message of a chunked stream sent by the Webswing instance.
+ * @fires webswing-latency - Fired for every latency probe when the latency telemetry is enabled.
+ * @fires webswing-bandwidth-saver - Fired when the bandwidth saver is activated or deactivated.
+ * @fires webswing-reconnect - Fired for every reconnect attempt and its outcome.
+ * @fires webswing-suspended - Fired when the connector released its instance.
+ * @fires webswing-resumed - Fired when a suspended connector bootstraps its instance again.
+ * @fires webswing-admission - Fired periodically while the start waits for admission.
  */
 @customElement("webswing-connector")
-export class WebswingElement extends LitElement {
-  private instance: IWebswingInstance | null = null;
-  private started: boolean = false;
+export class WebswingElement extends LitElement implements SharedConnectionClient {
+  private session: WebswingSession | null = null;
+  private shared: SharedConnection | null = null;
   private initId: number = 0;
+  private streamPolls: Map<string, number> = new Map();
+  private subscribedActionSet: Set<string> | null = null;
+  private patchedOptionsJson: string | null = null;
+  private pendingRequests: Map<string, PendingRequest> = new Map();
+  private actionPolicies = new ActionPolicies((action) => this.sendAction(action));
+  private latencyMonitor = new LatencyMonitor((sample) => this.latencyMeasured(sample));
+  private bandwidthSaver = new BandwidthSaver((active) => this.bandwidthSaverChanged(active));
+  private reconnector = new Reconnector(
+    () => probeServer(this.url!, RECONNECT_PROBE_TIMEOUT).then((latency) => latency >= 0),
+    () => this.reconnect(),
+    (attempt, delay, outcome) => this.dispatchReconnectEvent(attempt, delay, outcome));
+  private lastSampleLost: boolean | null = null;
+  private startTrigger = new StartTrigger();
+  private idleMonitor = new IdleMonitor(this, (reason) => this.suspend(reason));
+  private suspendedAt: number | null = null;
+  private readonly onResumeInteraction = () => this.resume();
+  private admissionTimer: number | null = null;
+  private admitted: boolean = false;
+
+  constructor() {
+    super();
+    // the Swing application can only be told about the bandwidth saver once it runs
+    this.addEventListener('webswing-started', () => {
+      if (this.bandwidthSaver.isActive) {
+        this.performAction(BANDWIDTH_SAVER_ACTION, this.bandwidthSaver.state, null);
+      }
+    });
+  }
 
   /**
    * The URL of the Webswing server.
@@ -29,7 +172,45 @@ export class WebswingElement extends LitElement {
    * The options for initializing the Webswing instance.
    */
   @property({ type: Object })
-  options: WebswingOptions | null = null;
+  options: ConnectorOptions | null = null;
+
+  /**
+   * The options serialized as JSON. The server sends the options pre-serialized so identical
+   * options are serialized once for all connectors.
+   */
+  @property({ type: String })
+  optionsJson: string | null = null;
+
+  /**
+   * The names of the actions the server listens to. Other actions are dropped on the client.
+   * When null, all actions are sent to the server.
+   */
+  @property({ type: Array })
+  subscribedActions: string[] | null = null;
+
+  /**
+   * Whether the latency to the server is measured according to the ping parameters of the
+   * options and reported with `webswing-latency` events.
+   */
+  @property({ type: Boolean })
+  latencyTelemetry: boolean = false;
+
+  /**
+   * Whether the server has to admit the start of the Swing application. The connector asks for
+   * admission every time it is about to start and waits while the server queues the start.
+   */
+  @property({ type: Boolean })
+  admissionControl: boolean = false;
+
+  /**
+   * Start loading the Webswing API of the given server before any connector is rendered. The
+   * connectors pointing to the same URL reuse the loaded API.
+   *
+   * @param url The URL of the Webswing server.
+   */
+  public static preload(url: string) {
+    preloadWebswingApi(url);
+  }
 
   /**
    * {@inheritDoc}
@@ -37,6 +218,10 @@ export class WebswingElement extends LitElement {
   connectedCallback() {
     super.connectedCallback();
     this.style.display = 'block';
+    preloadWebswingApi(this.url);
+    this.bandwidthSaver.configure(this.options?.bandwidthSaver);
+    this.updateLatencyMonitor();
+    this.idleMonitor.watch(this.options?.idlePolicy);
   }
 
   /**
@@ -44,11 +229,40 @@ export class WebswingElement extends LitElement {
    */
   disconnectedCallback() {
     super.disconnectedCallback();
-    if (this.instance != null) {
-      this.instance.disconnect();
+    this.initId++;
+    this.shared?.detach(this);
+    this.shared = null;
+    if (this.session != null) {
+      this.session.owner = null;
+      const keepAliveKey = this.options?.keepAliveKey;
+      if (keepAliveKey) {
+        parkSession(keepAliveKey, this.session, this.options?.keepAliveTimeout ?? DEFAULT_KEEP_ALIVE_TIMEOUT);
+      } else {
+        this.session.instance.disconnect();
+      }
     }
-    this.instance = null;
-    this.started = false;
+    this.session = null;
+    this.streamPolls.forEach((timer) => window.clearTimeout(timer));
+    this.streamPolls.clear();
+    // the session is gone or parked, so no response can arrive: time the requests out now
+    // instead of leaving the server side futures pending until the component is destroyed
+    this.pendingRequests.forEach((request) => {
+      window.clearTimeout(request.timer);
+      this.dispatchActionEvent({
+        actionName: request.actionName, data: null, binaryDataBase64: null,
+        correlationId: request.correlationId, timedOut: true
+      });
+    });
+    this.pendingRequests.clear();
+    this.actionPolicies.dispose();
+    this.latencyMonitor.stop();
+    this.bandwidthSaver.dispose();
+    this.reconnector.cancel();
+    this.lastSampleLost = null;
+    this.startTrigger.disarm();
+    this.idleMonitor.stop();
+    this.clearSuspended();
+    this.clearAdmission();
   }
 
   /**
@@ -57,16 +271,68 @@ export class WebswingElement extends LitElement {
    * to be called manually, otherwise the Webswing will call start function automatically.
    */
   public start() {
-    if (this.started) {
-      throw new Error("Instance already started!");
+    this.startTrigger.disarm();
+    if (this.shared == null) {
+      if (this.session == null) {
+        throw new Error("No instance initialized!");
+      }
+
+      if (this.session.started) {
+        throw new Error("Instance already started!");
+      }
+    }
+
+    if (this.admissionControl && !this.admitted) {
+      this.requestAdmission();
+      return;
+    }
+
+    this.admitted = false;
+    if (this.shared != null) {
+      this.shared.start();
+      return;
     }
 
-    if (this.instance == null) {
-      throw new Error("No instance initialized!");
+    const session = this.session!;
+    session.started = true;
+    session.startRequestedAt = performance.now();
+    session.instance.start();
+  }
+
+  /**
+   * Start the Swing application the server admitted.
+   */
+  public admitStart() {
+    if (this.admissionTimer == null) {
+      return;
     }
 
-    this.started = true;
-    this.instance.start();
+    this.clearAdmission();
+    this.admitted = true;
+    this.start();
+  }
+
+  /**
+   * Notified by the server while the start waits in the queue.
+   *
+   * @param position The position in the queue, starting at 1.
+   */
+  public queued(position: number) {
+    if (this.admissionTimer == null) {
+      return;
+    }
+
+    let placeholder = this.querySelector<HTMLElement>('.webswing-queued');
+    if (placeholder == null) {
+      placeholder = document.createElement('div');
+      placeholder.className = 'webswing-queued';
+      placeholder.style.cssText = 'display: flex; align-items: center; justify-content: center;'
+        + 'width: 100%; height: 100%;';
+      this.container.appendChild(placeholder);
+    }
+
+    placeholder.textContent = `Waiting to start, position ${position} in the queue.`;
+    this.setAttribute('queue-position', String(position));
   }
 
   /**
@@ -74,11 +340,188 @@ export class WebswingElement extends LitElement {
    *
    * @param actionName The name of the action to perform.
    * @param data The data to send with the action.
-   * @param binaryDataBase64 The binary data to send with the action, encoded in Base64.
+   * @param binaryData The binary data to send with the action, either raw or encoded in Base64.
+   */
+  public performAction(actionName: string, data: string | undefined, binaryData: Uint8Array | string | null) {
+    const bytes = typeof binaryData === 'string' ? decodeBase64(binaryData) : binaryData;
+    if (this.shared != null) {
+      this.shared.performAction(this, actionName, data, bytes || undefined);
+    } else {
+      this.session?.instance.performAction({ actionName, data, binaryData: bytes || undefined });
+    }
+  }
+
+  /**
+   * Perform an action and wait for the Swing application to respond. The correlation id is appended
+   * to the action name and the Swing application is expected to respond with an action of the same
+   * name. The response, or a timeout, is reported with a `webswing-action` event carrying the
+   * correlation id.
+   *
+   * @param correlationId The id used to match the response.
+   * @param actionName The name of the action to perform.
+   * @param data The data to send with the action.
+   * @param binaryData The binary data to send with the action, either raw or encoded in Base64.
+   * @param timeout The number of milliseconds to wait for the response.
+   */
+  public performActionRequest(correlationId: string, actionName: string, data: string | undefined,
+    binaryData: Uint8Array | string | null, timeout: number) {
+    const requestName = `${actionName}${REQUEST_SEPARATOR}${correlationId}`;
+    const timer = window.setTimeout(() => {
+      this.pendingRequests.delete(requestName);
+      this.dispatchActionEvent({ actionName, data: null, binaryDataBase64: null, correlationId, timedOut: true });
+    }, timeout);
+
+    this.pendingRequests.set(requestName, { correlationId, actionName, timer, sentAt: performance.now() });
+    this.performAction(requestName, data, binaryData);
+  }
+
+  /**
+   * Perform a batch of actions that trigger server-side listeners.
+   * The actions are forwarded to the Webswing instance in the given order.
+   *
+   * @param actions The actions to perform.
+   */
+  public performActionBatch(actions: WebswingAction[]) {
+    for (const action of actions) {
+      this.performAction(action.actionName, action.data, action.binaryDataBase64);
+    }
+  }
+
+  /**
+   * Release the instance of the connector to free the Swing application on the server. A
+   * placeholder is shown instead, the instance is bootstrapped again on the next interaction.
+   *
+   * @param reason Why the connector is suspended.
+   */
+  public suspend(reason: SuspendReason = 'MANUAL') {
+    if (this.suspendedAt != null || this.session == null || !this.session.started) {
+      return;
+    }
+
+    this.idleMonitor.stop();
+    this.releaseSession();
+    this.suspendedAt = performance.now();
+
+    const placeholder = document.createElement('div');
+    placeholder.className = 'webswing-suspended';
+    placeholder.textContent = this.options?.idlePolicy?.message ?? DEFAULT_SUSPENDED_MESSAGE;
+    placeholder.style.cssText = 'display: flex; align-items: center; justify-content: center;'
+      + 'width: 100%; height: 100%; cursor: pointer;';
+    this.container.appendChild(placeholder);
+    this.setAttribute('suspended', '');
+    INTERACTION_EVENTS.forEach((type) => this.addEventListener(type, this.onResumeInteraction, { capture: true }));
+
+    this.dispatchEvent(new CustomEvent('webswing-suspended', {
+      detail: { reason },
+      bubbles: true,
+      composed: true
+    }));
+  }
+
+  /**
+   * Bootstrap the instance of a suspended connector again and restart the Swing application.
+   */
+  public resume() {
+    if (this.suspendedAt == null) {
+      return;
+    }
+
+    const suspendedTime = elapsedSince(this.suspendedAt);
+    this.clearSuspended();
+    this.dispatchEvent(new CustomEvent('webswing-resumed', {
+      detail: { suspendedTime },
+      bubbles: true,
+      composed: true
+    }));
+
+    this.initialize(true);
+    this.idleMonitor.watch(this.options?.idlePolicy);
+  }
+
+  /**
+   * Update some of the options. Only the changed keys are sent by the server, the options
+   * property is updated from them so it always holds the current options.
+   *
+   * @param patch The changed options serialized as JSON.
+   * @param removed The keys of the removed options.
+   */
+  public patchOptions(patch: string, removed: string[] | null) {
+    const options: Record<string, unknown> = { ...this.options, ...JSON.parse(patch) };
+    for (const key of removed ?? []) {
+      delete options[key];
+    }
+
+    this.options = options as ConnectorOptions;
+    this.patchedOptionsJson = JSON.stringify(options);
+    this.optionsJson = this.patchedOptionsJson;
+  }
+
+  /**
+   * The channel of the connector on a shared connection.
+   */
+  get channel(): string {
+    return this.options?.sharedChannel ?? '';
+  }
+
+  /**
+   * The element the Webswing content is rendered into.
+   */
+  get container(): HTMLElement {
+    return this.querySelector<HTMLElement>(".webswing-root")!;
+  }
+
+  /**
+   * Receive an action sent by the Swing application on the shared connection.
+   */
+  public receiveAction(actionName: string, data: string | null, binaryData: Uint8Array | null) {
+    this.handleAction(actionName, data, binaryData);
+  }
+
+  /**
+   * Notified when the shared connection is initialized.
+   */
+  public connectionInitialized(timing: InitializedTiming) {
+    this.dispatchLifecycleEvent('webswing-initialized', timing);
+  }
+
+  /**
+   * Notified when the Swing application of the shared connection is started.
    */
-  public performAction(actionName: string, data: string | undefined, binaryDataBase64: string | null) {
-    const binaryData = this.decode(binaryDataBase64) || undefined;
-    this.instance?.performAction({ actionName, data, binaryData });
+  public connectionStarted(timing: StartedTiming) {
+    this.dispatchLifecycleEvent('webswing-started', timing);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  protected willUpdate(changedProperties: PropertyValues<this>) {
+    // the json written back by patchOptions is already applied
+    if (changedProperties.has('optionsJson') && this.optionsJson !== this.patchedOptionsJson) {
+      this.options = this.optionsJson != null ? JSON.parse(this.optionsJson) : null;
+    }
+
+    const optionsChanged = changedProperties.has('options') || changedProperties.has('optionsJson');
+    if (changedProperties.has('subscribedActions')) {
+      this.subscribedActionSet = this.subscribedActions != null ? new Set(this.subscribedActions) : null;
+    }
+
+    if (changedProperties.has('url')) {
+      preloadWebswingApi(this.url);
+    }
+
+    if (optionsChanged) {
+      this.actionPolicies.setPolicies(this.options?.actionPolicies);
+      if (this.isConnected) {
+        this.bandwidthSaver.configure(this.options?.bandwidthSaver);
+        if (this.suspendedAt == null) {
+          this.idleMonitor.watch(this.options?.idlePolicy);
+        }
+      }
+    }
+
+    if (changedProperties.has('latencyTelemetry') || changedProperties.has('url') || optionsChanged) {
+      this.updateLatencyMonitor();
+    }
   }
 
   /**
@@ -102,68 +545,360 @@ export class WebswingElement extends LitElement {
     return html`<div class="webswing-root"></div>`;
   }
 
-  private initialize() {
+  private handleAction(actionName: string, data: string | null, binaryData: Uint8Array | null) {
+    if (actionName.startsWith(STREAM_ACTION_PREFIX)) {
+      this.handleStreamAction(actionName.substring(STREAM_ACTION_PREFIX.length), data, binaryData);
+      return;
+    }
+
+    const request = this.pendingRequests.get(actionName);
+    if (request != null) {
+      window.clearTimeout(request.timer);
+      this.pendingRequests.delete(actionName);
+      this.dispatchActionEvent({
+        actionName: request.actionName,
+        data,
+        binaryDataBase64: encodeBase64(binaryData),
+        correlationId: request.correlationId,
+        roundTripTime: elapsedSince(request.sentAt)
+      });
+      return;
+    }
+
+    if (this.subscribedActionSet != null && !this.subscribedActionSet.has(actionName)) {
+      return;
+    }
+
+    const action = { actionName, data, binaryData };
+    if (!this.actionPolicies.handle(action)) {
+      this.sendAction(action);
+    }
+  }
+
+  private sendAction(action: FiredAction) {
+    this.dispatchActionEvent({
+      actionName: action.actionName,
+      data: action.data,
+      binaryDataBase64: encodeBase64(action.binaryData)
+    });
+  }
+
+  private dispatchLifecycleEvent(type: string, timing: InitializedTiming | StartedTiming) {
+    this.dispatchEvent(new CustomEvent(type, {
+      detail: timing,
+      bubbles: true,
+      composed: true
+    }));
+  }
+
+  private dispatchActionEvent(detail: Record<string, unknown>) {
+    this.dispatchEvent(new CustomEvent('webswing-action', {
+      detail,
+      bubbles: true,
+      composed: true
+    }));
+  }
+
+  private handleStreamAction(type: string, data: string | null, binaryData: Uint8Array | null) {
+    let detail: Record<string, unknown>;
+    switch (type) {
+      case 'open': {
+        const info = JSON.parse(data!);
+        detail = { streamId: info.id, type, name: info.name, size: info.size ?? -1 };
+        break;
+      }
+      case 'chunk':
+        detail = { streamId: data, type, binaryDataBase64: encodeBase64(binaryData) };
+        break;
+      case 'close':
+        detail = { streamId: data, type };
+        break;
+      case 'abort': {
+        const info = JSON.parse(data!);
+        detail = { streamId: info.id, type, reason: info.reason };
+        break;
+      }
+      default:
+        return;
+    }
+
+    const streamId = detail.streamId as string;
+    this.dispatchStreamEvent(detail);
+    if (type == 'open' || type == 'chunk') {
+      this.armStreamPoll(streamId);
+    } else {
+      this.clearStreamPoll(streamId);
+    }
+  }
+
+  /**
+   * While a stream is open and no message arrives, the sender is most likely waiting for an
+   * acknowledgement the server could not send yet. Poll the server periodically so it gets the
+   * chance to acknowledge the chunks consumed in the meantime.
+   */
+  private armStreamPoll(streamId: string) {
+    this.clearStreamPoll(streamId);
+    this.streamPolls.set(streamId, window.setTimeout(() => {
+      this.dispatchStreamEvent({ streamId, type: 'poll' });
+      this.armStreamPoll(streamId);
+    }, STREAM_POLL_INTERVAL));
+  }
+
+  private clearStreamPoll(streamId: string) {
+    const timer = this.streamPolls.get(streamId);
+    if (timer != null) {
+      window.clearTimeout(timer);
+      this.streamPolls.delete(streamId);
+    }
+  }
+
+  private updateLatencyMonitor() {
+    const needed = this.latencyTelemetry || this.bandwidthSaver.needsLatency;
+    if (!needed || !this.url || !this.isConnected) {
+      this.latencyMonitor.stop();
+      return;
+    }
+
+    const options: Record<string, unknown> = { ...this.options };
+    this.latencyMonitor.start(this.url, options.pingParams as Partial<PingParams> | undefined);
+  }
+
+  private latencyMeasured(sample: LatencySample) {
+    this.lastSampleLost = sample.latency < 0;
+    this.bandwidthSaver.latencyChanged(sample.breached);
+    if (this.latencyTelemetry) {
+      this.dispatchLatencyEvent(sample);
+    }
+  }
+
+  private bandwidthSaverChanged(active: boolean) {
+    this.performAction(BANDWIDTH_SAVER_ACTION, this.bandwidthSaver.state, null);
+    this.dispatchEvent(new CustomEvent('webswing-bandwidth-saver', {
+      detail: { active },
+      bubbles: true,
+      composed: true
+    }));
+  }
+
+  private dispatchReconnectEvent(attempt: number, delay: number, outcome: ReconnectOutcome) {
+    this.dispatchEvent(new CustomEvent('webswing-reconnect', {
+      detail: { attempt, delay, outcome },
+      bubbles: true,
+      composed: true
+    }));
+  }
+
+  /**
+   * Start the reconnect policy once the Webswing instance reported the loss of its connection.
+   * The probes of the latency monitor are only a hint: when the last one was answered the server
+   * is up and the first attempt is not delayed.
+   */
+  private connectionLost() {
+    const reconnectPolicy = this.options?.reconnectPolicy;
+    if (reconnectPolicy && this.session != null) {
+      this.reconnector.start(reconnectPolicy, this.lastSampleLost === false);
+    }
+  }
+
+  /**
+   * Replace the session which lost its connection by a fresh one. The Swing application is
+   * started again if it was running.
+   */
+  private reconnect() {
+    const session = this.releaseSession();
+    if (session != null) {
+      this.initialize(session.started);
+    }
+  }
+
+  /**
+   * Disconnect the session and put an empty render root in place of its root.
+   *
+   * @returns The released session, or null if there was none.
+   */
+  private releaseSession(): WebswingSession | null {
+    const session = this.session;
+    if (session == null) {
+      return null;
+    }
+
+    session.owner = null;
+    session.instance.disconnect();
+    this.session = null;
+
+    const root = document.createElement('div');
+    root.className = 'webswing-root';
+    session.root.replaceWith(root);
+    return session;
+  }
+
+  /**
+   * Ask the server for admission until it admits the start. Every request keeps the start queued
+   * on the server.
+   */
+  private requestAdmission() {
+    if (this.admissionTimer != null) {
+      return;
+    }
+
+    const request = () => this.dispatchEvent(new CustomEvent('webswing-admission', { bubbles: true, composed: true }));
+    this.admissionTimer = window.setInterval(request, ADMISSION_POLL_INTERVAL);
+    request();
+  }
+
+  private clearAdmission() {
+    if (this.admissionTimer != null) {
+      window.clearInterval(this.admissionTimer);
+      this.admissionTimer = null;
+    }
+
+    this.removeAttribute('queue-position');
+    this.querySelector('.webswing-queued')?.remove();
+  }
+
+  /**
+   * Compute the options Webswing is bootstrapped with. With admission control Webswing must not
+   * start on its own, the connector starts it once admitted instead.
+   *
+   * @returns The options and whether the connector has to start the application itself.
+   */
+  private toStartupOptions(opts: ConnectorOptions): { webswingOptions: WebswingOptions, gatedStart: boolean } {
+    const webswingOptions = toWebswingOptions(opts);
+    const gatedStart = this.admissionControl && !!webswingOptions.autoStart;
+    if (gatedStart) {
+      webswingOptions.autoStart = false;
+    }
+
+    return { webswingOptions, gatedStart };
+  }
+
+  private clearSuspended() {
+    this.suspendedAt = null;
+    this.removeAttribute('suspended');
+    this.querySelector('.webswing-suspended')?.remove();
+    INTERACTION_EVENTS.forEach((type) => this.removeEventListener(type, this.onResumeInteraction, { capture: true }));
+  }
+
+  private dispatchLatencyEvent(sample: LatencySample) {
+    this.dispatchEvent(new CustomEvent('webswing-latency', {
+      detail: sample,
+      bubbles: true,
+      composed: true
+    }));
+  }
+
+  private dispatchStreamEvent(detail: Record<string, unknown>) {
+    this.dispatchEvent(new CustomEvent('webswing-stream', {
+      detail,
+      bubbles: true,
+      composed: true
+    }));
+  }
+
+  private initialize(restart: boolean = false) {
     const url = this.url!;
     const opts = this.options;
 
+    if (opts?.sharedChannel) {
+      const { webswingOptions, gatedStart } = this.toStartupOptions(opts);
+      this.shared = attachSharedConnection(url, webswingOptions, this);
+      if (gatedStart) {
+        this.start();
+      } else {
+        this.armStart();
+      }
+      return;
+    }
+
+    const keepAliveKey = opts?.keepAliveKey;
+    if (keepAliveKey) {
+      const session = reclaimSession<WebswingSession>(keepAliveKey, url);
+      if (session != null) {
+        this.adopt(session);
+        return;
+      }
+    }
+
     const thisInitId = ++this.initId;
-    getWebswingApi(url).then((api) => {
+    const loadStart = performance.now();
+    loadWebswingApi(url).then((api) => {
       if (this.initId != thisInitId) {
         return;
       }
 
+      const apiLoadTime = elapsedSince(loadStart);
+      const bootstrapStart = performance.now();
+      const root = this.querySelector<HTMLElement>(".webswing-root")!;
+      const session: WebswingSession = {
+        url, root, instance: null!, started: false, startRequestedAt: bootstrapStart, owner: this
+      };
+
       let startupOptions = {
         connectionUrl: url,
         autoStart: false,
         onStart: () => {
-          this.dispatchEvent(new Event('webswing-started', { bubbles: true, composed: true }));
+          session.started = true;
+          session.owner?.dispatchLifecycleEvent('webswing-started', { startTime: elapsedSince(session.startRequestedAt) });
         }
       };
 
-      if (opts != null) {
-        startupOptions = { ...startupOptions, ...opts };
+      const { webswingOptions, gatedStart } = opts != null
+        ? this.toStartupOptions(opts) : { webswingOptions: null, gatedStart: false };
+      if (webswingOptions != null) {
+        startupOptions = { ...startupOptions, ...webswingOptions };
       }
 
-      this.instance = api.bootstrap(this.querySelector(".webswing-root")!, startupOptions, (injector) => {
+      session.instance = api.bootstrap(root, startupOptions, (injector) => {
         injector.services.base!.handleActionEvent = (actionName: string, data: string | null, binaryData: Uint8Array | null) => {
-          const binaryDataBase64 = this.encode(binaryData);
-          this.dispatchEvent(new CustomEvent('webswing-action', {
-            detail: {
-              actionName,
-              data,
-              binaryDataBase64
-            },
-            bubbles: true,
-            composed: true
-          }));
+          for (const action of unpackActions(actionName, data, binaryData)) {
+            session.owner?.handleAction(action.actionName, action.data, action.binaryData);
+          }
         }
+        watchConnectionLoss(injector.services.dialog, () => session.owner?.connectionLost());
 
         requestAnimationFrame(() => {
-          this.dispatchEvent(new Event('webswing-initialized', { bubbles: true, composed: true }));
+          session.owner?.dispatchLifecycleEvent('webswing-initialized', { apiLoadTime, bootstrapTime: elapsedSince(bootstrapStart) });
         });
       });
+      this.session = session;
+
+      if (!restart && !gatedStart) {
+        this.armStart();
+      } else if (!webswingOptions?.autoStart) {
+        this.start();
+      }
     })
       .catch((e) => {
         throw new Error(`Failed to initialize Webswing: ${e.message}`);
       });
   }
 
-  private encode(binaryData: Uint8Array | null) {
-    if (binaryData == null) {
-      return null;
-    }
-
-    const decoder = new TextDecoder('utf8');
-    return btoa(decoder.decode(binaryData));
+  /**
+   * Start the Swing application once the condition of a lazy start mode is met.
+   */
+  private armStart() {
+    this.startTrigger.arm(this, this.options?.startMode, () => this.start());
   }
 
-  private decode(binaryDataBase64: string | null) {
-    if (binaryDataBase64 == null) {
-      return null;
+  /**
+   * Take over a session kept alive by a detached connector.
+   */
+  private adopt(session: WebswingSession) {
+    this.querySelector(".webswing-root")!.replaceWith(session.root);
+    session.owner = this;
+    this.session = session;
+    if (!session.started) {
+      this.armStart();
     }
 
-    return new Uint8Array(atob(binaryDataBase64).split("").map(function (c) {
-      return c.charCodeAt(0);
-    }));
+    requestAnimationFrame(() => {
+      // the session was bootstrapped by another connector, nothing was measured for this one
+      this.dispatchLifecycleEvent('webswing-initialized', { apiLoadTime: NOT_MEASURED, bootstrapTime: NOT_MEASURED });
+      if (session.started) {
+        this.dispatchLifecycleEvent('webswing-started', { startTime: NOT_MEASURED });
+      }
+      // let Webswing pick up the size of the new container
+      window.dispatchEvent(new Event('resize'));
+    });
   }
 }
@@ -0,0 +1,46 @@
+package com.webforj.webswing;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size ring buffer of the latest latency samples reported by the client.
+ *
+ * @author Hyyan Abo Fakher
+ */
+final class LatencyWindow {
+  private final long[] samples;
+  private int size = 0;
+  private int next = 0;
+  private boolean breached = false;
+  private WebswingLatencySummary summary = WebswingLatencySummary.EMPTY;
+
+  LatencyWindow(int capacity) {
+    this.samples = new long[capacity];
+  }
+
+  void add(long latency, boolean breached) {
+    samples[next] = latency;
+    next = (next + 1) % samples.length;
+    size = Math.min(size + 1, samples.length);
+    this.breached = breached;
+    summary = null;
+  }
+
+  WebswingLatencySummary summarize() {
+    if (summary == null) {
+      long[] reachable = new long[size];
+      int count = 0;
+      for (int i = 0; i < size; i++) {
+        if (samples[i] >= 0) {
+          reachable[count++] = samples[i];
+        }
+      }
+
+      long[] sorted = Arrays.copyOf(reachable, count);
+      Arrays.sort(sorted);
+      summary = new WebswingLatencySummary(sorted, size - count, breached);
+    }
+
+    return summary;
+  }
+}
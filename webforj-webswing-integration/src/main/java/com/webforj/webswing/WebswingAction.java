@@ -0,0 +1,188 @@
+package com.webforj.webswing;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.webforj.webswing.protocol.ActionNames;
+
+/**
+ * Describes a single action to be performed on the Webswing instance.
+ *
+ * <p>
+ * Actions are immutable and can be collected and sent together using
+ * {@link WebswingConnector#performActions(java.util.List)}.
+ * </p>
+ *
+ * <p>
+ * The connector routes actions by adding the channel of a shared connection before the name,
+ * separated by a {@code /}, and the correlation id of a request after it, separated by a
+ * {@code #}. Action names must therefore not contain these characters, creating such an action
+ * throws an {@link IllegalArgumentException}.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class WebswingAction {
+  private final String actionName;
+  private final String data;
+  private final byte[] binaryData;
+
+  /**
+   * Creates a new action.
+   *
+   * @param actionName the name of the action
+   * @param data the data to send to the server
+   * @param binaryData the binary data to send to the server, encoded as UTF-8
+   */
+  public WebswingAction(String actionName, String data, String binaryData) {
+    this(actionName, data,
+        binaryData != null ? binaryData.getBytes(StandardCharsets.UTF_8) : null);
+  }
+
+  /**
+   * Creates a new action.
+   *
+   * @param actionName the name of the action
+   * @param data the data to send to the server
+   */
+  public WebswingAction(String actionName, String data) {
+    this(actionName, data, "");
+  }
+
+  /**
+   * Creates a new action.
+   *
+   * @param actionName the name of the action
+   */
+  public WebswingAction(String actionName) {
+    this(actionName, "");
+  }
+
+  // Takes ownership of the given array
+  private WebswingAction(String actionName, String data, byte[] binaryData) {
+    if (actionName == null) {
+      throw new IllegalArgumentException("The action name must not be null");
+    }
+
+    this.actionName = ActionNames.check(actionName);
+    this.data = data;
+    this.binaryData = binaryData;
+  }
+
+  /**
+   * Creates a new action carrying raw binary data.
+   *
+   * @param actionName the name of the action
+   * @param data the data to send to the server
+   * @param binaryData the binary data to send to the server, copied
+   * @return the action
+   */
+  public static WebswingAction ofBinary(String actionName, String data, byte[] binaryData) {
+    return wrap(actionName, data, binaryData != null ? binaryData.clone() : null);
+  }
+
+  /**
+   * Creates a new action carrying raw binary data.
+   *
+   * <p>
+   * The remaining bytes of the buffer are copied, the position of the given buffer is not
+   * modified.
+   * </p>
+   *
+   * @param actionName the name of the action
+   * @param data the data to send to the server
+   * @param binaryData the binary data to send to the server
+   * @return the action
+   */
+  public static WebswingAction ofBinary(String actionName, String data, ByteBuffer binaryData) {
+    return wrap(actionName, data, toBytes(binaryData));
+  }
+
+  /**
+   * Creates a new action taking ownership of the given array, which must not be modified later.
+   *
+   * @param actionName the name of the action
+   * @param data the data to send to the server
+   * @param binaryData the binary data to send to the server
+   * @return the action
+   */
+  static WebswingAction wrap(String actionName, String data, byte[] binaryData) {
+    return new WebswingAction(actionName, data, binaryData);
+  }
+
+  /**
+   * Gets the action name.
+   *
+   * @return the action name
+   */
+  public String getActionName() {
+    return actionName;
+  }
+
+  /**
+   * Gets the data.
+   *
+   * @return the data
+   */
+  public String getData() {
+    return data;
+  }
+
+  /**
+   * Gets a copy of the binary data.
+   *
+   * @return the binary data or null if no binary data is set
+   */
+  public byte[] getBinaryData() {
+    return binaryData != null ? binaryData.clone() : null;
+  }
+
+  /**
+   * Checks whether the action carries binary data.
+   *
+   * @return true if the binary data is set and not empty
+   */
+  boolean hasBinaryData() {
+    return binaryData != null && binaryData.length > 0;
+  }
+
+  /**
+   * Gets the binary data encoded in Base64 as expected by the client.
+   *
+   * @return the encoded binary data or null if no binary data is set
+   */
+  String getBinaryDataBase64() {
+    if (binaryData == null) {
+      return null;
+    }
+
+    return Base64.getEncoder().encodeToString(binaryData);
+  }
+
+  /**
+   * Converts the action to the structure expected by the client.
+   *
+   * @return the action as a map
+   */
+  Map<String, Object> toClientMap() {
+    Map<String, Object> map = new LinkedHashMap<>();
+    map.put("actionName", actionName);
+    map.put("data", data);
+    map.put("binaryDataBase64", getBinaryDataBase64());
+    return map;
+  }
+
+  private static byte[] toBytes(ByteBuffer buffer) {
+    if (buffer == null) {
+      return null;
+    }
+
+    ByteBuffer source = buffer.duplicate();
+    byte[] bytes = new byte[source.remaining()];
+    source.get(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,40 @@
+package com.webforj.webswing;
+
+import com.webforj.webswing.protocol.ActionCompression;
+
+/**
+ * Compresses the actions the connector sends to the Swing application.
+ *
+ * <p>
+ * The actions are wrapped in the envelope of {@link ActionCompression}, shared with the
+ * {@code webforj-webswing-bridge} which inflates them on the Swing side. The connector compresses
+ * its actions according to {@link WebswingConnectorOptions#setCompressionThreshold(int)} and
+ * inflates the compressed actions of the Swing application whatever the threshold.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+final class WebswingActionCompression {
+
+  private WebswingActionCompression() {}
+
+  /**
+   * Compresses the given action if its data reaches the threshold and deflating makes it smaller.
+   *
+   * @param action the action
+   * @param threshold the minimum size of the data in bytes, 0 or less disables the compression
+   * @return the compressed action or the given action
+   */
+  static WebswingAction compress(WebswingAction action, int threshold) {
+    if (action.hasBinaryData()) {
+      return action;
+    }
+
+    byte[] deflated = ActionCompression.deflate(action.getData(), threshold);
+    if (deflated == null) {
+      return action;
+    }
+
+    return WebswingAction.wrap(action.getActionName(), ActionCompression.MARKER, deflated);
+  }
+}
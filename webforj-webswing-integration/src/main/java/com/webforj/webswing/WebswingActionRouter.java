@@ -0,0 +1,105 @@
+package com.webforj.webswing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.webforj.dispatcher.EventDispatcher;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.webswing.event.WebswingConnectorActionEvent;
+
+/**
+ * Routes the action events of a connector to the listeners registered for the action name.
+ *
+ * @author Hyyan Abo Fakher
+ */
+final class WebswingActionRouter {
+  private final EventDispatcher catchAll = new EventDispatcher();
+  private final Map<String, EventDispatcher> routes = new HashMap<>();
+  private final Runnable removed;
+
+  /**
+   * Creates a new router.
+   *
+   * @param removed called after a listener was removed through its registration
+   */
+  WebswingActionRouter(Runnable removed) {
+    this.removed = removed;
+  }
+
+  /**
+   * Adds a listener which receives all actions.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  ListenerRegistration<WebswingConnectorActionEvent> addListener(
+      EventListener<WebswingConnectorActionEvent> listener) {
+    return register(catchAll, listener);
+  }
+
+  /**
+   * Adds a listener which receives only the actions with the given name.
+   *
+   * @param actionName the action name
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  ListenerRegistration<WebswingConnectorActionEvent> addListener(String actionName,
+      EventListener<WebswingConnectorActionEvent> listener) {
+    if (actionName == null) {
+      throw new IllegalArgumentException("The action name must not be null");
+    }
+
+    return register(routes.computeIfAbsent(actionName, key -> new EventDispatcher()), listener);
+  }
+
+  /**
+   * Dispatches the given event to the catch-all listeners and to the listeners of its action.
+   *
+   * @param event the event
+   */
+  void dispatch(WebswingConnectorActionEvent event) {
+    catchAll.dispatchEvent(event);
+
+    EventDispatcher route = routes.get(event.getActionName());
+    if (route != null) {
+      route.dispatchEvent(event);
+    }
+  }
+
+  /**
+   * Gets the names of the actions which have at least one listener.
+   *
+   * <p>
+   * Routes whose listeners were all removed are pruned while computing the list.
+   * </p>
+   *
+   * @return the sorted action names or null if a catch-all listener is registered
+   */
+  List<String> getSubscribedActions() {
+    routes.values().removeIf(route -> route.getCount(WebswingConnectorActionEvent.class) == 0);
+    if (catchAll.getCount(WebswingConnectorActionEvent.class) > 0) {
+      return null;
+    }
+
+    List<String> names = new ArrayList<>(routes.keySet());
+    Collections.sort(names);
+    return names;
+  }
+
+  private ListenerRegistration<WebswingConnectorActionEvent> register(EventDispatcher dispatcher,
+      EventListener<WebswingConnectorActionEvent> listener) {
+    dispatcher.addListener(WebswingConnectorActionEvent.class, listener);
+    return new ListenerRegistration<>(dispatcher, WebswingConnectorActionEvent.class, listener) {
+      @Override
+      public void remove() {
+        super.remove();
+        removed.run();
+      }
+    };
+  }
+}
@@ -0,0 +1,435 @@
+package com.webforj.webswing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+
+import com.webforj.dispatcher.EventDispatcher;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.webswing.event.WebswingActionStreamProgressEvent;
+
+/**
+ * A stream of bytes sent by the Webswing instance in chunks.
+ *
+ * <p>
+ * The sender splits the payload into chunks and keeps only a limited window of chunks
+ * unacknowledged. The connector acknowledges a chunk only once it has been handed to the consumer
+ * of the stream, so a slow consumer throttles the sender instead of the whole payload being
+ * buffered in memory.
+ * </p>
+ *
+ * <p>
+ * A stream has exactly one consumer which is either an {@link InputStream} obtained with
+ * {@link #getInputStream()} or a {@link Flow.Subscriber} passed to
+ * {@link #subscribe(Flow.Subscriber)}. The input stream is blocking and must be read outside the
+ * thread which delivers the connector events, subscribers are notified on the thread which
+ * delivers the chunk or requests more items.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class WebswingActionStream implements Flow.Publisher<ByteBuffer> {
+
+  private enum Consumer {
+    NONE, INPUT_STREAM, SUBSCRIBER, DISCARD
+  }
+
+  private enum State {
+    OPEN, COMPLETED, FAILED
+  }
+
+  private final String id;
+  private final String name;
+  private final long size;
+  private final EventDispatcher dispatcher = new EventDispatcher();
+  private final Object lock = new Object();
+  private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+  private long receivedBytes = 0;
+  private int consumedChunks = 0;
+  private int acknowledgedChunks = 0;
+  private State state = State.OPEN;
+  private String failure = null;
+  private Consumer consumer = Consumer.NONE;
+  private Flow.Subscriber<? super ByteBuffer> subscriber;
+  private long demand = 0;
+  private boolean terminated = false;
+  private boolean draining = false;
+  private boolean drainRequested = false;
+
+  WebswingActionStream(String id, String name, long size) {
+    this.id = id;
+    this.name = name;
+    this.size = size;
+  }
+
+  /**
+   * Gets the id of the stream.
+   *
+   * @return the stream id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the name of the stream as given by the sender.
+   *
+   * @return the stream name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the total size of the stream as announced by the sender.
+   *
+   * @return the size in bytes or -1 if unknown
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Gets the number of bytes received so far.
+   *
+   * @return the number of bytes received
+   */
+  public long getReceivedBytes() {
+    synchronized (lock) {
+      return receivedBytes;
+    }
+  }
+
+  /**
+   * Checks whether the sender finished sending the stream.
+   *
+   * @return true if all chunks were received
+   */
+  public boolean isCompleted() {
+    synchronized (lock) {
+      return state == State.COMPLETED;
+    }
+  }
+
+  /**
+   * Checks whether the sender aborted the stream.
+   *
+   * @return true if the stream was aborted
+   */
+  public boolean isFailed() {
+    synchronized (lock) {
+      return state == State.FAILED;
+    }
+  }
+
+  /**
+   * Gets an input stream which reads the bytes of the stream.
+   *
+   * <p>
+   * Reading blocks until the next chunk arrives. Closing the input stream before the end is
+   * reached discards the remaining chunks.
+   * </p>
+   *
+   * @return the input stream
+   * @throws IllegalStateException if the stream already has a consumer
+   */
+  public InputStream getInputStream() {
+    synchronized (lock) {
+      attach(Consumer.INPUT_STREAM);
+    }
+
+    return new ChunkInputStream();
+  }
+
+  /**
+   * Subscribes to the chunks of the stream.
+   *
+   * @param subscriber the subscriber
+   * @throws IllegalStateException if the stream already has a consumer
+   */
+  @Override
+  public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("The subscriber must not be null");
+    }
+
+    synchronized (lock) {
+      attach(Consumer.SUBSCRIBER);
+      this.subscriber = subscriber;
+    }
+
+    subscriber.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(long n) {
+        if (n <= 0) {
+          cancel();
+          subscriber.onError(new IllegalArgumentException("The requested count must be positive"));
+          return;
+        }
+
+        synchronized (lock) {
+          demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+
+        drain();
+      }
+
+      @Override
+      public void cancel() {
+        WebswingActionStream.this.cancel();
+      }
+    });
+
+    drain();
+  }
+
+  /**
+   * Discards the remaining chunks of the stream.
+   */
+  public void cancel() {
+    synchronized (lock) {
+      consumer = Consumer.DISCARD;
+      consumedChunks += chunks.size();
+      chunks.clear();
+      terminated = true;
+      lock.notifyAll();
+    }
+  }
+
+  /**
+   * Adds a listener which is notified every time a chunk is received.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingActionStreamProgressEvent> addProgressListener(
+      EventListener<WebswingActionStreamProgressEvent> listener) {
+    return dispatcher.addListener(WebswingActionStreamProgressEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addProgressListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingActionStreamProgressEvent> onProgress(
+      EventListener<WebswingActionStreamProgressEvent> listener) {
+    return addProgressListener(listener);
+  }
+
+  void accept(byte[] chunk) {
+    long received;
+    synchronized (lock) {
+      if (state != State.OPEN) {
+        return;
+      }
+
+      receivedBytes += chunk.length;
+      received = receivedBytes;
+      if (consumer == Consumer.DISCARD) {
+        consumedChunks++;
+      } else {
+        chunks.add(chunk);
+        lock.notifyAll();
+      }
+    }
+
+    dispatcher.dispatchEvent(new WebswingActionStreamProgressEvent(this, received, size));
+    drain();
+  }
+
+  void complete() {
+    synchronized (lock) {
+      if (state == State.OPEN) {
+        state = State.COMPLETED;
+        lock.notifyAll();
+      }
+    }
+
+    drain();
+  }
+
+  void fail(String reason) {
+    synchronized (lock) {
+      if (state == State.OPEN) {
+        state = State.FAILED;
+        failure = reason != null ? reason : "The stream was aborted by the sender";
+        chunks.clear();
+        lock.notifyAll();
+      }
+    }
+
+    drain();
+  }
+
+  /**
+   * Discards the stream if no consumer was attached while it was announced.
+   */
+  void discardIfUnconsumed() {
+    synchronized (lock) {
+      if (consumer == Consumer.NONE) {
+        cancel();
+      }
+    }
+  }
+
+  /**
+   * Gets the number of consumed chunks that still need to be acknowledged to the sender.
+   *
+   * @return the total number of consumed chunks or -1 if there is nothing new to acknowledge
+   */
+  int takeAcknowledgement() {
+    synchronized (lock) {
+      if (consumedChunks <= acknowledgedChunks) {
+        return -1;
+      }
+
+      acknowledgedChunks = consumedChunks;
+      return consumedChunks;
+    }
+  }
+
+  private void attach(Consumer requested) {
+    if (consumer != Consumer.NONE) {
+      throw new IllegalStateException("The stream '" + id + "' already has a consumer");
+    }
+
+    consumer = requested;
+  }
+
+  private void drain() {
+    synchronized (lock) {
+      if (consumer != Consumer.SUBSCRIBER) {
+        return;
+      }
+
+      if (draining) {
+        drainRequested = true;
+        return;
+      }
+
+      draining = true;
+    }
+
+    while (true) {
+      byte[] next = null;
+      boolean finish = false;
+      String error = null;
+
+      synchronized (lock) {
+        if (terminated) {
+          draining = false;
+          return;
+        }
+
+        if (demand > 0 && !chunks.isEmpty()) {
+          next = chunks.poll();
+          demand--;
+          consumedChunks++;
+        } else if (chunks.isEmpty() && state != State.OPEN) {
+          finish = true;
+          error = failure;
+          terminated = true;
+        } else if (drainRequested) {
+          drainRequested = false;
+          continue;
+        } else {
+          draining = false;
+          return;
+        }
+      }
+
+      if (next != null) {
+        subscriber.onNext(ByteBuffer.wrap(next).asReadOnlyBuffer());
+      } else if (finish) {
+        if (error != null) {
+          subscriber.onError(new IOException(error));
+        } else {
+          subscriber.onComplete();
+        }
+      }
+    }
+  }
+
+  private final class ChunkInputStream extends InputStream {
+    private byte[] current = null;
+    private int position = 0;
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      int count = read(single, 0, 1);
+      return count == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      if (length == 0) {
+        return 0;
+      }
+
+      if (current == null && !nextChunk()) {
+        return -1;
+      }
+
+      int count = Math.min(length, current.length - position);
+      System.arraycopy(current, position, buffer, offset, count);
+      position += count;
+      if (position == current.length) {
+        current = null;
+        position = 0;
+      }
+
+      return count;
+    }
+
+    @Override
+    public int available() {
+      synchronized (lock) {
+        int count = current != null ? current.length - position : 0;
+        for (byte[] chunk : chunks) {
+          count += chunk.length;
+        }
+
+        return count;
+      }
+    }
+
+    @Override
+    public void close() {
+      current = null;
+      cancel();
+    }
+
+    private boolean nextChunk() throws IOException {
+      synchronized (lock) {
+        while (chunks.isEmpty()) {
+          if (state == State.FAILED) {
+            throw new IOException(failure);
+          }
+
+          if (state == State.COMPLETED || consumer == Consumer.DISCARD) {
+            return false;
+          }
+
+          try {
+            lock.wait();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the next chunk");
+          }
+        }
+
+        current = chunks.poll();
+        position = 0;
+        consumedChunks++;
+        return true;
+      }
+    }
+  }
+}
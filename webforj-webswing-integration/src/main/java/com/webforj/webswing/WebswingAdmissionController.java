@@ -0,0 +1,254 @@
+package com.webforj.webswing;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Caps the number of Swing applications starting at the same time across the whole application.
+ *
+ * <p>
+ * Every connector asks for a ticket before starting its Swing application. Tickets are admitted
+ * in the order they were requested as long as fewer than the maximum number of starts are in
+ * progress, the other tickets wait in a queue. A start is in progress from the admission of its
+ * ticket until the Swing application is started, the connector is destroyed or the start timeout
+ * elapses. Queued tickets which are not polled within the queue timeout are dropped, which happens
+ * when the browser went away without the connector being destroyed.
+ * </p>
+ *
+ * <p>
+ * The controller does not run any thread. It is thread safe and meant to be shared by all the
+ * sessions of the application.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ *
+ * @see WebswingConnector#setDefaultAdmissionController(WebswingAdmissionController)
+ */
+public final class WebswingAdmissionController {
+  private final Object lock = new Object();
+  private final ArrayDeque<Ticket> queue = new ArrayDeque<>();
+  private final Set<Ticket> inProgress = new HashSet<>();
+  private final int maxConcurrentStarts;
+  private final long startTimeout;
+  private final long queueTimeout;
+
+  /**
+   * Creates a new admission controller with a start timeout of 60 seconds and a queue timeout of
+   * 90 seconds.
+   *
+   * @param maxConcurrentStarts the maximum number of starts in progress
+   */
+  public WebswingAdmissionController(int maxConcurrentStarts) {
+    this(maxConcurrentStarts, Duration.ofSeconds(60), Duration.ofSeconds(90));
+  }
+
+  /**
+   * Creates a new admission controller.
+   *
+   * @param maxConcurrentStarts the maximum number of starts in progress
+   * @param startTimeout the time after which an admitted start no longer counts as in progress
+   * @param queueTimeout the time after which a queued ticket which was not polled is dropped
+   */
+  public WebswingAdmissionController(int maxConcurrentStarts, Duration startTimeout,
+      Duration queueTimeout) {
+    if (maxConcurrentStarts <= 0) {
+      throw new IllegalArgumentException("The maximum number of concurrent starts must be positive");
+    }
+
+    this.maxConcurrentStarts = maxConcurrentStarts;
+    this.startTimeout = startTimeout.toNanos();
+    this.queueTimeout = queueTimeout.toNanos();
+  }
+
+  /**
+   * Requests a ticket to start a Swing application. The ticket is admitted right away if a start
+   * slot is free, otherwise it is queued.
+   *
+   * @return the ticket
+   */
+  public Ticket request() {
+    synchronized (lock) {
+      long now = System.nanoTime();
+      Ticket ticket = new Ticket(now);
+      queue.addLast(ticket);
+      update(now);
+      return ticket;
+    }
+  }
+
+  /**
+   * Gets the maximum number of starts in progress.
+   *
+   * @return the maximum number of starts
+   */
+  public int getMaxConcurrentStarts() {
+    return maxConcurrentStarts;
+  }
+
+  /**
+   * Gets the number of starts in progress.
+   *
+   * @return the number of admitted tickets which were not released yet
+   */
+  public int getInProgressCount() {
+    synchronized (lock) {
+      update(System.nanoTime());
+      return inProgress.size();
+    }
+  }
+
+  /**
+   * Gets the number of tickets waiting for admission.
+   *
+   * @return the length of the queue
+   */
+  public int getQueueLength() {
+    synchronized (lock) {
+      update(System.nanoTime());
+      return queue.size();
+    }
+  }
+
+  private void update(long now) {
+    Iterator<Ticket> admitted = inProgress.iterator();
+    while (admitted.hasNext()) {
+      Ticket ticket = admitted.next();
+      if (now - ticket.admittedAt > startTimeout) {
+        ticket.state = Ticket.State.RELEASED;
+        admitted.remove();
+      }
+    }
+
+    Iterator<Ticket> queued = queue.iterator();
+    while (queued.hasNext()) {
+      Ticket ticket = queued.next();
+      if (now - ticket.lastPolled > queueTimeout) {
+        ticket.state = Ticket.State.RELEASED;
+        queued.remove();
+      }
+    }
+
+    while (inProgress.size() < maxConcurrentStarts && !queue.isEmpty()) {
+      Ticket ticket = queue.pollFirst();
+      ticket.state = Ticket.State.ADMITTED;
+      ticket.admittedAt = now;
+      inProgress.add(ticket);
+    }
+  }
+
+  /**
+   * The right to start a Swing application.
+   */
+  public final class Ticket {
+
+    /**
+     * The state of a ticket.
+     */
+    public enum State {
+      /**
+       * The ticket waits in the queue.
+       */
+      QUEUED,
+      /**
+       * The ticket was admitted, its start is in progress.
+       */
+      ADMITTED,
+      /**
+       * The ticket was released or dropped, it no longer counts.
+       */
+      RELEASED
+    }
+
+    private final long requestedAt;
+    private long lastPolled;
+    private long admittedAt;
+    private State state = State.QUEUED;
+
+    private Ticket(long now) {
+      this.requestedAt = now;
+      this.lastPolled = now;
+    }
+
+    /**
+     * Keeps a queued ticket in the queue and checks whether it was admitted meanwhile.
+     *
+     * @return the state of the ticket
+     */
+    public State poll() {
+      synchronized (lock) {
+        long now = System.nanoTime();
+        if (state == State.QUEUED) {
+          lastPolled = now;
+        }
+
+        update(now);
+        return state;
+      }
+    }
+
+    /**
+     * Gets the state of the ticket.
+     *
+     * @return the state
+     */
+    public State getState() {
+      synchronized (lock) {
+        return state;
+      }
+    }
+
+    /**
+     * Gets the position of the ticket in the queue.
+     *
+     * @return the position starting at 1, or 0 if the ticket is not queued
+     */
+    public int getPosition() {
+      synchronized (lock) {
+        if (state != State.QUEUED) {
+          return 0;
+        }
+
+        int position = 1;
+        for (Ticket ticket : queue) {
+          if (ticket == this) {
+            return position;
+          }
+          position++;
+        }
+
+        return 0;
+      }
+    }
+
+    /**
+     * Gets the time the ticket waited for admission.
+     *
+     * @return the time in milliseconds, up to now if the ticket is still queued
+     */
+    public long getWaitTime() {
+      synchronized (lock) {
+        long end = state == State.QUEUED ? System.nanoTime() : admittedAt;
+        return Math.max(0, end - requestedAt) / 1_000_000;
+      }
+    }
+
+    /**
+     * Releases the ticket, freeing its start slot or its place in the queue.
+     */
+    public void release() {
+      synchronized (lock) {
+        if (state == State.RELEASED) {
+          return;
+        }
+
+        queue.remove(this);
+        inProgress.remove(this);
+        state = State.RELEASED;
+        update(System.nanoTime());
+      }
+    }
+  }
+}
@@ -1,8 +1,18 @@
 package com.webforj.webswing;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.webforj.Page;
 import com.webforj.annotation.Attribute;
 import com.webforj.annotation.JavaScript;
 import com.webforj.component.element.ElementComposite;
@@ -11,21 +21,72 @@ import com.webforj.component.element.annotation.NodeName;
 import com.webforj.concern.HasClassName;
 import com.webforj.concern.HasSize;
 import com.webforj.concern.HasStyle;
+import com.webforj.dispatcher.EventDispatcher;
 import com.webforj.dispatcher.EventListener;
 import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.webswing.codec.WebswingActionCodec;
+import com.webforj.webswing.codec.WebswingCodecRegistry;
+import com.webforj.webswing.event.WebswingConnectorAdmissionEvent;
+import com.webforj.webswing.event.WebswingConnectorBandwidthSaverEvent;
 import com.webforj.webswing.event.WebswingConnectorInitializedEvent;
+import com.webforj.webswing.event.WebswingConnectorLatencyEvent;
+import com.webforj.webswing.event.WebswingConnectorQueuedEvent;
+import com.webforj.webswing.event.WebswingConnectorReconnectEvent;
+import com.webforj.webswing.event.WebswingConnectorResumedEvent;
 import com.webforj.webswing.event.WebswingConnectorStartedEvent;
+import com.webforj.webswing.event.WebswingConnectorStreamEvent;
+import com.webforj.webswing.event.WebswingConnectorStreamOpenedEvent;
+import com.webforj.webswing.event.WebswingConnectorSuspendedEvent;
 import com.webforj.webswing.event.WebswingConnectorActionEvent;
+import com.webforj.webswing.event.WebswingTypedActionListener;
+import com.webforj.webswing.metrics.WebswingMetrics;
+import com.webforj.webswing.pool.WebswingServerPool;
+import com.webforj.webswing.protocol.ActionNames;
 
-@JavaScript(value = "ws://webswing-connector.js",
+@JavaScript(value = WebswingConnector.CLIENT_SCRIPT,
     attributes = {@Attribute(name = "type", value = "module")})
 @NodeName("webswing-connector")
 public class WebswingConnector extends ElementComposite implements HasSize<WebswingConnector>,
     HasStyle<WebswingConnector>, HasClassName<WebswingConnector> {
+  static final String CLIENT_SCRIPT = "ws://webswing-connector.js";
+  static final String STREAM_ACK_ACTION = "webswing-stream-ack";
+  static final int LATENCY_WINDOW_SIZE = 120;
 
   private PropertyDescriptor<String> urlProp = PropertyDescriptor.property("url", "");
-  private PropertyDescriptor<WebswingConnectorOptions> optionsProp =
-      PropertyDescriptor.property("options", null);
+  private PropertyDescriptor<String> optionsJsonProp =
+      PropertyDescriptor.property("optionsJson", null);
+  private WebswingConnectorOptions options = null;
+  private JsonObject sentOptions = null;
+  private final List<WebswingAction> pendingActions = new ArrayList<>();
+  private int batchDepth = 0;
+  private final EventDispatcher streamDispatcher = new EventDispatcher();
+  private final Map<String, WebswingActionStream> streams = new HashMap<>();
+  private ListenerRegistration<WebswingConnectorStreamEvent> streamRegistration;
+  private PropertyDescriptor<List<String>> subscribedActionsProp =
+      PropertyDescriptor.property("subscribedActions", null);
+  private final WebswingActionRouter actionRouter =
+      new WebswingActionRouter(this::updateSubscribedActions);
+  private ListenerRegistration<WebswingConnectorActionEvent> actionRegistration;
+  private List<String> subscribedActions = null;
+  private final Map<String, CompletableFuture<WebswingConnectorActionEvent>> pendingRequests =
+      new HashMap<>();
+  private long requestSequence = 0;
+  private final Map<String, Long> requestStartTimes = new HashMap<>();
+  private static volatile WebswingMetrics defaultMetrics = WebswingMetrics.NOOP;
+  private WebswingMetrics metrics = null;
+  private PropertyDescriptor<Boolean> latencyTelemetryProp =
+      PropertyDescriptor.property("latencyTelemetry", false);
+  private ListenerRegistration<WebswingConnectorLatencyEvent> latencyRegistration;
+  private final LatencyWindow latencyWindow = new LatencyWindow(LATENCY_WINDOW_SIZE);
+  private static volatile WebswingAdmissionController defaultAdmissionController = null;
+  private WebswingAdmissionController admissionController = null;
+  private WebswingAdmissionController.Ticket admissionTicket;
+  private PropertyDescriptor<Boolean> admissionControlProp =
+      PropertyDescriptor.property("admissionControl", false);
+  private ListenerRegistration<WebswingConnectorAdmissionEvent> admissionRegistration;
+  private final EventDispatcher admissionDispatcher = new EventDispatcher();
+  private WebswingServerPool.Lease serverLease = null;
+  private WebswingCodecRegistry codecs = null;
 
   /**
    * Creates a new instance of the webswing connector.
@@ -34,9 +95,26 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
    * @param autoStart whether to start the webswing server automatically
    */
   public WebswingConnector(String url, boolean autoStart) {
+    this(url, new WebswingConnectorOptions().setAutoStart(autoStart));
+  }
+
+  /**
+   * Creates a new instance of the webswing connector.
+   *
+   * @param url the url of the webswing server
+   * @param options the options of the webswing connector
+   */
+  public WebswingConnector(String url, WebswingConnectorOptions options) {
     super();
     setUrl(url);
-    setOptions(new WebswingConnectorOptions().setAutoStart(autoStart));
+    setOptions(options);
+    addInitializedListener(this::recordInitialized);
+    addStartedListener(this::recordStarted);
+    addReconnectListener(this::recordReconnect);
+    addSuspendedListener(event -> getMetrics().increment(WebswingMetrics.SUSPENDED, this));
+    addResumedListener(event -> getMetrics().record(WebswingMetrics.SUSPENDED_TIME,
+        event.getSuspendedTime(), this));
+    updateAdmissionControl();
   }
 
   /**
@@ -48,6 +126,164 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
     this(url, true);
   }
 
+  /**
+   * Creates a new instance of the webswing connector connected to a server of the given pool.
+   *
+   * <p>
+   * The server is picked by the pool when the connector is created and its lease is released when
+   * the connector is destroyed or its url is changed.
+   * </p>
+   *
+   * @param pool the pool of webswing servers
+   * @param key the key of the sticky strategy of the pool, for instance the name of the user, can
+   *        be null
+   * @param options the options of the webswing connector
+   */
+  public WebswingConnector(WebswingServerPool pool, String key, WebswingConnectorOptions options) {
+    this(pool.acquire(key), options);
+  }
+
+  /**
+   * Creates a new instance of the webswing connector connected to a server of the given pool.
+   *
+   * @param pool the pool of webswing servers
+   * @param key the key of the sticky strategy of the pool, for instance the name of the user, can
+   *        be null
+   */
+  public WebswingConnector(WebswingServerPool pool, String key) {
+    this(pool, key, new WebswingConnectorOptions());
+  }
+
+  private WebswingConnector(WebswingServerPool.Lease lease, WebswingConnectorOptions options) {
+    this(lease.getUrl(), options);
+    this.serverLease = lease;
+  }
+
+  /**
+   * Starts loading the Webswing API of the given server in the browser of the current page.
+   *
+   * <p>
+   * Calling this method as soon as a view is built lets the browser fetch the API while the rest of
+   * the page is created. All connectors pointing to the same url share the loaded API, so it is
+   * fetched only once per page.
+   * </p>
+   *
+   * @param url the url of the webswing server
+   * @throws IllegalStateException if called outside of a page, e.g. from a background thread
+   */
+  public static void preload(String url) {
+    if (url == null || url.isEmpty()) {
+      return;
+    }
+
+    Page page = Page.getCurrent();
+    if (page == null) {
+      throw new IllegalStateException("The Webswing API can only be preloaded for a page");
+    }
+
+    page.addJavaScript(CLIENT_SCRIPT, true, Map.of("type", "module"));
+    page.executeJsVoidAsync("customElements.whenDefined('webswing-connector').then(function() {"
+        + "customElements.get('webswing-connector').preload(" + toJsString(url) + ");});");
+  }
+
+  /**
+   * Sets the metrics used by all connectors which have no metrics of their own.
+   *
+   * <p>
+   * The default metrics are shared by all the sessions of the application, which makes them the
+   * place to aggregate the metrics app-wide. The metrics are ignored by default.
+   * </p>
+   *
+   * @param metrics the metrics or null to ignore the metrics
+   * @see com.webforj.webswing.metrics.SimpleWebswingMetrics
+   */
+  public static void setDefaultMetrics(WebswingMetrics metrics) {
+    defaultMetrics = metrics != null ? metrics : WebswingMetrics.NOOP;
+  }
+
+  /**
+   * Gets the metrics used by all connectors which have no metrics of their own.
+   *
+   * @return the default metrics
+   */
+  public static WebswingMetrics getDefaultMetrics() {
+    return defaultMetrics;
+  }
+
+  /**
+   * Sets the metrics of this connector.
+   *
+   * @param metrics the metrics or null to use the {@link #getDefaultMetrics() default metrics}
+   * @return the component itself
+   */
+  public WebswingConnector setMetrics(WebswingMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  /**
+   * Gets the metrics this connector records to.
+   *
+   * @return the metrics of the connector or the default metrics if none is set
+   */
+  public WebswingMetrics getMetrics() {
+    return metrics != null ? metrics : defaultMetrics;
+  }
+
+  /**
+   * Sets the admission controller used by all connectors which have no admission controller of
+   * their own.
+   *
+   * <p>
+   * Only the connectors created after the call pick up the new default.
+   * </p>
+   *
+   * @param controller the admission controller or null to start the Swing applications without
+   *        admission
+   */
+  public static void setDefaultAdmissionController(WebswingAdmissionController controller) {
+    defaultAdmissionController = controller;
+  }
+
+  /**
+   * Gets the admission controller used by all connectors which have no admission controller of
+   * their own.
+   *
+   * @return the default admission controller or null if none is set
+   */
+  public static WebswingAdmissionController getDefaultAdmissionController() {
+    return defaultAdmissionController;
+  }
+
+  /**
+   * Sets the admission controller of this connector.
+   *
+   * <p>
+   * With an admission controller, the client asks the server for admission every time it is about
+   * to start the Swing application, and waits while the start is queued. The waiting client polls
+   * the server so each session is admitted from its own requests.
+   * </p>
+   *
+   * @param controller the admission controller or null to use the
+   *        {@link #getDefaultAdmissionController() default admission controller}
+   * @return the component itself
+   */
+  public WebswingConnector setAdmissionController(WebswingAdmissionController controller) {
+    this.admissionController = controller;
+    updateAdmissionControl();
+    return this;
+  }
+
+  /**
+   * Gets the admission controller this connector asks before starting the Swing application.
+   *
+   * @return the admission controller of the connector, the default admission controller or null
+   *         if the Swing application starts without admission
+   */
+  public WebswingAdmissionController getAdmissionController() {
+    return admissionController != null ? admissionController : defaultAdmissionController;
+  }
+
   /**
    * Sets the url of the webswing server.
    *
@@ -55,6 +291,10 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
    * @return the component itself
    */
   public WebswingConnector setUrl(String url) {
+    if (serverLease != null && !serverLease.getUrl().equals(url)) {
+      releaseServerLease();
+    }
+
     set(urlProp, url);
     return this;
   }
@@ -68,14 +308,61 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
     return get(urlProp);
   }
 
+  /**
+   * Gets the lease of the server picked by the pool of the connector.
+   *
+   * @return the lease or null if the connector was not created with a pool or its url was changed
+   *         since
+   */
+  public WebswingServerPool.Lease getServerLease() {
+    return serverLease;
+  }
+
   /**
    * Sets the options of the webswing connector.
    *
+   * <p>
+   * The first options are sent to the client as a whole, later calls only send the top level
+   * options which changed and the client updates its options property from them, so a re-created
+   * element still gets the current options. Options changed after they were set are not picked up
+   * until they are set again. Prefer {@link WebswingConnectorOptions#toImmutable() immutable
+   * options} when many connectors share the same options, they are serialized only once.
+   * </p>
+   *
    * @param options the options of the webswing connector
    * @return the component itself
    */
   public WebswingConnector setOptions(WebswingConnectorOptions options) {
-    set(optionsProp, options);
+    this.options = options;
+
+    if (options == null) {
+      sentOptions = null;
+      set(optionsJsonProp, null);
+      return this;
+    }
+
+    JsonObject tree = options.toJsonTree();
+    if (sentOptions == null) {
+      set(optionsJsonProp, options.isImmutable() ? options.toJson() : tree.toString());
+    } else if (!tree.equals(sentOptions)) {
+      JsonObject patch = new JsonObject();
+      List<String> removed = new ArrayList<>();
+      for (Map.Entry<String, JsonElement> entry : tree.entrySet()) {
+        if (!entry.getValue().equals(sentOptions.get(entry.getKey()))) {
+          patch.add(entry.getKey(), entry.getValue());
+        }
+      }
+      for (String key : sentOptions.keySet()) {
+        if (!tree.has(key)) {
+          removed.add(key);
+        }
+      }
+
+      // the client writes the patched options back to its options property
+      callClient("patchOptions", patch.toString(), removed);
+    }
+
+    sentOptions = tree;
     return this;
   }
 
@@ -85,7 +372,33 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
    * @return the options of the webswing connector
    */
   public WebswingConnectorOptions getOptions() {
-    return get(optionsProp);
+    return options;
+  }
+
+  /**
+   * Sets the registry of the codecs used by the typed actions of the connector.
+   *
+   * <p>
+   * Typed listeners resolve their codec when they are added, set the registry before adding
+   * them.
+   * </p>
+   *
+   * @param codecs the registry or null to use the {@link WebswingCodecRegistry#getDefault()
+   *        default registry}
+   * @return the component itself
+   */
+  public WebswingConnector setCodecs(WebswingCodecRegistry codecs) {
+    this.codecs = codecs;
+    return this;
+  }
+
+  /**
+   * Gets the registry of the codecs used by the typed actions of the connector.
+   *
+   * @return the registry
+   */
+  public WebswingCodecRegistry getCodecs() {
+    return codecs != null ? codecs : WebswingCodecRegistry.getDefault();
   }
 
   /**
@@ -99,12 +412,41 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
    * @return the component itself
    */
   public WebswingConnector start() {
-    getElement().callJsFunctionVoidAsync("start");
+    callClient("start");
     return this;
   }
 
   /**
-   * Perform an action that triggers server-side listener.
+   * Suspends the connector.
+   *
+   * <p>
+   * The Webswing instance is disconnected, so the server can release the Swing application, and a
+   * placeholder is shown instead. The instance is bootstrapped again on the next interaction with
+   * the connector or when {@link #resume()} is called. Connectors whose Swing application is not
+   * started are not suspended.
+   * </p>
+   *
+   * @return the component itself
+   * @see WebswingConnectorOptions#setIdlePolicy(WebswingConnectorOptions.IdlePolicy)
+   */
+  public WebswingConnector suspend() {
+    callClient("suspend");
+    return this;
+  }
+
+  /**
+   * Resumes a suspended connector by bootstrapping its Webswing instance again and restarting the
+   * Swing application.
+   *
+   * @return the component itself
+   */
+  public WebswingConnector resume() {
+    callClient("resume");
+    return this;
+  }
+
+  /**
+   * Perform an action carrying raw binary data that triggers server-side listener.
    *
    * @param actionName the name of the action
    * @param data the data to send to the server
@@ -112,15 +454,57 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
    *
    * @return the component itself
    */
+  public WebswingConnector performBinaryAction(String actionName, String data,
+      byte[] binaryData) {
+    return performAction(WebswingAction.ofBinary(actionName, data, binaryData));
+  }
+
+  /**
+   * Perform an action carrying raw binary data that triggers server-side listener.
+   *
+   * <p>
+   * The remaining bytes of the buffer are sent, the position of the given buffer is not modified.
+   * </p>
+   *
+   * @param actionName the name of the action
+   * @param data the data to send to the server
+   * @param binaryData the binary data to send to the server
+   *
+   * @return the component itself
+   */
+  public WebswingConnector performBinaryAction(String actionName, String data,
+      ByteBuffer binaryData) {
+    return performAction(WebswingAction.ofBinary(actionName, data, binaryData));
+  }
+
+  /**
+   * Perform an action that triggers server-side listener.
+   *
+   * @param actionName the name of the action
+   * @param data the data to send to the server
+   * @param binaryData the binary data to send to the server, encoded as UTF-8
+   *
+   * @return the component itself
+   */
   public WebswingConnector performAction(String actionName, String data, String binaryData) {
-    String encodedBinaryData = binaryData;
-    if (binaryData != null) {
-      encodedBinaryData =
-          new String(Base64.getEncoder().encode(binaryData.getBytes(StandardCharsets.UTF_8)),
-              StandardCharsets.UTF_8);
+    return performAction(new WebswingAction(actionName, data, binaryData));
+  }
+
+  /**
+   * Perform an action that triggers server-side listener.
+   *
+   * @param action the action to perform
+   * @return the component itself
+   */
+  public WebswingConnector performAction(WebswingAction action) {
+    if (batchDepth > 0) {
+      pendingActions.add(action);
+      return this;
     }
 
-    getElement().callJsFunctionVoidAsync("performAction", actionName, data, encodedBinaryData);
+    WebswingAction sent = compress(action);
+    callClient("performAction", sent.getActionName(), sent.getData(), sent.getBinaryDataBase64());
+    getMetrics().increment(WebswingMetrics.ACTIONS_PERFORMED, this);
     return this;
   }
 
@@ -146,6 +530,161 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
     return performAction(actionName, "");
   }
 
+  /**
+   * Perform an action carrying the given value, encoded by the codec of its class.
+   *
+   * @param actionName the name of the action
+   * @param value the value
+   * @return the component itself
+   * @see #setCodecs(WebswingCodecRegistry)
+   */
+  @SuppressWarnings("unchecked")
+  public WebswingConnector performAction(String actionName, Object value) {
+    if (value == null) {
+      return performAction(actionName, "null");
+    }
+
+    WebswingActionCodec<Object> codec =
+        (WebswingActionCodec<Object>) getCodecs().get(value.getClass());
+    return performAction(codec.encode(actionName, value));
+  }
+
+  /**
+   * Perform an action and wait for the Swing application to respond.
+   *
+   * <p>
+   * The action is sent to the Swing application with a correlation id appended to its name,
+   * separated by a <code>#</code> character. The Swing application responds by sending an action
+   * with the exact same name, which completes the returned future. Many requests can be in flight
+   * at once, each of them is matched by its correlation id.
+   * </p>
+   *
+   * <p>
+   * The future completes exceptionally with a {@link TimeoutException} if no response arrives
+   * within the given timeout or the connector is detached before the response arrives. Responses
+   * are not dispatched to the action listeners.
+   * </p>
+   *
+   * @param action the action to perform
+   * @param timeout the number of milliseconds to wait for the response
+   *
+   * @return a future which completes with the response of the Swing application
+   */
+  public CompletableFuture<WebswingConnectorActionEvent> performActionAsync(WebswingAction action,
+      int timeout) {
+    ensureActionRouting();
+
+    String correlationId = String.valueOf(++requestSequence);
+    CompletableFuture<WebswingConnectorActionEvent> future = new CompletableFuture<>();
+    pendingRequests.put(correlationId, future);
+    requestStartTimes.put(correlationId, System.nanoTime());
+
+    WebswingAction sent = compress(action);
+    callClient("performActionRequest", correlationId, sent.getActionName(), sent.getData(),
+        sent.getBinaryDataBase64(), timeout);
+    getMetrics().increment(WebswingMetrics.ACTIONS_PERFORMED, this);
+    return future;
+  }
+
+  /**
+   * Perform an action and wait for the Swing application to respond.
+   *
+   * @param actionName the name of the action
+   * @param data the data to send to the server
+   * @param timeout the number of milliseconds to wait for the response
+   *
+   * @return a future which completes with the response of the Swing application
+   * @see #performActionAsync(WebswingAction, int)
+   */
+  public CompletableFuture<WebswingConnectorActionEvent> performActionAsync(String actionName,
+      String data, int timeout) {
+    return performActionAsync(new WebswingAction(actionName, data), timeout);
+  }
+
+  /**
+   * Perform an action and wait for the Swing application to respond.
+   *
+   * <p>
+   * The response is awaited for the {@link WebswingConnectorOptions#getJavaCallTimeout() Java
+   * call timeout} of the connector options.
+   * </p>
+   *
+   * @param actionName the name of the action
+   * @param data the data to send to the server
+   *
+   * @return a future which completes with the response of the Swing application
+   * @see #performActionAsync(WebswingAction, int)
+   */
+  public CompletableFuture<WebswingConnectorActionEvent> performActionAsync(String actionName,
+      String data) {
+    WebswingConnectorOptions options = getOptions();
+    int timeout = options != null ? options.getJavaCallTimeout()
+        : new WebswingConnectorOptions().getJavaCallTimeout();
+    return performActionAsync(actionName, data, timeout);
+  }
+
+  /**
+   * Perform a list of actions in a single call to the client.
+   *
+   * <p>
+   * The actions are forwarded to the Webswing instance in the same order they are given in the
+   * list.
+   * </p>
+   *
+   * @param actions the actions to perform
+   * @return the component itself
+   */
+  public WebswingConnector performActions(List<WebswingAction> actions) {
+    if (actions == null || actions.isEmpty()) {
+      return this;
+    }
+
+    if (batchDepth > 0) {
+      pendingActions.addAll(actions);
+      return this;
+    }
+
+    List<Object> payload = new ArrayList<>(actions.size());
+    for (WebswingAction action : actions) {
+      payload.add(compress(action).toClientMap());
+    }
+
+    callClient("performActionBatch", payload);
+    WebswingMetrics recorder = getMetrics();
+    for (int i = 0; i < actions.size(); i++) {
+      recorder.increment(WebswingMetrics.ACTIONS_PERFORMED, this);
+    }
+
+    return this;
+  }
+
+  /**
+   * Collects all the actions performed while running the given batch and sends them to the client
+   * in a single call once the batch completes.
+   *
+   * <p>
+   * Batches can be nested, in which case the actions are sent when the outermost batch completes.
+   * </p>
+   *
+   * @param batch the code which performs the actions
+   * @return the component itself
+   */
+  public WebswingConnector batchActions(Runnable batch) {
+    batchDepth++;
+    try {
+      batch.run();
+    } finally {
+      batchDepth--;
+      if (batchDepth == 0 && !pendingActions.isEmpty()) {
+        List<WebswingAction> actions = new ArrayList<>(pendingActions);
+        pendingActions.clear();
+        performActions(actions);
+      }
+    }
+
+    return this;
+  }
+
   /**
    * Adds a listener for the {@link WebswingConnectorInitializedEvent} event.
    *
@@ -198,7 +737,11 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
    */
   public ListenerRegistration<WebswingConnectorActionEvent> addActionListener(
       EventListener<WebswingConnectorActionEvent> listener) {
-    return addEventListener(WebswingConnectorActionEvent.class, listener);
+    ensureActionRouting();
+    ListenerRegistration<WebswingConnectorActionEvent> registration =
+        actionRouter.addListener(listener);
+    updateSubscribedActions();
+    return registration;
   }
 
   /**
@@ -209,6 +752,521 @@ public class WebswingConnector extends ElementComposite implements HasSize<Websw
    */
   public ListenerRegistration<WebswingConnectorActionEvent> onAction(
       EventListener<WebswingConnectorActionEvent> listener) {
-    return addEventListener(WebswingConnectorActionEvent.class, listener);
+    return addActionListener(listener);
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingConnectorActionEvent} event which is notified only for
+   * the actions with the given name.
+   *
+   * <p>
+   * As long as no listener for all actions is registered, the client drops the actions nobody
+   * listens to instead of sending them to the server. Removing the last listener of an action
+   * through its registration stops forwarding the action right away.
+   * </p>
+   *
+   * @param actionName the name of the action
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   * @throws IllegalArgumentException if the name is empty or contains {@code /} or {@code #},
+   *         which the connector uses to route actions
+   */
+  public ListenerRegistration<WebswingConnectorActionEvent> addActionListener(String actionName,
+      EventListener<WebswingConnectorActionEvent> listener) {
+    ActionNames.check(actionName);
+    ensureActionRouting();
+    ListenerRegistration<WebswingConnectorActionEvent> registration =
+        actionRouter.addListener(actionName, listener);
+    updateSubscribedActions();
+    return registration;
+  }
+
+  /**
+   * Alias for {@link #addActionListener(String, EventListener)}.
+   *
+   * @param actionName the name of the action
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorActionEvent> onAction(String actionName,
+      EventListener<WebswingConnectorActionEvent> listener) {
+    return addActionListener(actionName, listener);
+  }
+
+  /**
+   * Adds a listener for the actions with the given name whose data is decoded to the given type.
+   *
+   * <p>
+   * The codec of the type is looked up once, when the listener is added, and decodes the data of
+   * every action whether it was sent as JSON or in the compact format.
+   * </p>
+   *
+   * @param <T> the type of the data
+   * @param actionName the name of the action
+   * @param type the class of the data
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   * @see #setCodecs(WebswingCodecRegistry)
+   */
+  public <T> ListenerRegistration<WebswingConnectorActionEvent> addActionListener(
+      String actionName, Class<T> type, WebswingTypedActionListener<T> listener) {
+    WebswingActionCodec<T> codec = getCodecs().get(type);
+    return addActionListener(actionName,
+        event -> listener.onAction(codec.decode(event), event));
+  }
+
+  /**
+   * Alias for {@link #addActionListener(String, Class, WebswingTypedActionListener)}.
+   *
+   * @param <T> the type of the data
+   * @param actionName the name of the action
+   * @param type the class of the data
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public <T> ListenerRegistration<WebswingConnectorActionEvent> onAction(String actionName,
+      Class<T> type, WebswingTypedActionListener<T> listener) {
+    return addActionListener(actionName, type, listener);
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingConnectorStreamOpenedEvent} event.
+   *
+   * <p>
+   * The event is fired when the Swing application starts sending a large payload as a chunked
+   * stream. The listener has to attach a consumer to the stream while handling the event,
+   * otherwise the stream is discarded.
+   * </p>
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   *
+   * @see WebswingActionStream
+   */
+  public ListenerRegistration<WebswingConnectorStreamOpenedEvent> addStreamListener(
+      EventListener<WebswingConnectorStreamOpenedEvent> listener) {
+    if (streamRegistration == null) {
+      streamRegistration =
+          addEventListener(WebswingConnectorStreamEvent.class, this::handleStreamEvent);
+    }
+
+    return streamDispatcher.addListener(WebswingConnectorStreamOpenedEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addStreamListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorStreamOpenedEvent> onStream(
+      EventListener<WebswingConnectorStreamOpenedEvent> listener) {
+    return addStreamListener(listener);
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingConnectorLatencyEvent} event.
+   *
+   * <p>
+   * Adding the first latency listener enables the latency telemetry: the client probes the
+   * Webswing server according to the {@link WebswingConnectorOptions.PingParams ping parameters}
+   * of the options and reports every sample.
+   * </p>
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorLatencyEvent> addLatencyListener(
+      EventListener<WebswingConnectorLatencyEvent> listener) {
+    ensureLatencyTelemetry();
+    return addEventListener(WebswingConnectorLatencyEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addLatencyListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorLatencyEvent> onLatency(
+      EventListener<WebswingConnectorLatencyEvent> listener) {
+    return addLatencyListener(listener);
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingConnectorBandwidthSaverEvent} event.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   * @see WebswingConnectorOptions#setBandwidthSaver(WebswingConnectorOptions.BandwidthSaver)
+   */
+  public ListenerRegistration<WebswingConnectorBandwidthSaverEvent> addBandwidthSaverListener(
+      EventListener<WebswingConnectorBandwidthSaverEvent> listener) {
+    return addEventListener(WebswingConnectorBandwidthSaverEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addBandwidthSaverListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorBandwidthSaverEvent> onBandwidthSaver(
+      EventListener<WebswingConnectorBandwidthSaverEvent> listener) {
+    return addBandwidthSaverListener(listener);
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingConnectorReconnectEvent} event.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   * @see WebswingConnectorOptions#setReconnectPolicy(WebswingConnectorOptions.ReconnectPolicy)
+   */
+  public ListenerRegistration<WebswingConnectorReconnectEvent> addReconnectListener(
+      EventListener<WebswingConnectorReconnectEvent> listener) {
+    return addEventListener(WebswingConnectorReconnectEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addReconnectListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorReconnectEvent> onReconnect(
+      EventListener<WebswingConnectorReconnectEvent> listener) {
+    return addReconnectListener(listener);
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingConnectorSuspendedEvent} event.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorSuspendedEvent> addSuspendedListener(
+      EventListener<WebswingConnectorSuspendedEvent> listener) {
+    return addEventListener(WebswingConnectorSuspendedEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addSuspendedListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorSuspendedEvent> onSuspended(
+      EventListener<WebswingConnectorSuspendedEvent> listener) {
+    return addSuspendedListener(listener);
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingConnectorResumedEvent} event.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorResumedEvent> addResumedListener(
+      EventListener<WebswingConnectorResumedEvent> listener) {
+    return addEventListener(WebswingConnectorResumedEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addResumedListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorResumedEvent> onResumed(
+      EventListener<WebswingConnectorResumedEvent> listener) {
+    return addResumedListener(listener);
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingConnectorQueuedEvent} event.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   * @see #setAdmissionController(WebswingAdmissionController)
+   */
+  public ListenerRegistration<WebswingConnectorQueuedEvent> addQueuedListener(
+      EventListener<WebswingConnectorQueuedEvent> listener) {
+    return admissionDispatcher.addListener(WebswingConnectorQueuedEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addQueuedListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingConnectorQueuedEvent> onQueued(
+      EventListener<WebswingConnectorQueuedEvent> listener) {
+    return addQueuedListener(listener);
+  }
+
+  /**
+   * Gets a summary of the latest latencies measured between the browser and the Webswing server.
+   *
+   * <p>
+   * The summary covers the last 120 samples reported since the latency telemetry was enabled by
+   * {@link #addLatencyListener(EventListener) adding a latency listener}.
+   * </p>
+   *
+   * @return the latency summary
+   */
+  public WebswingLatencySummary getLatencySummary() {
+    return latencyWindow.summarize();
+  }
+
+  /**
+   * Calls a function of the client element.
+   *
+   * <p>
+   * All the calls of the connector to the browser go through this method. Subclasses can
+   * override it to play the browser, for instance to drive the connector without one in a load
+   * test, and dispatch the answers through the {@link #getEventDispatcher() event dispatcher}.
+   * </p>
+   *
+   * @param function the name of the function
+   * @param arguments the arguments of the function
+   */
+  protected void callClient(String function, Object... arguments) {
+    getElement().callJsFunctionVoidAsync(function, arguments);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected void onDidDestroy() {
+    super.onDidDestroy();
+    for (CompletableFuture<WebswingConnectorActionEvent> future : pendingRequests.values()) {
+      future.completeExceptionally(new CancellationException("The connector was destroyed"));
+    }
+
+    pendingRequests.clear();
+    requestStartTimes.clear();
+    releaseAdmission();
+    releaseServerLease();
+  }
+
+  private static String toJsString(String value) {
+    StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+    for (char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        builder.append('\\').append(c);
+      } else if (c < 0x20 || c == '<' || c == '>') {
+        builder.append(String.format("\\u%04x", (int) c));
+      } else {
+        builder.append(c);
+      }
+    }
+
+    return builder.append('"').toString();
+  }
+
+  private void recordInitialized(WebswingConnectorInitializedEvent event) {
+    WebswingMetrics recorder = getMetrics();
+    recorder.increment(WebswingMetrics.INITIALIZED, this);
+    if (event.getApiLoadTime() >= 0) {
+      recorder.record(WebswingMetrics.API_LOAD_TIME, event.getApiLoadTime(), this);
+    }
+    if (event.getBootstrapTime() >= 0) {
+      recorder.record(WebswingMetrics.BOOTSTRAP_TIME, event.getBootstrapTime(), this);
+    }
+  }
+
+  private void recordStarted(WebswingConnectorStartedEvent event) {
+    releaseAdmission();
+    WebswingMetrics recorder = getMetrics();
+    recorder.increment(WebswingMetrics.STARTED, this);
+    if (event.getStartTime() >= 0) {
+      recorder.record(WebswingMetrics.START_TIME, event.getStartTime(), this);
+    }
+  }
+
+  private void recordReconnect(WebswingConnectorReconnectEvent event) {
+    switch (event.getOutcome()) {
+      case SUCCEEDED:
+        getMetrics().increment(WebswingMetrics.RECONNECTED, this);
+        break;
+      case EXHAUSTED:
+        getMetrics().increment(WebswingMetrics.RECONNECT_EXHAUSTED, this);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void updateAdmissionControl() {
+    boolean enabled = getAdmissionController() != null;
+    if (enabled && admissionRegistration == null) {
+      admissionRegistration =
+          addEventListener(WebswingConnectorAdmissionEvent.class, this::handleAdmissionEvent);
+    } else if (!enabled && admissionRegistration != null) {
+      admissionRegistration.remove();
+      admissionRegistration = null;
+      releaseAdmission();
+    }
+
+    set(admissionControlProp, enabled);
+  }
+
+  private void handleAdmissionEvent(WebswingConnectorAdmissionEvent event) {
+    WebswingAdmissionController controller = getAdmissionController();
+    if (controller == null) {
+      callClient("admitStart");
+      return;
+    }
+
+    if (admissionTicket == null
+        || admissionTicket.getState() == WebswingAdmissionController.Ticket.State.RELEASED) {
+      admissionTicket = controller.request();
+    }
+
+    WebswingAdmissionController.Ticket.State state = admissionTicket.poll();
+    if (state == WebswingAdmissionController.Ticket.State.ADMITTED) {
+      getMetrics().record(WebswingMetrics.ADMISSION_WAIT_TIME, admissionTicket.getWaitTime(), this);
+      callClient("admitStart");
+      return;
+    }
+
+    int position = admissionTicket.getPosition();
+    callClient("queued", position);
+    admissionDispatcher.dispatchEvent(
+        new WebswingConnectorQueuedEvent(this, position, admissionTicket.getWaitTime()));
+  }
+
+  private void releaseAdmission() {
+    if (admissionTicket != null) {
+      admissionTicket.release();
+      admissionTicket = null;
+    }
+  }
+
+  private void releaseServerLease() {
+    if (serverLease != null) {
+      serverLease.release();
+      serverLease = null;
+    }
+  }
+
+  private WebswingAction compress(WebswingAction action) {
+    return options != null
+        ? WebswingActionCompression.compress(action, options.getCompressionThreshold())
+        : action;
+  }
+
+  private void ensureLatencyTelemetry() {
+    if (latencyRegistration == null) {
+      latencyRegistration =
+          addEventListener(WebswingConnectorLatencyEvent.class, this::handleLatencyEvent);
+      set(latencyTelemetryProp, true);
+    }
+  }
+
+  private void handleLatencyEvent(WebswingConnectorLatencyEvent event) {
+    latencyWindow.add(event.getLatency(), event.isBreached());
+    if (event.isLost()) {
+      getMetrics().increment(WebswingMetrics.LATENCY_LOST, this);
+    } else {
+      getMetrics().record(WebswingMetrics.LATENCY, event.getLatency(), this);
+    }
+  }
+
+  private void ensureActionRouting() {
+    if (actionRegistration == null) {
+      actionRegistration =
+          addEventListener(WebswingConnectorActionEvent.class, this::handleActionEvent);
+    }
+  }
+
+  private void handleActionEvent(WebswingConnectorActionEvent event) {
+    String correlationId = event.getCorrelationId();
+    if (correlationId != null) {
+      CompletableFuture<WebswingConnectorActionEvent> future =
+          pendingRequests.remove(correlationId);
+      Long startTime = requestStartTimes.remove(correlationId);
+      if (future != null) {
+        recordResponse(event, startTime);
+        if (event.isTimedOut()) {
+          future.completeExceptionally(new TimeoutException("The action '" + event.getActionName()
+              + "' did not receive a response within the timeout"));
+        } else {
+          future.complete(event);
+        }
+      }
+
+      return;
+    }
+
+    getMetrics().increment(WebswingMetrics.ACTIONS_RECEIVED, this);
+    actionRouter.dispatch(event);
+  }
+
+  private void recordResponse(WebswingConnectorActionEvent event, Long startTime) {
+    WebswingMetrics recorder = getMetrics();
+    if (event.isTimedOut()) {
+      recorder.increment(WebswingMetrics.TIMEOUTS, this);
+      return;
+    }
+
+    if (startTime != null) {
+      recorder.record(WebswingMetrics.RESPONSE_TIME, (System.nanoTime() - startTime) / 1_000_000,
+          this);
+    }
+    if (event.getRoundTripTime() >= 0) {
+      recorder.record(WebswingMetrics.ROUND_TRIP_TIME, event.getRoundTripTime(), this);
+    }
+  }
+
+  private void updateSubscribedActions() {
+    List<String> names = actionRouter.getSubscribedActions();
+    if (!Objects.equals(names, subscribedActions)) {
+      subscribedActions = names;
+      set(subscribedActionsProp, names);
+    }
+  }
+
+  private void handleStreamEvent(WebswingConnectorStreamEvent event) {
+    String streamId = event.getStreamId();
+    WebswingActionStream stream = streams.get(streamId);
+
+    switch (event.getType()) {
+      case OPEN:
+        stream = new WebswingActionStream(streamId, event.getName(), event.getSize());
+        streams.put(streamId, stream);
+        streamDispatcher.dispatchEvent(new WebswingConnectorStreamOpenedEvent(this, stream));
+        stream.discardIfUnconsumed();
+        break;
+      case CHUNK:
+        if (stream != null) {
+          stream.accept(event.getChunk());
+        }
+        break;
+      case CLOSE:
+        streams.remove(streamId);
+        if (stream != null) {
+          stream.complete();
+        }
+        break;
+      case ABORT:
+        streams.remove(streamId);
+        if (stream != null) {
+          stream.fail(event.getReason());
+        }
+        break;
+      default:
+        break;
+    }
+
+    if (stream != null && streams.containsKey(streamId)) {
+      int consumed = stream.takeAcknowledgement();
+      if (consumed >= 0) {
+        performAction(STREAM_ACK_ACTION, streamId + ":" + consumed);
+      }
+    }
   }
 }
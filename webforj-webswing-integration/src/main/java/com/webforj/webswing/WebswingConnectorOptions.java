@@ -1,11 +1,27 @@
 package com.webforj.webswing;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.webforj.webswing.protocol.ActionCompression;
+
 /**
  * Define the options can be modified in the webswing bootstrap.
  *
+ * <p>
+ * Options are mutable until {@link #toImmutable()} is called. Immutable options are serialized
+ * once and can be shared by any number of connectors, which avoids serializing identical options
+ * for every connector.
+ * </p>
+ *
  * @author Hyyan Abo Fakher
  */
 public class WebswingConnectorOptions {
+  private static final Gson GSON = new Gson();
+
   private boolean autoStart = false;
   private Integer autoReconnect = null;
   private boolean disableLogout = false;
@@ -18,6 +34,19 @@ public class WebswingConnectorOptions {
   private Integer debugPort = null;
   private int javaCallTimeout = 3000;
   private PingParams pingParams = new PingParams();
+  private Map<String, ActionPolicy> actionPolicies = new LinkedHashMap<>();
+  private String keepAliveKey = null;
+  private int keepAliveTimeout = 60000;
+  private String sharedChannel = null;
+  private BandwidthSaver bandwidthSaver = null;
+  private ReconnectPolicy reconnectPolicy = null;
+  private StartMode startMode = null;
+  private IdlePolicy idlePolicy = null;
+  private int compressionThreshold = 0;
+  private int maxInflatedSize = ActionCompression.DEFAULT_MAX_INFLATED_SIZE;
+  private transient boolean immutable = false;
+  private transient JsonObject jsonTree = null;
+  private transient String json = null;
 
   /**
    * Sets whether Webswing should execute the <code>start()</code> method right after the instance
@@ -27,6 +56,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setAutoStart(boolean autoStart) {
+    checkMutable();
     this.autoStart = autoStart;
     return this;
   }
@@ -41,6 +71,62 @@ public class WebswingConnectorOptions {
     return autoStart;
   }
 
+  /**
+   * Sets when the Swing application is started.
+   *
+   * <p>
+   * The start mode replaces {@link #setAutoStart(boolean) autoStart} when set. The lazy modes
+   * avoid starting a Swing application on the server for connectors the user never looks at, for
+   * instance in a hidden tab or below the fold. While a lazy mode waits, the element carries the
+   * <code>start-pending</code> attribute so it can be styled.
+   * </p>
+   *
+   * @param startMode the start mode or null to follow autoStart
+   * @return the options object
+   */
+  public WebswingConnectorOptions setStartMode(StartMode startMode) {
+    checkMutable();
+    this.startMode = startMode;
+    return this;
+  }
+
+  /**
+   * Gets when the Swing application is started.
+   *
+   * @return the start mode or null if autoStart is followed
+   */
+  public StartMode getStartMode() {
+    return startMode;
+  }
+
+  /**
+   * Sets the policy which suspends the connector while it is not used.
+   *
+   * <p>
+   * A suspended connector disconnects its Webswing instance, so the server can release the Swing
+   * application once its session timeout elapses, and shows a lightweight placeholder instead. The
+   * instance is bootstrapped and started again on the next interaction with the connector. The
+   * policy applies to connectors with a dedicated connection.
+   * </p>
+   *
+   * @param idlePolicy the idle policy or null to never suspend the connector
+   * @return the options object
+   */
+  public WebswingConnectorOptions setIdlePolicy(IdlePolicy idlePolicy) {
+    checkMutable();
+    this.idlePolicy = idlePolicy;
+    return this;
+  }
+
+  /**
+   * Gets the policy which suspends the connector while it is not used.
+   *
+   * @return the idle policy or null if the connector is never suspended
+   */
+  public IdlePolicy getIdlePolicy() {
+    return immutable && idlePolicy != null ? idlePolicy.copy() : idlePolicy;
+  }
+
   /**
    * Sets the number of milliseconds to wait until re-connection attempt in case of connection to
    * server is terminated.
@@ -49,6 +135,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setAutoReconnect(Integer autoReconnect) {
+    checkMutable();
     this.autoReconnect = autoReconnect;
     return this;
   }
@@ -70,6 +157,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setDisableLogout(boolean disableLogout) {
+    checkMutable();
     this.disableLogout = disableLogout;
     return this;
   }
@@ -90,6 +178,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setDisableLogin(boolean disableLogin) {
+    checkMutable();
     this.disableLogin = disableLogin;
     return this;
   }
@@ -111,6 +200,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setSyncClipboard(boolean syncClipboard) {
+    checkMutable();
     this.syncClipboard = syncClipboard;
     return this;
   }
@@ -132,6 +222,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setSecurityToken(String securityToken) {
+    checkMutable();
     this.securityToken = securityToken;
     return this;
   }
@@ -152,6 +243,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setRealm(String realm) {
+    checkMutable();
     this.realm = realm;
     return this;
   }
@@ -173,6 +265,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setArgs(String args) {
+    checkMutable();
     this.args = args;
     return this;
   }
@@ -194,6 +287,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setRecording(boolean recording) {
+    checkMutable();
     this.recording = recording;
     return this;
   }
@@ -215,6 +309,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setDebugPort(Integer debugPort) {
+    checkMutable();
     this.debugPort = debugPort;
     return this;
   }
@@ -237,6 +332,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setJavaCallTimeout(int javaCallTimeout) {
+    checkMutable();
     this.javaCallTimeout = javaCallTimeout;
     return this;
   }
@@ -258,6 +354,7 @@ public class WebswingConnectorOptions {
    * @return the options object
    */
   public WebswingConnectorOptions setPingParams(PingParams pingParams) {
+    checkMutable();
     this.pingParams = pingParams;
     return this;
   }
@@ -268,7 +365,802 @@ public class WebswingConnectorOptions {
    * @return the ping parameters
    */
   public PingParams getPingParams() {
-    return pingParams;
+    return immutable && pingParams != null ? pingParams.copy() : pingParams;
+  }
+
+  /**
+   * Sets the policy the client applies to the actions with the given name before sending them to
+   * the server.
+   *
+   * <p>
+   * Policies reduce the number of events sent by Swing applications which fire actions on every
+   * selection change or mouse move. Actions without a policy are sent as soon as they are fired.
+   * </p>
+   *
+   * @param actionName the name of the action
+   * @param policy the policy or null to remove the policy of the action
+   * @return the options object
+   */
+  public WebswingConnectorOptions setActionPolicy(String actionName, ActionPolicy policy) {
+    checkMutable();
+    if (policy == null) {
+      actionPolicies.remove(actionName);
+    } else {
+      actionPolicies.put(actionName, policy);
+    }
+
+    return this;
+  }
+
+  /**
+   * Gets the policy the client applies to the actions with the given name.
+   *
+   * @param actionName the name of the action
+   * @return the policy or null if the action has no policy
+   */
+  public ActionPolicy getActionPolicy(String actionName) {
+    return actionPolicies.get(actionName);
+  }
+
+  /**
+   * Gets the policies the client applies to the actions, keyed by action name.
+   *
+   * @return an unmodifiable view of the action policies
+   */
+  public Map<String, ActionPolicy> getActionPolicies() {
+    return Collections.unmodifiableMap(actionPolicies);
+  }
+
+  /**
+   * Sets the key used to keep the Webswing session alive when the connector is detached.
+   *
+   * <p>
+   * When a connector with a keep-alive key is detached, for instance because the user navigates to
+   * another view, its Webswing session is parked in the browser instead of being disconnected. A
+   * connector attached later with the same key and url reclaims the running session instantly
+   * instead of starting a new Swing application. Parked sessions are disconnected once the
+   * {@link #setKeepAliveTimeout(int) keep-alive timeout} elapses.
+   * </p>
+   *
+   * @param keepAliveKey the keep-alive key or null to disconnect the session on detach
+   * @return the options object
+   */
+  public WebswingConnectorOptions setKeepAliveKey(String keepAliveKey) {
+    checkMutable();
+    this.keepAliveKey = keepAliveKey;
+    return this;
+  }
+
+  /**
+   * Gets the key used to keep the Webswing session alive when the connector is detached.
+   *
+   * @return the keep-alive key
+   */
+  public String getKeepAliveKey() {
+    return keepAliveKey;
+  }
+
+  /**
+   * Sets the number of milliseconds a parked session waits to be reclaimed before it is
+   * disconnected (default: 60000).
+   *
+   * @param keepAliveTimeout the keep-alive timeout in milliseconds
+   * @return the options object
+   */
+  public WebswingConnectorOptions setKeepAliveTimeout(int keepAliveTimeout) {
+    checkMutable();
+    this.keepAliveTimeout = keepAliveTimeout;
+    return this;
+  }
+
+  /**
+   * Gets the number of milliseconds a parked session waits to be reclaimed before it is
+   * disconnected.
+   *
+   * @return the keep-alive timeout in milliseconds
+   */
+  public int getKeepAliveTimeout() {
+    return keepAliveTimeout;
+  }
+
+  /**
+   * Sets the channel of the connector on a shared connection.
+   *
+   * <p>
+   * Connectors with a channel pointing to the same url share a single Webswing instance, and so a
+   * single connection and Swing session, instead of bootstrapping one instance each. The Swing
+   * window whose name matches the channel is rendered in the connector when Webswing uses the
+   * compositing window manager. Actions are multiplexed over the shared instance by prefixing their
+   * name with the channel followed by a <code>/</code> character. Actions sent by the Swing
+   * application with a channel prefix are delivered to that connector only, the others are
+   * delivered to all connectors of the connection.
+   * </p>
+   *
+   * <p>
+   * The options of the first attached connector are used to bootstrap the shared instance.
+   * </p>
+   *
+   * @param sharedChannel the channel or null to use a dedicated connection
+   * @return the options object
+   */
+  public WebswingConnectorOptions setSharedChannel(String sharedChannel) {
+    checkMutable();
+    this.sharedChannel = sharedChannel;
+    return this;
+  }
+
+  /**
+   * Gets the channel of the connector on a shared connection.
+   *
+   * @return the channel or null if the connector uses a dedicated connection
+   */
+  public String getSharedChannel() {
+    return sharedChannel;
+  }
+
+  /**
+   * Sets the bandwidth saver which trades rendering fidelity for responsiveness on slow networks.
+   *
+   * @param bandwidthSaver the bandwidth saver or null to render at full fidelity
+   * @return the options object
+   */
+  public WebswingConnectorOptions setBandwidthSaver(BandwidthSaver bandwidthSaver) {
+    checkMutable();
+    this.bandwidthSaver = bandwidthSaver;
+    return this;
+  }
+
+  /**
+   * Gets the bandwidth saver which trades rendering fidelity for responsiveness on slow networks.
+   *
+   * @return the bandwidth saver or null if the Swing application is rendered at full fidelity
+   */
+  public BandwidthSaver getBandwidthSaver() {
+    return immutable && bandwidthSaver != null ? bandwidthSaver.copy() : bandwidthSaver;
+  }
+
+  /**
+   * Sets the policy the client follows to reconnect once the connection to the server is lost.
+   *
+   * <p>
+   * The attempts start once the Webswing instance reports its connection lost, that is after the
+   * {@link #setAutoReconnect(Integer) auto reconnect} of Webswing gave up or right away when it is
+   * not set. Each attempt first probes the server and bootstraps the Webswing instance again only
+   * once the server answers. Failed latency probes do not start the attempts, but when the last
+   * probe was answered the first attempt is not delayed. The policy applies to connectors with a
+   * dedicated connection, shared connections rely on Webswing.
+   * </p>
+   *
+   * @param reconnectPolicy the reconnect policy or null to let Webswing reconnect
+   * @return the options object
+   */
+  public WebswingConnectorOptions setReconnectPolicy(ReconnectPolicy reconnectPolicy) {
+    checkMutable();
+    this.reconnectPolicy = reconnectPolicy;
+    return this;
+  }
+
+  /**
+   * Gets the policy the client follows to reconnect once the connection to the server is lost.
+   *
+   * @return the reconnect policy or null if Webswing reconnects on its own
+   */
+  public ReconnectPolicy getReconnectPolicy() {
+    return immutable && reconnectPolicy != null ? reconnectPolicy.copy() : reconnectPolicy;
+  }
+
+  /**
+   * Sets the size from which the data of the actions is compressed.
+   *
+   * <p>
+   * The data of the actions performed by the connector is deflated when its UTF-8 size reaches
+   * the threshold and deflating makes it smaller, which pays off for large JSON payloads. Actions
+   * with binary data are sent as they are. The Swing application has to inflate the data, the
+   * {@code webforj-webswing-bridge} does it transparently. Compressed actions sent by the Swing
+   * application are inflated whatever the threshold.
+   * </p>
+   *
+   * @param compressionThreshold the threshold in bytes, 0 disables the compression. Defaults to 0.
+   * @return the options object
+   * @see ActionCompression
+   */
+  public WebswingConnectorOptions setCompressionThreshold(int compressionThreshold) {
+    checkMutable();
+    this.compressionThreshold = Math.max(0, compressionThreshold);
+    return this;
+  }
+
+  /**
+   * Gets the size from which the data of the actions is compressed.
+   *
+   * @return the threshold in bytes, 0 if the compression is disabled
+   */
+  public int getCompressionThreshold() {
+    return compressionThreshold;
+  }
+
+  /**
+   * Sets the maximum size of the data of a compressed action once inflated.
+   *
+   * <p>
+   * Reading the data of a compressed action which inflates to more throws an
+   * {@link IllegalArgumentException}, a few kilobytes of deflated bytes can otherwise expand to
+   * gigabytes.
+   * </p>
+   *
+   * @param maxInflatedSize the maximum size in bytes. Defaults to
+   *        {@link ActionCompression#DEFAULT_MAX_INFLATED_SIZE}.
+   * @return the options object
+   * @throws IllegalArgumentException if the size is not positive
+   */
+  public WebswingConnectorOptions setMaxInflatedSize(int maxInflatedSize) {
+    checkMutable();
+    if (maxInflatedSize <= 0) {
+      throw new IllegalArgumentException("The maximum inflated size must be positive");
+    }
+
+    this.maxInflatedSize = maxInflatedSize;
+    return this;
+  }
+
+  /**
+   * Gets the maximum size of the data of a compressed action once inflated.
+   *
+   * @return the maximum size in bytes
+   */
+  public int getMaxInflatedSize() {
+    return maxInflatedSize;
+  }
+
+  /**
+   * Creates an immutable copy of the options.
+   *
+   * <p>
+   * The copy is serialized right away and its setters throw an {@link IllegalStateException}. The
+   * nested objects returned by its getters are copies, changing them has no effect on the options.
+   * </p>
+   *
+   * @return the immutable options, or the options themselves if they are already immutable
+   */
+  public WebswingConnectorOptions toImmutable() {
+    if (immutable) {
+      return this;
+    }
+
+    JsonObject tree = GSON.toJsonTree(this).getAsJsonObject();
+    WebswingConnectorOptions copy = GSON.fromJson(tree, WebswingConnectorOptions.class);
+    copy.actionPolicies = new LinkedHashMap<>(copy.actionPolicies);
+    copy.jsonTree = tree;
+    copy.json = GSON.toJson(tree);
+    copy.immutable = true;
+    return copy;
+  }
+
+  /**
+   * Checks whether the options are immutable.
+   *
+   * @return true if the options can not be modified
+   * @see #toImmutable()
+   */
+  public boolean isImmutable() {
+    return immutable;
+  }
+
+  /**
+   * Gets the options serialized as a JSON object.
+   *
+   * @return the JSON tree, cached for immutable options
+   */
+  JsonObject toJsonTree() {
+    return immutable ? jsonTree : GSON.toJsonTree(this).getAsJsonObject();
+  }
+
+  /**
+   * Gets the options serialized as JSON.
+   *
+   * @return the JSON, cached for immutable options
+   */
+  String toJson() {
+    return immutable ? json : GSON.toJson(this);
+  }
+
+  private void checkMutable() {
+    if (immutable) {
+      throw new IllegalStateException("The options are immutable");
+    }
+  }
+
+  /**
+   * Defines how the client lowers the rendering cost of the Swing application.
+   *
+   * <p>
+   * The caps are advisory: Webswing has no client side control of the rendering resolution or the
+   * update rate, so the client sends the <code>webswing-bandwidth-saver</code> action to the Swing
+   * application whenever the bandwidth saver is activated or deactivated. Its data is a JSON object
+   * with the <code>active</code>, <code>maxPixelRatio</code> and <code>maxFrameRate</code> fields.
+   * Neither the {@code webforj-webswing-bridge} nor the demo application handle this action, the
+   * Swing application has to listen to it to render less.
+   * </p>
+   *
+   * <p>
+   * With {@link #setOverridePagePixelRatio(boolean)} the client also caps the device pixel ratio,
+   * so Webswing renders smaller canvases and transfers less pixels on high density screens.
+   * </p>
+   */
+  public static class BandwidthSaver {
+
+    /**
+     * When the bandwidth saver is active.
+     */
+    public enum Mode {
+      /**
+       * The bandwidth saver is never active.
+       */
+      OFF,
+      /**
+       * The bandwidth saver is always active.
+       */
+      ON,
+      /**
+       * The bandwidth saver is active while the measured latency breaches the
+       * {@link PingParams ping parameters}, and deactivated once the latency recovers.
+       */
+      AUTO
+    }
+
+    private Mode mode = Mode.AUTO;
+    private double maxPixelRatio = 1;
+    private int maxFrameRate = 10;
+    private boolean overridePagePixelRatio = false;
+
+    /**
+     * Sets when the bandwidth saver is active.
+     *
+     * @param mode the mode
+     * @return the bandwidth saver
+     */
+    public BandwidthSaver setMode(Mode mode) {
+      this.mode = mode;
+      return this;
+    }
+
+    /**
+     * Gets when the bandwidth saver is active.
+     *
+     * @return the mode
+     */
+    public Mode getMode() {
+      return mode;
+    }
+
+    /**
+     * Sets the highest device pixel ratio the Swing application is asked to render while the
+     * bandwidth saver is active.
+     *
+     * @param maxPixelRatio the highest device pixel ratio
+     * @return the bandwidth saver
+     */
+    public BandwidthSaver setMaxPixelRatio(double maxPixelRatio) {
+      this.maxPixelRatio = maxPixelRatio;
+      return this;
+    }
+
+    /**
+     * Gets the highest device pixel ratio the Swing application is asked to render while the
+     * bandwidth saver is active.
+     *
+     * @return the highest device pixel ratio
+     */
+    public double getMaxPixelRatio() {
+      return maxPixelRatio;
+    }
+
+    /**
+     * Sets the number of frames per second the Swing application is asked not to exceed while the
+     * bandwidth saver is active.
+     *
+     * @param maxFrameRate the highest frame rate or 0 for no limit
+     * @return the bandwidth saver
+     */
+    public BandwidthSaver setMaxFrameRate(int maxFrameRate) {
+      this.maxFrameRate = maxFrameRate;
+      return this;
+    }
+
+    /**
+     * Gets the number of frames per second the Swing application is asked not to exceed while the
+     * bandwidth saver is active.
+     *
+     * @return the highest frame rate or 0 for no limit
+     */
+    public int getMaxFrameRate() {
+      return maxFrameRate;
+    }
+
+    /**
+     * Sets whether <code>window.devicePixelRatio</code> is capped to the highest device pixel ratio
+     * while the bandwidth saver is active.
+     *
+     * <p>
+     * The pixel ratio is shared by the whole page: the override changes the rendering of every
+     * other script and component of the page, and while several connectors override it the lowest
+     * cap wins.
+     * </p>
+     *
+     * @param overridePagePixelRatio true to override the pixel ratio of the page
+     * @return the bandwidth saver
+     */
+    public BandwidthSaver setOverridePagePixelRatio(boolean overridePagePixelRatio) {
+      this.overridePagePixelRatio = overridePagePixelRatio;
+      return this;
+    }
+
+    /**
+     * Checks whether <code>window.devicePixelRatio</code> is capped to the highest device pixel
+     * ratio while the bandwidth saver is active.
+     *
+     * @return true if the pixel ratio of the page is overridden
+     */
+    public boolean isOverridePagePixelRatio() {
+      return overridePagePixelRatio;
+    }
+
+    BandwidthSaver copy() {
+      return new BandwidthSaver().setMode(mode).setMaxPixelRatio(maxPixelRatio)
+          .setMaxFrameRate(maxFrameRate).setOverridePagePixelRatio(overridePagePixelRatio);
+    }
+  }
+
+  /**
+   * Defines when a connector is considered idle and suspended.
+   */
+  public static class IdlePolicy {
+    private int idleTimeout = 0;
+    private boolean suspendWhenHidden = false;
+    private int hiddenDelay = 0;
+    private String message = null;
+
+    /**
+     * Sets the number of milliseconds without input on the connector after which it is suspended.
+     *
+     * @param idleTimeout the timeout in milliseconds or 0 to ignore the input
+     * @return the idle policy
+     */
+    public IdlePolicy setIdleTimeout(int idleTimeout) {
+      this.idleTimeout = idleTimeout;
+      return this;
+    }
+
+    /**
+     * Gets the number of milliseconds without input on the connector after which it is suspended.
+     *
+     * @return the timeout in milliseconds or 0 if the input is ignored
+     */
+    public int getIdleTimeout() {
+      return idleTimeout;
+    }
+
+    /**
+     * Sets whether the connector is suspended while the page is hidden, for instance in a
+     * background tab.
+     *
+     * @param suspendWhenHidden whether to suspend hidden connectors
+     * @return the idle policy
+     */
+    public IdlePolicy setSuspendWhenHidden(boolean suspendWhenHidden) {
+      this.suspendWhenHidden = suspendWhenHidden;
+      return this;
+    }
+
+    /**
+     * Gets whether the connector is suspended while the page is hidden.
+     *
+     * @return whether hidden connectors are suspended
+     */
+    public boolean isSuspendWhenHidden() {
+      return suspendWhenHidden;
+    }
+
+    /**
+     * Sets the number of milliseconds the page has to stay hidden before the connector is
+     * suspended.
+     *
+     * @param hiddenDelay the delay in milliseconds
+     * @return the idle policy
+     */
+    public IdlePolicy setHiddenDelay(int hiddenDelay) {
+      this.hiddenDelay = hiddenDelay;
+      return this;
+    }
+
+    /**
+     * Gets the number of milliseconds the page has to stay hidden before the connector is
+     * suspended.
+     *
+     * @return the delay in milliseconds
+     */
+    public int getHiddenDelay() {
+      return hiddenDelay;
+    }
+
+    /**
+     * Sets the text of the placeholder shown while the connector is suspended.
+     *
+     * @param message the text or null for the default text
+     * @return the idle policy
+     */
+    public IdlePolicy setMessage(String message) {
+      this.message = message;
+      return this;
+    }
+
+    /**
+     * Gets the text of the placeholder shown while the connector is suspended.
+     *
+     * @return the text or null for the default text
+     */
+    public String getMessage() {
+      return message;
+    }
+
+    IdlePolicy copy() {
+      return new IdlePolicy().setIdleTimeout(idleTimeout).setSuspendWhenHidden(suspendWhenHidden)
+          .setHiddenDelay(hiddenDelay).setMessage(message);
+    }
+  }
+
+  /**
+   * When the Swing application is started.
+   */
+  public enum StartMode {
+    /**
+     * The Swing application is started right after the instance is initialized.
+     */
+    EAGER,
+    /**
+     * The Swing application is started once the connector is visible in the viewport and the page
+     * is visible.
+     */
+    ON_VISIBLE,
+    /**
+     * The Swing application is started once the user interacts with the connector, by pointer,
+     * touch, keyboard or focus.
+     */
+    ON_INTERACTION,
+    /**
+     * The Swing application is started only when {@link WebswingConnector#start()} is called.
+     */
+    MANUAL
+  }
+
+  /**
+   * Defines the delays between the reconnect attempts.
+   *
+   * <p>
+   * The delay before the attempt <code>n</code> is
+   * <code>min(maxDelay, initialDelay * multiplier^(n - 1))</code>. With jitter, the actual delay is
+   * picked uniformly between zero and that value, which spreads the clients reconnecting to a
+   * restarted server instead of having them all reconnect at once.
+   * </p>
+   */
+  public static class ReconnectPolicy {
+    private int initialDelay = 1000;
+    private int maxDelay = 30000;
+    private double multiplier = 2;
+    private int maxAttempts = 10;
+    private boolean jitter = true;
+
+    /**
+     * Creates a policy with exponential backoff and full jitter.
+     *
+     * @return the policy
+     */
+    public static ReconnectPolicy exponential() {
+      return new ReconnectPolicy();
+    }
+
+    /**
+     * Creates a policy which waits the same delay before every attempt.
+     *
+     * @param delay the delay in milliseconds
+     * @return the policy
+     */
+    public static ReconnectPolicy fixed(int delay) {
+      return new ReconnectPolicy().setInitialDelay(delay).setMaxDelay(delay).setMultiplier(1)
+          .setJitter(false);
+    }
+
+    /**
+     * Sets the delay before the first attempt.
+     *
+     * @param initialDelay the delay in milliseconds
+     * @return the policy
+     */
+    public ReconnectPolicy setInitialDelay(int initialDelay) {
+      this.initialDelay = initialDelay;
+      return this;
+    }
+
+    /**
+     * Gets the delay before the first attempt.
+     *
+     * @return the delay in milliseconds
+     */
+    public int getInitialDelay() {
+      return initialDelay;
+    }
+
+    /**
+     * Sets the cap of the delay between two attempts.
+     *
+     * @param maxDelay the delay in milliseconds
+     * @return the policy
+     */
+    public ReconnectPolicy setMaxDelay(int maxDelay) {
+      this.maxDelay = maxDelay;
+      return this;
+    }
+
+    /**
+     * Gets the cap of the delay between two attempts.
+     *
+     * @return the delay in milliseconds
+     */
+    public int getMaxDelay() {
+      return maxDelay;
+    }
+
+    /**
+     * Sets the factor the delay grows by after every attempt.
+     *
+     * @param multiplier the growth factor
+     * @return the policy
+     */
+    public ReconnectPolicy setMultiplier(double multiplier) {
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    /**
+     * Gets the factor the delay grows by after every attempt.
+     *
+     * @return the growth factor
+     */
+    public double getMultiplier() {
+      return multiplier;
+    }
+
+    /**
+     * Sets the number of attempts after which the client gives up.
+     *
+     * @param maxAttempts the number of attempts or 0 to retry forever
+     * @return the policy
+     */
+    public ReconnectPolicy setMaxAttempts(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Gets the number of attempts after which the client gives up.
+     *
+     * @return the number of attempts or 0 to retry forever
+     */
+    public int getMaxAttempts() {
+      return maxAttempts;
+    }
+
+    /**
+     * Sets whether the delay is randomized between zero and the computed delay.
+     *
+     * @param jitter whether jitter is enabled
+     * @return the policy
+     */
+    public ReconnectPolicy setJitter(boolean jitter) {
+      this.jitter = jitter;
+      return this;
+    }
+
+    /**
+     * Gets whether the delay is randomized between zero and the computed delay.
+     *
+     * @return whether jitter is enabled
+     */
+    public boolean isJitter() {
+      return jitter;
+    }
+
+    ReconnectPolicy copy() {
+      return new ReconnectPolicy().setInitialDelay(initialDelay).setMaxDelay(maxDelay)
+          .setMultiplier(multiplier).setMaxAttempts(maxAttempts).setJitter(jitter);
+    }
+  }
+
+  /**
+   * Defines how the client limits the rate of the actions with a given name.
+   */
+  public static class ActionPolicy {
+
+    /**
+     * The type of the policy.
+     */
+    public enum Type {
+      /**
+       * Only the last action of a burst is sent, once no action was fired for the given number of
+       * milliseconds.
+       */
+      DEBOUNCE,
+      /**
+       * At most the given number of actions per second are sent, the others are dropped.
+       */
+      THROTTLE,
+      /**
+       * The actions fired within the given number of milliseconds are coalesced and only the
+       * latest one is sent at the end of the period.
+       */
+      COALESCE
+    }
+
+    private final Type type;
+    private final int value;
+
+    private ActionPolicy(Type type, int value) {
+      if (value <= 0) {
+        throw new IllegalArgumentException("The policy value must be positive");
+      }
+
+      this.type = type;
+      this.value = value;
+    }
+
+    /**
+     * Creates a policy which sends only the last action of a burst.
+     *
+     * @param millis the number of milliseconds without actions that ends a burst
+     * @return the policy
+     */
+    public static ActionPolicy debounce(int millis) {
+      return new ActionPolicy(Type.DEBOUNCE, millis);
+    }
+
+    /**
+     * Creates a policy which sends at most the given number of actions per second.
+     *
+     * @param actionsPerSecond the maximum number of actions per second
+     * @return the policy
+     */
+    public static ActionPolicy throttle(int actionsPerSecond) {
+      return new ActionPolicy(Type.THROTTLE, actionsPerSecond);
+    }
+
+    /**
+     * Creates a policy which sends only the latest action fired within each period.
+     *
+     * @param millis the length of the period in milliseconds
+     * @return the policy
+     */
+    public static ActionPolicy coalesce(int millis) {
+      return new ActionPolicy(Type.COALESCE, millis);
+    }
+
+    /**
+     * Gets the type of the policy.
+     *
+     * @return the policy type
+     */
+    public Type getType() {
+      return type;
+    }
+
+    /**
+     * Gets the value of the policy. Milliseconds for {@link Type#DEBOUNCE} and
+     * {@link Type#COALESCE}, actions per second for {@link Type#THROTTLE}.
+     *
+     * @return the policy value
+     */
+    public int getValue() {
+      return value;
+    }
   }
 
   public static class PingParams {
@@ -280,6 +1172,10 @@ public class WebswingConnectorOptions {
     /**
      * Sets the number of ping attempts.
      *
+     * <p>
+     * The connection stability is evaluated over a window of this many latest pings.
+     * </p>
+     *
      * @param count the number of ping attempts
      * @return the options object
      */
@@ -298,7 +1194,7 @@ public class WebswingConnectorOptions {
     }
 
     /**
-     * Sets the interval between ping attempts in milliseconds.
+     * Sets the interval between ping attempts in seconds.
      *
      * @param interval the interval between ping attempts
      * @return the options object
@@ -309,7 +1205,7 @@ public class WebswingConnectorOptions {
     }
 
     /**
-     * Gets the interval between ping attempts in milliseconds.
+     * Gets the interval between ping attempts in seconds.
      *
      * @return the interval between ping attempts
      */
@@ -338,9 +1234,10 @@ public class WebswingConnectorOptions {
     }
 
     /**
-     * Sets the value in milliseconds to notify if latency exceeds.
+     * Sets the number of pings within the window exceeding the maximum latency from which the
+     * connection is reported as unstable.
      *
-     * @param notifyIf the value to notify if latency exceeds
+     * @param notifyIf the number of exceeding pings
      * @return the options object
      */
     public PingParams setNotifyIf(int notifyIf) {
@@ -349,12 +1246,18 @@ public class WebswingConnectorOptions {
     }
 
     /**
-     * Gets the value in milliseconds to notify if latency exceeds.
+     * Gets the number of pings within the window exceeding the maximum latency from which the
+     * connection is reported as unstable.
      *
-     * @return the value to notify if latency exceeds
+     * @return the number of exceeding pings
      */
     public int getNotifyIf() {
       return notifyIf;
     }
+
+    PingParams copy() {
+      return new PingParams().setCount(count).setInterval(interval).setMaxLatency(maxLatency)
+          .setNotifyIf(notifyIf);
+    }
   }
 }
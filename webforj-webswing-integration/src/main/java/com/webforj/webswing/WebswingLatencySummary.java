@@ -0,0 +1,158 @@
+package com.webforj.webswing;
+
+/**
+ * A summary of the latest latencies measured between the browser and the Webswing server.
+ *
+ * <p>
+ * The summary is computed over a rolling window of samples. Lost samples, for which the server
+ * could not be reached, are counted but excluded from the latency statistics.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ *
+ * @see WebswingConnector#getLatencySummary()
+ */
+public final class WebswingLatencySummary {
+  static final WebswingLatencySummary EMPTY =
+      new WebswingLatencySummary(new long[0], 0, false);
+
+  private final int count;
+  private final int lost;
+  private final long min;
+  private final long max;
+  private final double mean;
+  private final long p50;
+  private final long p90;
+  private final long p99;
+  private final boolean breached;
+
+  /**
+   * Creates a summary of the given latencies.
+   *
+   * @param sorted the latencies of the reachable samples, sorted ascending
+   * @param lost the number of lost samples
+   * @param breached whether the latest sample reported a threshold breach
+   */
+  WebswingLatencySummary(long[] sorted, int lost, boolean breached) {
+    this.count = sorted.length + lost;
+    this.lost = lost;
+    this.breached = breached;
+
+    if (sorted.length == 0) {
+      this.min = -1;
+      this.max = -1;
+      this.mean = -1;
+      this.p50 = -1;
+      this.p90 = -1;
+      this.p99 = -1;
+      return;
+    }
+
+    long sum = 0;
+    for (long value : sorted) {
+      sum += value;
+    }
+
+    this.min = sorted[0];
+    this.max = sorted[sorted.length - 1];
+    this.mean = (double) sum / sorted.length;
+    this.p50 = percentile(sorted, 0.5);
+    this.p90 = percentile(sorted, 0.9);
+    this.p99 = percentile(sorted, 0.99);
+  }
+
+  /**
+   * Gets the number of samples in the window, including the lost ones.
+   *
+   * @return the number of samples
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the number of samples for which the server could not be reached.
+   *
+   * @return the number of lost samples
+   */
+  public int getLostCount() {
+    return lost;
+  }
+
+  /**
+   * Gets the lowest latency.
+   *
+   * @return the latency in milliseconds or -1 if no latency was measured
+   */
+  public long getMin() {
+    return min;
+  }
+
+  /**
+   * Gets the highest latency.
+   *
+   * @return the latency in milliseconds or -1 if no latency was measured
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * Gets the mean latency.
+   *
+   * @return the latency in milliseconds or -1 if no latency was measured
+   */
+  public double getMean() {
+    return mean;
+  }
+
+  /**
+   * Gets the median latency.
+   *
+   * @return the latency in milliseconds or -1 if no latency was measured
+   */
+  public long getP50() {
+    return p50;
+  }
+
+  /**
+   * Gets the 90th percentile of the latencies.
+   *
+   * @return the latency in milliseconds or -1 if no latency was measured
+   */
+  public long getP90() {
+    return p90;
+  }
+
+  /**
+   * Gets the 99th percentile of the latencies.
+   *
+   * @return the latency in milliseconds or -1 if no latency was measured
+   */
+  public long getP99() {
+    return p99;
+  }
+
+  /**
+   * Checks whether the latest sample reported the connection as unstable.
+   *
+   * @return true if the ping threshold is breached
+   */
+  public boolean isBreached() {
+    return breached;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return String.format("count=%d lost=%d min=%d max=%d mean=%.2f p50=%d p90=%d p99=%d breached=%b",
+        count, lost, min, max, mean, p50, p90, p99, breached);
+  }
+
+  private static long percentile(long[] sorted, double quantile) {
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+  }
+}
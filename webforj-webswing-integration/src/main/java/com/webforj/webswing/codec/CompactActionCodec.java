@@ -0,0 +1,45 @@
+package com.webforj.webswing.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.webforj.webswing.WebswingAction;
+import com.webforj.webswing.event.WebswingConnectorActionEvent;
+import com.webforj.webswing.protocol.CompactLayout;
+
+/**
+ * Sends values in the compact binary format of their {@link CompactLayout layout}.
+ *
+ * @param <T> the type of the values
+ * @author Hyyan Abo Fakher
+ */
+final class CompactActionCodec<T> implements WebswingActionCodec<T> {
+  private final Class<T> type;
+  private final CompactLayout<T> layout;
+  private final TypeAdapter<T> adapter;
+
+  CompactActionCodec(Gson gson, Class<T> type) {
+    this.type = type;
+    this.layout = CompactLayout.of(type);
+    this.adapter = gson.getAdapter(type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public WebswingAction encode(String actionName, T value) {
+    if (value == null) {
+      return new WebswingAction(actionName, null, (String) null);
+    }
+
+    return WebswingAction.ofBinary(actionName, CompactLayout.MARKER, layout.write(value));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public T decode(WebswingConnectorActionEvent event) {
+    return JsonActionCodec.decode(event, type, adapter);
+  }
+}
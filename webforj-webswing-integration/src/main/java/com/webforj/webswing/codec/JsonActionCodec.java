@@ -0,0 +1,67 @@
+package com.webforj.webswing.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.webforj.webswing.WebswingAction;
+import com.webforj.webswing.event.WebswingConnectorActionEvent;
+import com.webforj.webswing.protocol.CompactLayout;
+
+/**
+ * Sends values as JSON data, with the type adapter of the value type resolved once.
+ *
+ * @param <T> the type of the values
+ * @author Hyyan Abo Fakher
+ */
+final class JsonActionCodec<T> implements WebswingActionCodec<T> {
+  private final Class<T> type;
+  private final TypeAdapter<T> adapter;
+
+  JsonActionCodec(Gson gson, Class<T> type) {
+    this.type = type;
+    this.adapter = gson.getAdapter(type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public WebswingAction encode(String actionName, T value) {
+    return new WebswingAction(actionName, adapter.toJson(value));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public T decode(WebswingConnectorActionEvent event) {
+    return decode(event, type, adapter);
+  }
+
+  /**
+   * Decodes the value of an event in the format it was sent in.
+   */
+  static <T> T decode(WebswingConnectorActionEvent event, Class<T> type,
+      TypeAdapter<T> adapter) {
+    String data = event.getActionData();
+    if (CompactLayout.MARKER.equals(data)) {
+      ByteBuffer binary = event.getActionBinaryDataAsBuffer();
+      if (binary != null) {
+        return CompactLayout.of(type).read(binary);
+      }
+    }
+
+    if (data == null || data.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return adapter.fromJson(data);
+    } catch (IOException | RuntimeException e) {
+      throw new IllegalArgumentException(
+          "Cannot decode the data of " + event.getActionName() + " as " + type.getName(), e);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package com.webforj.webswing.codec;
+
+import com.webforj.webswing.WebswingAction;
+import com.webforj.webswing.event.WebswingConnectorActionEvent;
+
+/**
+ * Converts typed values to the actions sent to the Swing application and back.
+ *
+ * <p>
+ * Codecs are created once per type and reused for every action, so the reflection and the type
+ * adapter lookups happen only once. They must be thread safe since the codecs of a
+ * {@link WebswingCodecRegistry} are shared by all the connectors using it.
+ * </p>
+ *
+ * @param <T> the type of the values
+ * @author Hyyan Abo Fakher
+ */
+public interface WebswingActionCodec<T> {
+
+  /**
+   * Creates the action carrying the given value.
+   *
+   * @param actionName the name of the action
+   * @param value the value
+   * @return the action
+   */
+  WebswingAction encode(String actionName, T value);
+
+  /**
+   * Reads the value carried by the given action event.
+   *
+   * @param event the action event
+   * @return the value or null if the action carries no data
+   * @throws IllegalArgumentException if the data cannot be decoded
+   */
+  T decode(WebswingConnectorActionEvent event);
+
+  /**
+   * Creates a codec sending the values as JSON data.
+   *
+   * <p>
+   * The codec also decodes the values the Swing application sent in the compact format.
+   * </p>
+   *
+   * @param <T> the type of the values
+   * @param type the class of the values
+   * @return the codec
+   */
+  static <T> WebswingActionCodec<T> json(Class<T> type) {
+    return new JsonActionCodec<>(WebswingCodecRegistry.getDefault().getGson(), type);
+  }
+
+  /**
+   * Creates a codec sending the values in a compact binary format on the binary channel.
+   *
+   * <p>
+   * The fields of the values are written by position without names, which is several times
+   * smaller than JSON and cheaper to read, at the price of both sides sharing the field names and
+   * types of the class. The data of the action is set to
+   * {@link com.webforj.webswing.protocol.CompactLayout#MARKER}. The codec also decodes the values
+   * the Swing application sent as JSON.
+   * </p>
+   *
+   * @param <T> the type of the values
+   * @param type the class of the values, a record or a class with a constructor without
+   *        parameters
+   * @return the codec
+   * @throws IllegalArgumentException if the class cannot be written in the compact format
+   */
+  static <T> WebswingActionCodec<T> compact(Class<T> type) {
+    return new CompactActionCodec<>(WebswingCodecRegistry.getDefault().getGson(), type);
+  }
+}
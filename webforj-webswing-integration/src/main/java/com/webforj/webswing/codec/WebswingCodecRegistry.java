@@ -0,0 +1,114 @@
+package com.webforj.webswing.codec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.Gson;
+
+/**
+ * Holds the codec of each type sent to or received from the Swing application.
+ *
+ * <p>
+ * Types without a registered codec get a JSON codec built from the Gson instance of the registry
+ * the first time they are used, later actions of the type reuse it. The registry is thread safe
+ * and is meant to be shared: connectors use the {@link #getDefault() default registry} unless
+ * {@link com.webforj.webswing.WebswingConnector#setCodecs(WebswingCodecRegistry) told otherwise}.
+ * </p>
+ *
+ * <pre>
+ * WebswingCodecRegistry.getDefault().registerCompact(Customer.class);
+ *
+ * connector.onAction("select-customer", Customer.class, (customer, event) -&gt; edit(customer));
+ * connector.performAction("update-customer", customer);
+ * </pre>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class WebswingCodecRegistry {
+  private static final WebswingCodecRegistry DEFAULT = new WebswingCodecRegistry();
+
+  private final Gson gson;
+  private final Map<Class<?>, WebswingActionCodec<?>> codecs = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a registry whose JSON codecs use the given Gson instance.
+   *
+   * @param gson the Gson instance, configured with the type adapters of the application
+   */
+  public WebswingCodecRegistry(Gson gson) {
+    if (gson == null) {
+      throw new IllegalArgumentException("The Gson instance must not be null");
+    }
+
+    this.gson = gson;
+  }
+
+  /**
+   * Creates a registry whose JSON codecs use a default Gson instance.
+   */
+  public WebswingCodecRegistry() {
+    this(new Gson());
+  }
+
+  /**
+   * Gets the registry shared by the connectors which have no registry of their own.
+   *
+   * @return the default registry
+   */
+  public static WebswingCodecRegistry getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * Gets the Gson instance of the JSON codecs.
+   *
+   * @return the Gson instance
+   */
+  public Gson getGson() {
+    return gson;
+  }
+
+  /**
+   * Registers the codec of the given type, replacing the codec in use.
+   *
+   * @param <T> the type of the values
+   * @param type the class of the values
+   * @param codec the codec
+   * @return the registry
+   */
+  public <T> WebswingCodecRegistry register(Class<T> type, WebswingActionCodec<T> codec) {
+    if (type == null || codec == null) {
+      throw new IllegalArgumentException("The type and the codec must not be null");
+    }
+
+    codecs.put(type, codec);
+    return this;
+  }
+
+  /**
+   * Sends the values of the given type in the compact binary format.
+   *
+   * @param <T> the type of the values
+   * @param type the class of the values, a record or a class with a constructor without
+   *        parameters
+   * @return the registry
+   * @throws IllegalArgumentException if the class cannot be written in the compact format
+   * @see WebswingActionCodec#compact(Class)
+   */
+  public <T> WebswingCodecRegistry registerCompact(Class<T> type) {
+    return register(type, new CompactActionCodec<>(gson, type));
+  }
+
+  /**
+   * Gets the codec of the given type, creating a JSON codec if none is registered.
+   *
+   * @param <T> the type of the values
+   * @param type the class of the values
+   * @return the codec
+   */
+  @SuppressWarnings("unchecked")
+  public <T> WebswingActionCodec<T> get(Class<T> type) {
+    return (WebswingActionCodec<T>) codecs.computeIfAbsent(type,
+        key -> new JsonActionCodec<>(gson, key));
+  }
+}
@@ -0,0 +1,69 @@
+package com.webforj.webswing.event;
+
+import java.util.EventObject;
+
+import com.webforj.webswing.WebswingActionStream;
+
+/**
+ * An event that is fired when a chunk of a {@link WebswingActionStream} is received.
+ *
+ * @author Hyyan Abo Fakher
+ */
+public class WebswingActionStreamProgressEvent extends EventObject {
+  private final long receivedBytes;
+  private final long totalBytes;
+
+  /**
+   * Creates a new stream progress event.
+   *
+   * @param stream the stream
+   * @param receivedBytes the number of bytes received so far
+   * @param totalBytes the total number of bytes announced by the sender or -1 if unknown
+   */
+  public WebswingActionStreamProgressEvent(WebswingActionStream stream, long receivedBytes,
+      long totalBytes) {
+    super(stream);
+    this.receivedBytes = receivedBytes;
+    this.totalBytes = totalBytes;
+  }
+
+  /**
+   * Gets the stream.
+   *
+   * @return the stream
+   */
+  public WebswingActionStream getStream() {
+    return (WebswingActionStream) getSource();
+  }
+
+  /**
+   * Gets the number of bytes received so far.
+   *
+   * @return the number of bytes received
+   */
+  public long getReceivedBytes() {
+    return receivedBytes;
+  }
+
+  /**
+   * Gets the total number of bytes announced by the sender.
+   *
+   * @return the total number of bytes or -1 if unknown
+   */
+  public long getTotalBytes() {
+    return totalBytes;
+  }
+
+  /**
+   * Gets the progress of the transfer.
+   *
+   * @return the progress between 0 and 1 or -1 if the total number of bytes is unknown
+   */
+  public double getProgress() {
+    if (totalBytes <= 0) {
+      return -1;
+    }
+
+    return Math.min(1d, (double) receivedBytes / totalBytes);
+  }
+}
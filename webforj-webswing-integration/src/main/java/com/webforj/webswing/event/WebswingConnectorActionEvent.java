@@ -1,5 +1,6 @@
 package com.webforj.webswing.event;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Map;
@@ -9,20 +10,38 @@ import com.webforj.component.element.annotation.EventOptions;
 import com.webforj.component.element.annotation.EventOptions.EventData;
 import com.webforj.component.event.ComponentEvent;
 import com.webforj.webswing.WebswingConnector;
+import com.webforj.webswing.WebswingConnectorOptions;
+import com.webforj.webswing.protocol.ActionCompression;
 
 /**
  * An event that is fired when an action is performed on the Webswing instance.
  *
+ * <p>
+ * Actions {@link ActionCompression compressed} by the Swing application are inflated on
+ * first access to their data, they have no binary data. They are inflated whatever the
+ * {@link WebswingConnectorOptions#setCompressionThreshold(int) compression threshold}, up to the
+ * {@link WebswingConnectorOptions#setMaxInflatedSize(int) maximum inflated size}.
+ * </p>
+ *
  * @author Hyyan Abo Fakher
  */
 @EventName("webswing-action")
 @EventOptions(data = {@EventData(key = "actionName", exp = "event.detail.actionName"),
     @EventData(key = "data", exp = "event.detail.data"),
-    @EventData(key = "binaryDataBase64", exp = "event.detail.binaryDataBase64"),})
+    @EventData(key = "binaryDataBase64", exp = "event.detail.binaryDataBase64"),
+    @EventData(key = "correlationId", exp = "event.detail.correlationId"),
+    @EventData(key = "timedOut", exp = "event.detail.timedOut"),
+    @EventData(key = "roundTripTime", exp = "event.detail.roundTripTime"),})
 public class WebswingConnectorActionEvent extends ComponentEvent<WebswingConnector> {
   private final String actionName;
-  private final String data;
-  private final String binaryData;
+  private final boolean compressed;
+  private final int maxInflatedSize;
+  private String data;
+  private String binaryData;
+  private final String correlationId;
+  private final boolean timedOut;
+  private final long roundTripTime;
+  private byte[] decodedBinaryData;
 
   /**
    * Creates a new webswing action event.
@@ -35,6 +54,16 @@ public class WebswingConnectorActionEvent extends ComponentEvent<WebswingConnect
     this.actionName = (String) eventMap.get("actionName");
     this.data = (String) eventMap.get("data");
     this.binaryData = (String) eventMap.get("binaryDataBase64");
+    WebswingConnectorOptions options = component.getOptions();
+    // the envelope is decoded whatever the threshold, which only concerns the sent actions
+    this.compressed = ActionCompression.isCompressed(data, binaryData);
+    this.maxInflatedSize = options != null ? options.getMaxInflatedSize()
+        : ActionCompression.DEFAULT_MAX_INFLATED_SIZE;
+    this.correlationId = (String) eventMap.get("correlationId");
+    this.timedOut = Boolean.TRUE.equals(eventMap.get("timedOut"));
+    Object roundTrip = eventMap.get("roundTripTime");
+    this.roundTripTime =
+        roundTrip instanceof Number ? Math.round(((Number) roundTrip).doubleValue()) : -1;
   }
 
   /**
@@ -50,22 +79,112 @@ public class WebswingConnectorActionEvent extends ComponentEvent<WebswingConnect
    * Gets the data.
    *
    * @return the data
+   * @throws IllegalArgumentException if the data is compressed and can not be inflated within the
+   *         maximum size
    */
   public String getActionData() {
+    if (compressed && binaryData != null) {
+      data = ActionCompression.inflate(Base64.getDecoder().decode(binaryData), maxInflatedSize);
+      binaryData = null;
+    }
+
     return data;
   }
 
   /**
-   * Gets the binary data.
+   * Decodes the data with the codec the connector uses for the given type, whether it was sent as
+   * JSON or in the compact format.
+   *
+   * @param <T> the type of the data
+   * @param type the class of the data
+   * @return the decoded data or null if the action carries no data
+   * @see WebswingConnector#setCodecs(com.webforj.webswing.codec.WebswingCodecRegistry)
+   */
+  public <T> T getActionDataAs(Class<T> type) {
+    return getComponent().getCodecs().get(type).decode(this);
+  }
+
+  /**
+   * Checks whether the Swing application sent the data compressed and the connector inflates it.
+   *
+   * @return true if the data was compressed
+   */
+  public boolean isCompressed() {
+    return compressed;
+  }
+
+  /**
+   * Gets the correlation id of the request this action responds to.
+   *
+   * @return the correlation id or null if the action is not a response
+   * @see WebswingConnector#performActionAsync(String, String)
+   */
+  public String getCorrelationId() {
+    return correlationId;
+  }
+
+  /**
+   * Checks whether the request this action responds to timed out before the Swing application
+   * responded.
+   *
+   * @return true if the request timed out
+   */
+  public boolean isTimedOut() {
+    return timedOut;
+  }
+
+  /**
+   * Gets the time the browser waited for the Swing application to respond to the request.
+   *
+   * @return the time in milliseconds or -1 if the action is not a response
+   */
+  public long getRoundTripTime() {
+    return roundTripTime;
+  }
+
+  /**
+   * Gets the binary data decoded as a UTF-8 string.
    *
    * @return the binary data
    */
   public String getActionBinaryData() {
-    if (binaryData != null) {
-      return new String(Base64.getDecoder().decode(binaryData.getBytes(StandardCharsets.UTF_8)),
-          StandardCharsets.UTF_8);
+    byte[] bytes = decodeBinaryData();
+    if (bytes != null) {
+      return new String(bytes, StandardCharsets.UTF_8);
     }
 
     return null;
   }
+
+  /**
+   * Gets a copy of the raw binary data.
+   *
+   * @return the binary data or null if no binary data was sent
+   */
+  public byte[] getActionBinaryDataAsBytes() {
+    byte[] bytes = decodeBinaryData();
+    return bytes != null ? bytes.clone() : null;
+  }
+
+  /**
+   * Gets a read-only view of the raw binary data.
+   *
+   * @return the binary data or null if no binary data was sent
+   */
+  public ByteBuffer getActionBinaryDataAsBuffer() {
+    byte[] bytes = decodeBinaryData();
+    return bytes != null ? ByteBuffer.wrap(bytes).asReadOnlyBuffer() : null;
+  }
+
+  private byte[] decodeBinaryData() {
+    if (compressed) {
+      return null;
+    }
+
+    if (decodedBinaryData == null && binaryData != null) {
+      decodedBinaryData = Base64.getDecoder().decode(binaryData);
+    }
+
+    return decodedBinaryData;
+  }
 }
@@ -0,0 +1,34 @@
+package com.webforj.webswing.event;
+
+import java.util.Map;
+
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * A low level event that is fired while the client waits for the admission to start the Swing
+ * application.
+ *
+ * <p>
+ * Applications do not need to listen to this event directly, the connector handles it with its
+ * {@link com.webforj.webswing.WebswingAdmissionController admission controller}. See
+ * {@link WebswingConnector#onQueued(com.webforj.dispatcher.EventListener)}.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+@EventName("webswing-admission")
+public class WebswingConnectorAdmissionEvent extends ComponentEvent<WebswingConnector> {
+
+  /**
+   * Creates a new webswing admission event.
+   *
+   * @param component the component
+   * @param eventMap the event map
+   */
+  public WebswingConnectorAdmissionEvent(WebswingConnector component,
+      Map<String, Object> eventMap) {
+    super(component, eventMap);
+  }
+}
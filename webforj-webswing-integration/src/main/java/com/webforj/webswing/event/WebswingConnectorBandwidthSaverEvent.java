@@ -0,0 +1,43 @@
+package com.webforj.webswing.event;
+
+import java.util.Map;
+
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An event that is fired when the bandwidth saver of the connector is activated or deactivated.
+ *
+ * @author Hyyan Abo Fakher
+ *
+ * @see com.webforj.webswing.WebswingConnectorOptions.BandwidthSaver
+ */
+@EventName("webswing-bandwidth-saver")
+@EventOptions(data = {@EventData(key = "active", exp = "event.detail.active"),})
+public class WebswingConnectorBandwidthSaverEvent extends ComponentEvent<WebswingConnector> {
+  private final boolean active;
+
+  /**
+   * Creates a new webswing bandwidth saver event.
+   *
+   * @param component the component
+   * @param eventMap the event map
+   */
+  public WebswingConnectorBandwidthSaverEvent(WebswingConnector component,
+      Map<String, Object> eventMap) {
+    super(component, eventMap);
+    this.active = Boolean.TRUE.equals(eventMap.get("active"));
+  }
+
+  /**
+   * Checks whether the bandwidth saver was activated.
+   *
+   * @return true if the bandwidth saver is now active, false if it was deactivated
+   */
+  public boolean isActive() {
+    return active;
+  }
+}
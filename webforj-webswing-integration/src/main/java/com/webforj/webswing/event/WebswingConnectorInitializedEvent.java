@@ -3,6 +3,8 @@ package com.webforj.webswing.event;
 import java.util.Map;
 
 import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
 import com.webforj.component.event.ComponentEvent;
 import com.webforj.webswing.WebswingConnector;
 
@@ -12,7 +14,11 @@ import com.webforj.webswing.WebswingConnector;
  * @author Hyyan Abo Fakher
  */
 @EventName("webswing-initialized")
+@EventOptions(data = {@EventData(key = "apiLoadTime", exp = "event.detail.apiLoadTime"),
+    @EventData(key = "bootstrapTime", exp = "event.detail.bootstrapTime"),})
 public class WebswingConnectorInitializedEvent extends ComponentEvent<WebswingConnector> {
+  private final long apiLoadTime;
+  private final long bootstrapTime;
 
   /**
    * Creates a new webswing initialized event.
@@ -23,5 +29,31 @@ public class WebswingConnectorInitializedEvent extends ComponentEvent<WebswingCo
   public WebswingConnectorInitializedEvent(WebswingConnector component,
       Map<String, Object> eventMap) {
     super(component, eventMap);
+    this.apiLoadTime = toMillis(eventMap.get("apiLoadTime"));
+    this.bootstrapTime = toMillis(eventMap.get("bootstrapTime"));
+  }
+
+  /**
+   * Gets the time the browser took to load the Webswing API.
+   *
+   * @return the time in milliseconds or -1 if it was not measured, for instance because the
+   *         connector reused a running session
+   */
+  public long getApiLoadTime() {
+    return apiLoadTime;
+  }
+
+  /**
+   * Gets the time the browser took to bootstrap the Webswing instance once the API was loaded.
+   *
+   * @return the time in milliseconds or -1 if it was not measured, for instance because the
+   *         connector reused a running session
+   */
+  public long getBootstrapTime() {
+    return bootstrapTime;
+  }
+
+  private static long toMillis(Object value) {
+    return value instanceof Number ? Math.round(((Number) value).doubleValue()) : -1;
   }
 }
@@ -0,0 +1,98 @@
+package com.webforj.webswing.event;
+
+import java.util.Map;
+
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An event that is fired every time the client measured the latency to the Webswing server.
+ *
+ * <p>
+ * The client probes the server according to the
+ * {@link com.webforj.webswing.WebswingConnectorOptions.PingParams ping parameters} of the
+ * connector and keeps a window of the latest samples. The connection is considered unstable when
+ * too many samples of the window exceed the maximum latency.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+@EventName("webswing-latency")
+@EventOptions(data = {@EventData(key = "latency", exp = "event.detail.latency"),
+    @EventData(key = "exceeded", exp = "event.detail.exceeded"),
+    @EventData(key = "samples", exp = "event.detail.samples"),
+    @EventData(key = "breached", exp = "event.detail.breached"),})
+public class WebswingConnectorLatencyEvent extends ComponentEvent<WebswingConnector> {
+  private final long latency;
+  private final int exceeded;
+  private final int samples;
+  private final boolean breached;
+
+  /**
+   * Creates a new webswing latency event.
+   *
+   * @param component the component
+   * @param eventMap the event map
+   */
+  public WebswingConnectorLatencyEvent(WebswingConnector component,
+      Map<String, Object> eventMap) {
+    super(component, eventMap);
+    Object value = eventMap.get("latency");
+    this.latency = value instanceof Number ? Math.round(((Number) value).doubleValue()) : -1;
+    value = eventMap.get("exceeded");
+    this.exceeded = value instanceof Number ? ((Number) value).intValue() : 0;
+    value = eventMap.get("samples");
+    this.samples = value instanceof Number ? ((Number) value).intValue() : 0;
+    this.breached = Boolean.TRUE.equals(eventMap.get("breached"));
+  }
+
+  /**
+   * Gets the measured round trip between the browser and the Webswing server.
+   *
+   * @return the latency in milliseconds or -1 if the server could not be reached
+   */
+  public long getLatency() {
+    return latency;
+  }
+
+  /**
+   * Checks whether the server could not be reached by the probe.
+   *
+   * @return true if the probe failed
+   */
+  public boolean isLost() {
+    return latency < 0;
+  }
+
+  /**
+   * Gets the number of samples of the window which exceeded the maximum latency or were lost.
+   *
+   * @return the number of exceeding samples
+   */
+  public int getExceededCount() {
+    return exceeded;
+  }
+
+  /**
+   * Gets the number of samples in the window.
+   *
+   * @return the number of samples
+   */
+  public int getSampleCount() {
+    return samples;
+  }
+
+  /**
+   * Checks whether the number of exceeding samples reached the
+   * {@link com.webforj.webswing.WebswingConnectorOptions.PingParams#getNotifyIf() notify
+   * threshold}.
+   *
+   * @return true if the connection is considered unstable
+   */
+  public boolean isBreached() {
+    return breached;
+  }
+}
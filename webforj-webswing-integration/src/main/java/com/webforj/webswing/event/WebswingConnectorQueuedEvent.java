@@ -0,0 +1,56 @@
+package com.webforj.webswing.event;
+
+import java.util.HashMap;
+
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An event that is fired while the start of the Swing application waits in the queue of the
+ * admission controller.
+ *
+ * <p>
+ * The event is fired every time the client polls for admission, with the current position in the
+ * queue. The start is admitted once the position reaches the head of the queue and a start slot
+ * is free.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ *
+ * @see com.webforj.webswing.WebswingAdmissionController
+ */
+public class WebswingConnectorQueuedEvent extends ComponentEvent<WebswingConnector> {
+  private final int position;
+  private final long waitTime;
+
+  /**
+   * Creates a new webswing queued event.
+   *
+   * @param component the component
+   * @param position the position in the queue, starting at 1
+   * @param waitTime the time waited so far in milliseconds
+   */
+  public WebswingConnectorQueuedEvent(WebswingConnector component, int position, long waitTime) {
+    super(component, new HashMap<>());
+    this.position = position;
+    this.waitTime = waitTime;
+  }
+
+  /**
+   * Gets the position in the queue.
+   *
+   * @return the position, starting at 1
+   */
+  public int getPosition() {
+    return position;
+  }
+
+  /**
+   * Gets the time waited so far.
+   *
+   * @return the time in milliseconds
+   */
+  public long getWaitTime() {
+    return waitTime;
+  }
+}
@@ -0,0 +1,92 @@
+package com.webforj.webswing.event;
+
+import java.util.Map;
+
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An event that is fired for every reconnect attempt of the connector and its outcome.
+ *
+ * @author Hyyan Abo Fakher
+ *
+ * @see com.webforj.webswing.WebswingConnectorOptions.ReconnectPolicy
+ */
+@EventName("webswing-reconnect")
+@EventOptions(data = {@EventData(key = "attempt", exp = "event.detail.attempt"),
+    @EventData(key = "delay", exp = "event.detail.delay"),
+    @EventData(key = "outcome", exp = "event.detail.outcome"),})
+public class WebswingConnectorReconnectEvent extends ComponentEvent<WebswingConnector> {
+
+  /**
+   * The outcome of a reconnect attempt.
+   */
+  public enum Outcome {
+    /**
+     * The attempt is due after the {@link WebswingConnectorReconnectEvent#getDelay() delay}.
+     */
+    SCHEDULED,
+    /**
+     * The server was reached and the Webswing instance was bootstrapped again.
+     */
+    SUCCEEDED,
+    /**
+     * The server was still unreachable, another attempt follows.
+     */
+    FAILED,
+    /**
+     * The server was still unreachable after the last attempt, the client gave up.
+     */
+    EXHAUSTED
+  }
+
+  private final int attempt;
+  private final long delay;
+  private final Outcome outcome;
+
+  /**
+   * Creates a new webswing reconnect event.
+   *
+   * @param component the component
+   * @param eventMap the event map
+   */
+  public WebswingConnectorReconnectEvent(WebswingConnector component,
+      Map<String, Object> eventMap) {
+    super(component, eventMap);
+    Object value = eventMap.get("attempt");
+    this.attempt = value instanceof Number ? ((Number) value).intValue() : 0;
+    value = eventMap.get("delay");
+    this.delay = value instanceof Number ? ((Number) value).longValue() : 0;
+    this.outcome = Outcome.valueOf(String.valueOf(eventMap.get("outcome")));
+  }
+
+  /**
+   * Gets the number of the attempt, starting at 1.
+   *
+   * @return the attempt number
+   */
+  public int getAttempt() {
+    return attempt;
+  }
+
+  /**
+   * Gets the delay before the attempt.
+   *
+   * @return the delay in milliseconds, only set for {@link Outcome#SCHEDULED}
+   */
+  public long getDelay() {
+    return delay;
+  }
+
+  /**
+   * Gets the outcome of the attempt.
+   *
+   * @return the outcome
+   */
+  public Outcome getOutcome() {
+    return outcome;
+  }
+}
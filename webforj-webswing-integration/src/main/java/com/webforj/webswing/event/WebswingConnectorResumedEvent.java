@@ -0,0 +1,44 @@
+package com.webforj.webswing.event;
+
+import java.util.Map;
+
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An event that is fired when a suspended connector bootstraps its Webswing instance again.
+ *
+ * @author Hyyan Abo Fakher
+ *
+ * @see WebswingConnectorSuspendedEvent
+ */
+@EventName("webswing-resumed")
+@EventOptions(data = {@EventData(key = "suspendedTime", exp = "event.detail.suspendedTime"),})
+public class WebswingConnectorResumedEvent extends ComponentEvent<WebswingConnector> {
+  private final long suspendedTime;
+
+  /**
+   * Creates a new webswing resumed event.
+   *
+   * @param component the component
+   * @param eventMap the event map
+   */
+  public WebswingConnectorResumedEvent(WebswingConnector component,
+      Map<String, Object> eventMap) {
+    super(component, eventMap);
+    Object value = eventMap.get("suspendedTime");
+    this.suspendedTime = value instanceof Number ? ((Number) value).longValue() : 0;
+  }
+
+  /**
+   * Gets how long the connector stayed suspended.
+   *
+   * @return the time in milliseconds
+   */
+  public long getSuspendedTime() {
+    return suspendedTime;
+  }
+}
@@ -3,6 +3,8 @@ package com.webforj.webswing.event;
 import java.util.Map;
 
 import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
 import com.webforj.component.event.ComponentEvent;
 import com.webforj.webswing.WebswingConnector;
 
@@ -12,7 +14,9 @@ import com.webforj.webswing.WebswingConnector;
  * @author Hyyan Abo Fakher
  */
 @EventName("webswing-started")
+@EventOptions(data = {@EventData(key = "startTime", exp = "event.detail.startTime"),})
 public class WebswingConnectorStartedEvent extends ComponentEvent<WebswingConnector> {
+  private final long startTime;
 
   /**
    * Creates a new webswing started event.
@@ -22,5 +26,17 @@ public class WebswingConnectorStartedEvent extends ComponentEvent<WebswingConnec
    */
   public WebswingConnectorStartedEvent(WebswingConnector component, Map<String, Object> eventMap) {
     super(component, eventMap);
+    Object value = eventMap.get("startTime");
+    this.startTime = value instanceof Number ? Math.round(((Number) value).doubleValue()) : -1;
+  }
+
+  /**
+   * Gets the time between requesting the start of the Swing application and its start.
+   *
+   * @return the time in milliseconds or -1 if it was not measured, for instance because the
+   *         connector reused a running session
+   */
+  public long getStartTime() {
+    return startTime;
   }
 }
@@ -0,0 +1,141 @@
+package com.webforj.webswing.event;
+
+import java.util.Base64;
+import java.util.Map;
+
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * A low level event that is fired for every message of an action stream sent by the Webswing
+ * instance.
+ *
+ * <p>
+ * Applications do not need to listen to this event directly, the connector reassembles the
+ * messages and exposes them as {@link com.webforj.webswing.WebswingActionStream} instances. See
+ * {@link WebswingConnector#onStream(com.webforj.dispatcher.EventListener)}.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+@EventName("webswing-stream")
+@EventOptions(data = {@EventData(key = "streamId", exp = "event.detail.streamId"),
+    @EventData(key = "type", exp = "event.detail.type"),
+    @EventData(key = "name", exp = "event.detail.name"),
+    @EventData(key = "size", exp = "event.detail.size"),
+    @EventData(key = "reason", exp = "event.detail.reason"),
+    @EventData(key = "binaryDataBase64", exp = "event.detail.binaryDataBase64"),})
+public class WebswingConnectorStreamEvent extends ComponentEvent<WebswingConnector> {
+
+  /**
+   * The type of the stream message.
+   */
+  public enum Type {
+    /**
+     * The sender opened a new stream.
+     */
+    OPEN,
+    /**
+     * The sender sent a chunk of the stream.
+     */
+    CHUNK,
+    /**
+     * The sender finished sending the stream.
+     */
+    CLOSE,
+    /**
+     * The sender aborted the stream.
+     */
+    ABORT,
+    /**
+     * The stream did not receive any message for a while and the client asks whether the sender
+     * can be acknowledged.
+     */
+    POLL
+  }
+
+  private final String streamId;
+  private final Type type;
+  private final String name;
+  private final long size;
+  private final String reason;
+  private final String binaryData;
+
+  /**
+   * Creates a new webswing stream event.
+   *
+   * @param component the component
+   * @param eventMap the event map
+   */
+  public WebswingConnectorStreamEvent(WebswingConnector component, Map<String, Object> eventMap) {
+    super(component, eventMap);
+    this.streamId = (String) eventMap.get("streamId");
+    this.type = Type.valueOf(String.valueOf(eventMap.get("type")).toUpperCase());
+    this.name = (String) eventMap.get("name");
+    Object sizeValue = eventMap.get("size");
+    this.size = sizeValue instanceof Number ? ((Number) sizeValue).longValue() : -1;
+    this.reason = (String) eventMap.get("reason");
+    this.binaryData = (String) eventMap.get("binaryDataBase64");
+  }
+
+  /**
+   * Gets the id of the stream.
+   *
+   * @return the stream id
+   */
+  public String getStreamId() {
+    return streamId;
+  }
+
+  /**
+   * Gets the type of the message.
+   *
+   * @return the message type
+   */
+  public Type getType() {
+    return type;
+  }
+
+  /**
+   * Gets the name of the stream as given by the sender.
+   *
+   * @return the stream name, only set for {@link Type#OPEN} messages
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the total size of the stream as announced by the sender.
+   *
+   * @return the size in bytes or -1 if unknown
+   */
+  public long getSize() {
+    return size;
+  }
+
+  /**
+   * Gets the reason the stream was aborted.
+   *
+   * @return the reason, only set for {@link Type#ABORT} messages
+   */
+  public String getReason() {
+    return reason;
+  }
+
+  /**
+   * Gets the bytes of the chunk.
+   *
+   * @return the chunk bytes, only set for {@link Type#CHUNK} messages
+   */
+  public byte[] getChunk() {
+    if (binaryData == null) {
+      return new byte[0];
+    }
+
+    return Base64.getDecoder().decode(binaryData);
+  }
+}
@@ -0,0 +1,44 @@
+package com.webforj.webswing.event;
+
+import java.util.HashMap;
+
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingActionStream;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An event that is fired when the Webswing instance starts sending an action stream.
+ *
+ * <p>
+ * Listeners are expected to attach a consumer to the stream while handling the event, either by
+ * calling {@link WebswingActionStream#getInputStream()} or
+ * {@link WebswingActionStream#subscribe(java.util.concurrent.Flow.Subscriber)}. Streams without a
+ * consumer are discarded.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public class WebswingConnectorStreamOpenedEvent extends ComponentEvent<WebswingConnector> {
+  private final WebswingActionStream stream;
+
+  /**
+   * Creates a new webswing stream opened event.
+   *
+   * @param component the component
+   * @param stream the opened stream
+   */
+  public WebswingConnectorStreamOpenedEvent(WebswingConnector component,
+      WebswingActionStream stream) {
+    super(component, new HashMap<>());
+    this.stream = stream;
+  }
+
+  /**
+   * Gets the opened stream.
+   *
+   * @return the stream
+   */
+  public WebswingActionStream getStream() {
+    return stream;
+  }
+}
@@ -0,0 +1,62 @@
+package com.webforj.webswing.event;
+
+import java.util.Map;
+
+import com.webforj.component.element.annotation.EventName;
+import com.webforj.component.element.annotation.EventOptions;
+import com.webforj.component.element.annotation.EventOptions.EventData;
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An event that is fired when the connector is suspended and released its Webswing instance.
+ *
+ * @author Hyyan Abo Fakher
+ *
+ * @see com.webforj.webswing.WebswingConnectorOptions.IdlePolicy
+ */
+@EventName("webswing-suspended")
+@EventOptions(data = {@EventData(key = "reason", exp = "event.detail.reason"),})
+public class WebswingConnectorSuspendedEvent extends ComponentEvent<WebswingConnector> {
+
+  /**
+   * Why the connector was suspended.
+   */
+  public enum Reason {
+    /**
+     * No input was received for the idle timeout.
+     */
+    IDLE,
+    /**
+     * The page stayed hidden for the hidden delay.
+     */
+    HIDDEN,
+    /**
+     * {@link WebswingConnector#suspend()} was called.
+     */
+    MANUAL
+  }
+
+  private final Reason reason;
+
+  /**
+   * Creates a new webswing suspended event.
+   *
+   * @param component the component
+   * @param eventMap the event map
+   */
+  public WebswingConnectorSuspendedEvent(WebswingConnector component,
+      Map<String, Object> eventMap) {
+    super(component, eventMap);
+    this.reason = Reason.valueOf(String.valueOf(eventMap.get("reason")));
+  }
+
+  /**
+   * Gets why the connector was suspended.
+   *
+   * @return the reason
+   */
+  public Reason getReason() {
+    return reason;
+  }
+}
@@ -0,0 +1,77 @@
+package com.webforj.webswing.event;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An event that is fired when a record of a
+ * {@link com.webforj.webswing.sync.WebswingRecordSync} replica is changed by the Swing
+ * application.
+ *
+ * @param <T> the type of the records
+ * @author Hyyan Abo Fakher
+ */
+public class WebswingRecordChangeEvent<T> extends ComponentEvent<WebswingConnector> {
+  private final String key;
+  private final T record;
+  private final long version;
+  private final Set<String> fields;
+
+  /**
+   * Creates a new webswing record change event.
+   *
+   * @param component the component
+   * @param key the key of the record
+   * @param record the record as seen by the replica after the change
+   * @param version the version confirmed by the Swing application
+   * @param fields the names of the changed fields
+   */
+  public WebswingRecordChangeEvent(WebswingConnector component, String key, T record,
+      long version, Set<String> fields) {
+    super(component, new HashMap<>());
+    this.key = key;
+    this.record = record;
+    this.version = version;
+    this.fields = fields;
+  }
+
+  /**
+   * Gets the key of the record.
+   *
+   * @return the key
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the record as seen by the replica after the change, including the local changes which
+   * are not confirmed yet.
+   *
+   * @return the record
+   */
+  public T getRecord() {
+    return record;
+  }
+
+  /**
+   * Gets the version of the record confirmed by the Swing application.
+   *
+   * @return the version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the names of the changed fields.
+   *
+   * @return the field names
+   */
+  public Set<String> getFields() {
+    return fields;
+  }
+}
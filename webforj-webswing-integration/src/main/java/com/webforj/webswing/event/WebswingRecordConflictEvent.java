@@ -0,0 +1,93 @@
+package com.webforj.webswing.event;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import com.webforj.component.event.ComponentEvent;
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An event that is fired when the Swing application rejects the local changes of a
+ * {@link com.webforj.webswing.sync.WebswingRecordSync} replica because they were based on an
+ * outdated version of the record.
+ *
+ * <p>
+ * By the time the event is fired the replica holds the version of the Swing application again.
+ * Listeners can merge the rejected changes into it and update the record once more.
+ * </p>
+ *
+ * @param <T> the type of the records
+ * @author Hyyan Abo Fakher
+ */
+public class WebswingRecordConflictEvent<T> extends ComponentEvent<WebswingConnector> {
+  private final String key;
+  private final T record;
+  private final T rejected;
+  private final long version;
+  private final Set<String> rejectedFields;
+
+  /**
+   * Creates a new webswing record conflict event.
+   *
+   * @param component the component
+   * @param key the key of the record
+   * @param record the record of the Swing application or null if it does not exist
+   * @param rejected the record as it was edited locally
+   * @param version the version of the Swing application
+   * @param rejectedFields the names of the rejected fields
+   */
+  public WebswingRecordConflictEvent(WebswingConnector component, String key, T record,
+      T rejected, long version, Set<String> rejectedFields) {
+    super(component, new HashMap<>());
+    this.key = key;
+    this.record = record;
+    this.rejected = rejected;
+    this.version = version;
+    this.rejectedFields = rejectedFields;
+  }
+
+  /**
+   * Gets the key of the record.
+   *
+   * @return the key
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the record of the Swing application, now held by the replica.
+   *
+   * @return the record or null if the Swing application does not know the record
+   */
+  public T getRecord() {
+    return record;
+  }
+
+  /**
+   * Gets the record as it was edited locally before the conflict.
+   *
+   * @return the rejected record
+   */
+  public T getRejected() {
+    return rejected;
+  }
+
+  /**
+   * Gets the version of the record in the Swing application.
+   *
+   * @return the version, 0 if the record does not exist
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the names of the fields whose local changes were rejected.
+   *
+   * @return the field names
+   */
+  public Set<String> getRejectedFields() {
+    return rejectedFields;
+  }
+}
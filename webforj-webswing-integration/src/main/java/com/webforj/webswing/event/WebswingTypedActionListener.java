@@ -0,0 +1,20 @@
+package com.webforj.webswing.event;
+
+/**
+ * Listens to the actions with a given name whose data is decoded to a given type by the codec of
+ * the connector.
+ *
+ * @param <T> the type of the data
+ * @author Hyyan Abo Fakher
+ */
+@FunctionalInterface
+public interface WebswingTypedActionListener<T> {
+
+  /**
+   * Called for every action with the name the listener is registered for.
+   *
+   * @param value the decoded data, null if the action carries no data
+   * @param event the action event
+   */
+  void onAction(T value, WebswingConnectorActionEvent event);
+}
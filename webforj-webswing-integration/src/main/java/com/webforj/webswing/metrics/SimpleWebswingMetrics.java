@@ -0,0 +1,249 @@
+package com.webforj.webswing.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * An in-memory metrics implementation which aggregates the metrics of all connectors.
+ *
+ * <p>
+ * Counters are kept as totals and timers as histograms with exponential buckets, which gives
+ * approximate percentiles at a constant memory cost. The implementation is thread safe and meant
+ * to be registered once as the default metrics of the application.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public class SimpleWebswingMetrics implements WebswingMetrics {
+  private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+  private final Map<String, Histogram> timers = new ConcurrentHashMap<>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void increment(String name, WebswingConnector connector) {
+    counters.computeIfAbsent(name, key -> new LongAdder()).increment();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void record(String name, long millis, WebswingConnector connector) {
+    timers.computeIfAbsent(name, key -> new Histogram()).record(millis);
+  }
+
+  /**
+   * Gets the value of the counter with the given name.
+   *
+   * @param name the name of the counter
+   * @return the value of the counter
+   */
+  public long getCount(String name) {
+    LongAdder counter = counters.get(name);
+    return counter != null ? counter.sum() : 0;
+  }
+
+  /**
+   * Gets a snapshot of the timer with the given name.
+   *
+   * @param name the name of the timer
+   * @return the snapshot of the timer
+   */
+  public Snapshot getTimer(String name) {
+    Histogram histogram = timers.get(name);
+    return histogram != null ? histogram.snapshot() : Histogram.EMPTY;
+  }
+
+  /**
+   * Gets the values of all counters.
+   *
+   * @return the counters keyed by name
+   */
+  public Map<String, Long> getCounts() {
+    Map<String, Long> result = new TreeMap<>();
+    counters.forEach((name, counter) -> result.put(name, counter.sum()));
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Gets snapshots of all timers.
+   *
+   * @return the snapshots keyed by name
+   */
+  public Map<String, Snapshot> getTimers() {
+    Map<String, Snapshot> result = new TreeMap<>();
+    timers.forEach((name, histogram) -> result.put(name, histogram.snapshot()));
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Resets all counters and timers.
+   */
+  public void reset() {
+    counters.clear();
+    timers.clear();
+  }
+
+  /**
+   * A point in time view of a timer.
+   */
+  public static final class Snapshot {
+    private final long count;
+    private final long min;
+    private final long max;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+
+    Snapshot(long count, long min, long max, double mean, long p50, long p90, long p99) {
+      this.count = count;
+      this.min = min;
+      this.max = max;
+      this.mean = mean;
+      this.p50 = p50;
+      this.p90 = p90;
+      this.p99 = p99;
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return the count
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * Gets the shortest recorded duration.
+     *
+     * @return the minimum in milliseconds
+     */
+    public long getMin() {
+      return min;
+    }
+
+    /**
+     * Gets the longest recorded duration.
+     *
+     * @return the maximum in milliseconds
+     */
+    public long getMax() {
+      return max;
+    }
+
+    /**
+     * Gets the mean of the recorded durations.
+     *
+     * @return the mean in milliseconds
+     */
+    public double getMean() {
+      return mean;
+    }
+
+    /**
+     * Gets the approximate median.
+     *
+     * @return the 50th percentile in milliseconds
+     */
+    public long getP50() {
+      return p50;
+    }
+
+    /**
+     * Gets the approximate 90th percentile.
+     *
+     * @return the 90th percentile in milliseconds
+     */
+    public long getP90() {
+      return p90;
+    }
+
+    /**
+     * Gets the approximate 99th percentile.
+     *
+     * @return the 99th percentile in milliseconds
+     */
+    public long getP99() {
+      return p99;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+      return String.format("count=%d min=%d max=%d mean=%.2f p50=%d p90=%d p99=%d", count, min,
+          max, mean, p50, p90, p99);
+    }
+  }
+
+  private static final class Histogram {
+    // bucket i holds the durations in [2^(i-1), 2^i), bucket 0 holds 0
+    private static final int BUCKETS = 40;
+    private static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0, 0);
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    void record(long value) {
+      long millis = Math.max(0, value);
+      int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(millis));
+      buckets.incrementAndGet(bucket);
+      count.increment();
+      sum.add(millis);
+      min.accumulateAndGet(millis, Math::min);
+      max.accumulateAndGet(millis, Math::max);
+    }
+
+    Snapshot snapshot() {
+      long total = count.sum();
+      if (total == 0) {
+        return EMPTY;
+      }
+
+      long[] counts = new long[BUCKETS];
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] = buckets.get(i);
+      }
+
+      long lowest = min.get();
+      long highest = max.get();
+      return new Snapshot(total, lowest, highest, (double) sum.sum() / total,
+          percentile(counts, 0.5, lowest, highest), percentile(counts, 0.9, lowest, highest),
+          percentile(counts, 0.99, lowest, highest));
+    }
+
+    private static long percentile(long[] counts, double quantile, long lowest, long highest) {
+      long total = 0;
+      for (long value : counts) {
+        total += value;
+      }
+
+      long rank = (long) Math.ceil(quantile * total);
+      long seen = 0;
+      for (int i = 0; i < counts.length; i++) {
+        seen += counts[i];
+        if (seen >= rank && counts[i] > 0) {
+          long upper = i == 0 ? 0 : (1L << i) - 1;
+          return Math.max(lowest, Math.min(highest, upper));
+        }
+      }
+
+      return highest;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.webforj.webswing.metrics;
+
+import com.webforj.webswing.WebswingConnector;
+
+/**
+ * Receives the metrics recorded by the webswing connectors.
+ *
+ * <p>
+ * Implementations bridge the metrics to the monitoring library of the application, for instance
+ * by mapping counters and timers to a meter registry. The integration does not depend on any
+ * metrics library. Implementations must be thread safe as they are usually shared by all the
+ * connectors of the application.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ *
+ * @see WebswingConnector#setDefaultMetrics(WebswingMetrics)
+ * @see WebswingConnector#setMetrics(WebswingMetrics)
+ * @see SimpleWebswingMetrics
+ */
+public interface WebswingMetrics {
+
+  /**
+   * Counter incremented when a connector is initialized.
+   */
+  String INITIALIZED = "webswing.connector.initialized";
+
+  /**
+   * Counter incremented when the Swing application of a connector is started.
+   */
+  String STARTED = "webswing.connector.started";
+
+  /**
+   * Timer of the time the browser took to load the Webswing API, in milliseconds.
+   */
+  String API_LOAD_TIME = "webswing.connector.api-load";
+
+  /**
+   * Timer of the time the browser took to bootstrap the Webswing instance once the API was loaded,
+   * in milliseconds.
+   */
+  String BOOTSTRAP_TIME = "webswing.connector.bootstrap";
+
+  /**
+   * Timer of the time between requesting the start of the Swing application and its start, in
+   * milliseconds.
+   */
+  String START_TIME = "webswing.connector.start";
+
+  /**
+   * Counter incremented when a connector reconnected after losing the connection to the server.
+   */
+  String RECONNECTED = "webswing.connector.reconnected";
+
+  /**
+   * Counter incremented when a connector gave up reconnecting to the server.
+   */
+  String RECONNECT_EXHAUSTED = "webswing.connector.reconnect-exhausted";
+
+  /**
+   * Counter incremented when a connector is suspended.
+   */
+  String SUSPENDED = "webswing.connector.suspended";
+
+  /**
+   * Timer of the time connectors stayed suspended before being resumed, in milliseconds.
+   */
+  String SUSPENDED_TIME = "webswing.connector.suspended-time";
+
+  /**
+   * Timer of the time connectors waited for the admission controller before starting, in
+   * milliseconds.
+   */
+  String ADMISSION_WAIT_TIME = "webswing.connector.admission-wait";
+
+  /**
+   * Counter incremented for every action sent to the Swing application.
+   */
+  String ACTIONS_PERFORMED = "webswing.action.performed";
+
+  /**
+   * Counter incremented for every action received from the Swing application.
+   */
+  String ACTIONS_RECEIVED = "webswing.action.received";
+
+  /**
+   * Timer of the round trip of a request between the browser and the Swing application, in
+   * milliseconds.
+   */
+  String ROUND_TRIP_TIME = "webswing.action.round-trip";
+
+  /**
+   * Timer of the time between sending a request on the server and receiving its response on the
+   * server, in milliseconds.
+   */
+  String RESPONSE_TIME = "webswing.action.response";
+
+  /**
+   * Counter incremented for every request which did not receive a response in time.
+   */
+  String TIMEOUTS = "webswing.action.timeout";
+
+  /**
+   * Timer of the latency between the browser and the Webswing server, in milliseconds. Only
+   * recorded for the connectors with latency telemetry enabled.
+   */
+  String LATENCY = "webswing.network.latency";
+
+  /**
+   * Counter incremented for every latency probe which could not reach the Webswing server.
+   */
+  String LATENCY_LOST = "webswing.network.lost";
+
+  /**
+   * A metrics implementation which ignores all the metrics.
+   */
+  WebswingMetrics NOOP = new WebswingMetrics() {
+    @Override
+    public void increment(String name, WebswingConnector connector) {
+      // no-op
+    }
+
+    @Override
+    public void record(String name, long millis, WebswingConnector connector) {
+      // no-op
+    }
+  };
+
+  /**
+   * Increments the counter with the given name.
+   *
+   * @param name the name of the counter
+   * @param connector the connector which recorded the metric
+   */
+  void increment(String name, WebswingConnector connector);
+
+  /**
+   * Records a duration in the timer with the given name.
+   *
+   * @param name the name of the timer
+   * @param millis the duration in milliseconds
+   * @param connector the connector which recorded the metric
+   */
+  void record(String name, long millis, WebswingConnector connector);
+}
@@ -0,0 +1,431 @@
+package com.webforj.webswing.pool;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pool of Webswing servers running the same Swing application.
+ *
+ * <p>
+ * The pool probes its servers periodically for health and latency and hands out the best server
+ * according to its {@link Strategy}. Every connector using the pool holds a {@link Lease} on its
+ * server until it is destroyed, the leases are the load the pool knows about. Servers failing
+ * consecutive probes are skipped until they answer again. When no server is healthy the pool still
+ * hands out a server, the connector then reconnects as it would with a single server.
+ * </p>
+ *
+ * <p>
+ * Probing runs on a single daemon thread once {@link #start()} is called, {@link #probeNow()}
+ * probes synchronously. The pool is thread safe and meant to be shared by all the sessions of the
+ * application.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ *
+ * @see com.webforj.webswing.WebswingConnector#WebswingConnector(WebswingServerPool, String,
+ *      com.webforj.webswing.WebswingConnectorOptions)
+ */
+public final class WebswingServerPool implements AutoCloseable {
+  // weight of a new sample in the smoothed latency
+  private static final double LATENCY_SMOOTHING = 0.3;
+
+  private final Map<String, Server> servers = new LinkedHashMap<>();
+  private final Object lock = new Object();
+  private Strategy strategy = Strategy.LEAST_LOADED;
+  private WebswingServerProbe probe = WebswingServerProbe.http(Duration.ofSeconds(2));
+  private Duration probeInterval = Duration.ofSeconds(10);
+  private int failureThreshold = 2;
+  private ScheduledExecutorService scheduler;
+
+  /**
+   * The strategy used to pick a server.
+   */
+  public enum Strategy {
+    /**
+     * Picks the healthy server with the fewest sessions. The load reported by the probe is used
+     * when known, otherwise the leases of the pool. Ties go to the lowest latency.
+     */
+    LEAST_LOADED,
+    /**
+     * Picks the healthy server with the lowest latency. Ties go to the least loaded server.
+     */
+    LOWEST_LATENCY,
+    /**
+     * Picks the same healthy server for the same key, for instance the name of the user, so the
+     * user finds its Swing session again. Adding or removing a server only moves the keys of that
+     * server. Without a key the least loaded server is picked.
+     */
+    STICKY
+  }
+
+  /**
+   * Creates a new pool.
+   *
+   * @param urls the urls of the Webswing servers
+   */
+  public WebswingServerPool(List<String> urls) {
+    if (urls == null || urls.isEmpty()) {
+      throw new IllegalArgumentException("The pool needs at least one server");
+    }
+
+    for (String url : urls) {
+      servers.putIfAbsent(url, new Server(url));
+    }
+  }
+
+  /**
+   * Creates a new pool.
+   *
+   * @param urls the urls of the Webswing servers
+   */
+  public WebswingServerPool(String... urls) {
+    this(List.of(urls));
+  }
+
+  /**
+   * Sets the strategy used to pick a server.
+   *
+   * @param strategy the strategy
+   * @return the pool
+   */
+  public WebswingServerPool setStrategy(Strategy strategy) {
+    synchronized (lock) {
+      this.strategy = strategy;
+      return this;
+    }
+  }
+
+  /**
+   * Gets the strategy used to pick a server.
+   *
+   * @return the strategy
+   */
+  public Strategy getStrategy() {
+    synchronized (lock) {
+      return strategy;
+    }
+  }
+
+  /**
+   * Sets the probe used to check the servers.
+   *
+   * <p>
+   * Defaults to a HEAD request with a timeout of 2 seconds.
+   * </p>
+   *
+   * @param probe the probe
+   * @return the pool
+   */
+  public WebswingServerPool setProbe(WebswingServerProbe probe) {
+    synchronized (lock) {
+      this.probe = probe;
+      return this;
+    }
+  }
+
+  /**
+   * Sets the time between two probes of the servers. Takes effect on the next {@link #start()}.
+   *
+   * @param probeInterval the interval, defaults to 10 seconds
+   * @return the pool
+   */
+  public WebswingServerPool setProbeInterval(Duration probeInterval) {
+    synchronized (lock) {
+      this.probeInterval = probeInterval;
+      return this;
+    }
+  }
+
+  /**
+   * Sets the number of consecutive failed probes after which a server is considered down.
+   *
+   * @param failureThreshold the number of failures, defaults to 2
+   * @return the pool
+   */
+  public WebswingServerPool setFailureThreshold(int failureThreshold) {
+    synchronized (lock) {
+      this.failureThreshold = Math.max(1, failureThreshold);
+      return this;
+    }
+  }
+
+  /**
+   * Starts probing the servers periodically. The first probe runs right away.
+   *
+   * @return the pool
+   */
+  public WebswingServerPool start() {
+    synchronized (lock) {
+      if (scheduler == null) {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+          Thread thread = new Thread(runnable, "webswing-server-pool");
+          thread.setDaemon(true);
+          return thread;
+        });
+
+        long interval = Math.max(1, probeInterval.toMillis());
+        scheduler.scheduleWithFixedDelay(this::probeNow, 0, interval, TimeUnit.MILLISECONDS);
+      }
+
+      return this;
+    }
+  }
+
+  /**
+   * Stops probing the servers. Leases remain valid.
+   */
+  @Override
+  public void close() {
+    synchronized (lock) {
+      if (scheduler != null) {
+        scheduler.shutdownNow();
+        scheduler = null;
+      }
+    }
+  }
+
+  /**
+   * Probes all the servers once and waits for the results.
+   */
+  public void probeNow() {
+    WebswingServerProbe currentProbe;
+    List<Server> targets;
+    synchronized (lock) {
+      currentProbe = probe;
+      targets = new ArrayList<>(servers.values());
+    }
+
+    for (Server server : targets) {
+      WebswingServerProbe.Result result = null;
+      try {
+        result = currentProbe.probe(server.url);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception e) {
+        // the server is unreachable, counted as a failure below
+      }
+
+      synchronized (lock) {
+        server.update(result, failureThreshold);
+      }
+    }
+  }
+
+  /**
+   * Leases a server to a connector. The lease must be released once the connector no longer uses
+   * the server.
+   *
+   * @param key the key of the {@link Strategy#STICKY} strategy, ignored by the other strategies
+   *        and can be null
+   * @return the lease
+   */
+  public Lease acquire(String key) {
+    synchronized (lock) {
+      List<Server> candidates = new ArrayList<>();
+      for (Server server : servers.values()) {
+        if (server.healthy) {
+          candidates.add(server);
+        }
+      }
+
+      if (candidates.isEmpty()) {
+        candidates.addAll(servers.values());
+      }
+
+      Server picked = pick(candidates, key);
+      picked.leases++;
+      return new Lease(picked);
+    }
+  }
+
+  /**
+   * Leases a server to a connector.
+   *
+   * @return the lease
+   * @see #acquire(String)
+   */
+  public Lease acquire() {
+    return acquire(null);
+  }
+
+  /**
+   * Gets the status of the servers.
+   *
+   * @return the servers in the order they were given
+   */
+  public List<WebswingServerStatus> getServers() {
+    synchronized (lock) {
+      List<WebswingServerStatus> result = new ArrayList<>();
+      for (Server server : servers.values()) {
+        result.add(new WebswingServerStatus(server.url, server.healthy, server.latency,
+            server.load, server.leases));
+      }
+
+      return Collections.unmodifiableList(result);
+    }
+  }
+
+  private Server pick(List<Server> candidates, String key) {
+    if (strategy == Strategy.STICKY && key != null) {
+      return rendezvous(candidates, key);
+    }
+
+    Server best = candidates.get(0);
+    for (Server server : candidates) {
+      int compared = strategy == Strategy.LOWEST_LATENCY
+          ? compareLatencyThenLoad(server, best)
+          : compareLoadThenLatency(server, best);
+      if (compared < 0) {
+        best = server;
+      }
+    }
+
+    return best;
+  }
+
+  private static int compareLoadThenLatency(Server a, Server b) {
+    int compared = Integer.compare(a.effectiveLoad(), b.effectiveLoad());
+    return compared != 0 ? compared : Long.compare(a.rankedLatency(), b.rankedLatency());
+  }
+
+  private static int compareLatencyThenLoad(Server a, Server b) {
+    int compared = Long.compare(a.rankedLatency(), b.rankedLatency());
+    return compared != 0 ? compared : Integer.compare(a.effectiveLoad(), b.effectiveLoad());
+  }
+
+  /**
+   * Highest random weight hashing, the server with the highest hash of key and url wins.
+   */
+  private static Server rendezvous(List<Server> candidates, String key) {
+    Server best = null;
+    long bestWeight = Long.MIN_VALUE;
+    for (Server server : candidates) {
+      long weight = mix(hash(key) * 31 + hash(server.url));
+      if (best == null || weight > bestWeight) {
+        best = server;
+        bestWeight = weight;
+      }
+    }
+
+    return best;
+  }
+
+  // 64 bits FNV-1a, stable across JVMs unlike String.hashCode which is only 32 bits
+  private static long hash(String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+
+    return hash;
+  }
+
+  // the finalizer of SplitMix64
+  private static long mix(long value) {
+    long z = value;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * The use of a server by a connector.
+   */
+  public final class Lease implements AutoCloseable {
+    private final Server server;
+    private boolean released = false;
+
+    private Lease(Server server) {
+      this.server = server;
+    }
+
+    /**
+     * Gets the url of the leased server.
+     *
+     * @return the url
+     */
+    public String getUrl() {
+      return server.url;
+    }
+
+    /**
+     * Checks whether the lease was released.
+     *
+     * @return true if released
+     */
+    public boolean isReleased() {
+      synchronized (lock) {
+        return released;
+      }
+    }
+
+    /**
+     * Releases the lease. Releasing twice has no effect.
+     */
+    public void release() {
+      synchronized (lock) {
+        if (!released) {
+          released = true;
+          server.leases--;
+        }
+      }
+    }
+
+    /**
+     * Releases the lease.
+     */
+    @Override
+    public void close() {
+      release();
+    }
+  }
+
+  private static final class Server {
+    private final String url;
+    private int leases = 0;
+    // servers which were not probed yet are given the benefit of the doubt
+    private boolean healthy = true;
+    private long latency = -1;
+    private int load = -1;
+    private int failures = 0;
+
+    Server(String url) {
+      this.url = url;
+    }
+
+    void update(WebswingServerProbe.Result result, int failureThreshold) {
+      if (result == null) {
+        failures++;
+        if (failures >= failureThreshold) {
+          healthy = false;
+        }
+        return;
+      }
+
+      failures = 0;
+      healthy = true;
+      load = result.getLoad();
+      long sample = Math.max(0, result.getLatency());
+      latency = latency < 0 ? sample
+          : Math.round(LATENCY_SMOOTHING * sample + (1 - LATENCY_SMOOTHING) * latency);
+    }
+
+    int effectiveLoad() {
+      return load >= 0 ? Math.max(load, leases) : leases;
+    }
+
+    long rankedLatency() {
+      return latency < 0 ? Long.MAX_VALUE : latency;
+    }
+  }
+}
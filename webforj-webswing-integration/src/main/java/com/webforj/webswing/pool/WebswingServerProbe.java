@@ -0,0 +1,109 @@
+package com.webforj.webswing.pool;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Checks the health of a Webswing server.
+ *
+ * <p>
+ * Probes are called from the probing thread of the {@link WebswingServerPool}, one server at a
+ * time. Implementations can report the load of the server when it is known, for instance from a
+ * monitoring endpoint of the Webswing server.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+@FunctionalInterface
+public interface WebswingServerProbe {
+
+  /**
+   * Probes the given server.
+   *
+   * @param url the url of the Webswing server
+   * @return the result of the probe
+   * @throws Exception if the server could not be reached, the server is then considered down
+   */
+  Result probe(String url) throws Exception;
+
+  /**
+   * Creates a probe which sends a HEAD request to the server. The server is healthy if it answers
+   * within the timeout with a status below 500.
+   *
+   * @param timeout the timeout of the request
+   * @return the probe
+   */
+  static WebswingServerProbe http(Duration timeout) {
+    HttpClient client = HttpClient.newBuilder().connectTimeout(timeout)
+        .followRedirects(HttpClient.Redirect.NORMAL).build();
+
+    return url -> {
+      HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(timeout)
+          .method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+      long start = System.nanoTime();
+      HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+      long latency = (System.nanoTime() - start) / 1_000_000;
+      if (response.statusCode() >= 500) {
+        throw new IOException("The server answered with status " + response.statusCode());
+      }
+
+      return Result.healthy(latency);
+    };
+  }
+
+  /**
+   * The result of a successful probe.
+   */
+  final class Result {
+    private final long latency;
+    private final int load;
+
+    private Result(long latency, int load) {
+      this.latency = latency;
+      this.load = load;
+    }
+
+    /**
+     * Creates the result of a healthy server whose load is unknown.
+     *
+     * @param latency the round trip to the server in milliseconds
+     * @return the result
+     */
+    public static Result healthy(long latency) {
+      return new Result(latency, -1);
+    }
+
+    /**
+     * Creates the result of a healthy server.
+     *
+     * @param latency the round trip to the server in milliseconds
+     * @param load the number of Swing sessions running on the server
+     * @return the result
+     */
+    public static Result healthy(long latency, int load) {
+      return new Result(latency, load);
+    }
+
+    /**
+     * Gets the round trip to the server.
+     *
+     * @return the latency in milliseconds
+     */
+    public long getLatency() {
+      return latency;
+    }
+
+    /**
+     * Gets the number of Swing sessions running on the server.
+     *
+     * @return the load or -1 if unknown
+     */
+    public int getLoad() {
+      return load;
+    }
+  }
+}
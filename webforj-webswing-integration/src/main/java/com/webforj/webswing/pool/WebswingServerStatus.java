@@ -0,0 +1,77 @@
+package com.webforj.webswing.pool;
+
+/**
+ * A point in time view of a server of a {@link WebswingServerPool}.
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class WebswingServerStatus {
+  private final String url;
+  private final boolean healthy;
+  private final long latency;
+  private final int load;
+  private final int leases;
+
+  WebswingServerStatus(String url, boolean healthy, long latency, int load, int leases) {
+    this.url = url;
+    this.healthy = healthy;
+    this.latency = latency;
+    this.load = load;
+    this.leases = leases;
+  }
+
+  /**
+   * Gets the url of the server.
+   *
+   * @return the url
+   */
+  public String getUrl() {
+    return url;
+  }
+
+  /**
+   * Checks whether the server is considered healthy. Servers which were not probed yet are
+   * considered healthy.
+   *
+   * @return true if the server is healthy
+   */
+  public boolean isHealthy() {
+    return healthy;
+  }
+
+  /**
+   * Gets the smoothed round trip to the server.
+   *
+   * @return the latency in milliseconds or -1 if the server was not probed successfully yet
+   */
+  public long getLatency() {
+    return latency;
+  }
+
+  /**
+   * Gets the load reported by the last probe.
+   *
+   * @return the number of Swing sessions running on the server or -1 if unknown
+   */
+  public int getLoad() {
+    return load;
+  }
+
+  /**
+   * Gets the number of connectors of this application currently using the server.
+   *
+   * @return the number of leases
+   */
+  public int getLeases() {
+    return leases;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return String.format("%s healthy=%b latency=%d load=%d leases=%d", url, healthy, latency, load,
+        leases);
+  }
+}
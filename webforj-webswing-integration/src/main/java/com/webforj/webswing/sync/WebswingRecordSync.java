@@ -0,0 +1,275 @@
+package com.webforj.webswing.sync;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.webforj.dispatcher.EventDispatcher;
+import com.webforj.dispatcher.EventListener;
+import com.webforj.dispatcher.ListenerRegistration;
+import com.webforj.webswing.WebswingConnector;
+import com.webforj.webswing.event.WebswingConnectorActionEvent;
+import com.webforj.webswing.event.WebswingRecordChangeEvent;
+import com.webforj.webswing.event.WebswingRecordConflictEvent;
+import com.webforj.webswing.protocol.RecordReplica;
+import com.webforj.webswing.protocol.RecordSyncProtocol;
+
+/**
+ * Keeps a keyed replica of records owned by the Swing application and exchanges field level
+ * patches instead of whole records.
+ *
+ * <p>
+ * The Swing application is the authority of the collection and orders all changes by giving
+ * every record a version number. The replica only sends the fields which changed since the
+ * version it last saw and applies the patches the Swing application sends in the same way. A
+ * local change based on an outdated version is rejected by the Swing application, the replica
+ * then falls back to the authoritative record and fires a {@link WebswingRecordConflictEvent}.
+ * </p>
+ *
+ * <p>
+ * Records are fetched on demand with {@link #fetch(String)}. At most one patch per record is in
+ * flight, changes made while waiting for the confirmation are merged and sent together once it
+ * arrives.
+ * </p>
+ *
+ * <pre>
+ * WebswingRecordSync&lt;Customer&gt; customers = new WebswingRecordSync&lt;&gt;(connector,
+ *     "customers", Customer.class, customer -&gt; String.valueOf(customer.getId()));
+ *
+ * customers.fetch("42").thenAccept(customer -&gt; {
+ *   customer.setEmail("jane@example.com");
+ *   customers.update(customer);
+ * });
+ * </pre>
+ *
+ * <p>
+ * Like the connector, the replica must be used from the thread of the webforj session. The
+ * protocol itself is implemented by the {@link RecordReplica} shared with the Swing side.
+ * </p>
+ *
+ * @param <T> the type of the records
+ * @author Hyyan Abo Fakher
+ */
+public final class WebswingRecordSync<T> implements AutoCloseable {
+  /**
+   * The prefix of the action exchanging the messages of a collection.
+   */
+  public static final String ACTION_PREFIX = RecordSyncProtocol.ACTION_PREFIX;
+
+  private final WebswingConnector connector;
+  private final String actionName;
+  private final TypeAdapter<T> adapter;
+  private final Function<T, String> keyFunction;
+  private final RecordReplica replica;
+  private final Map<String, List<CompletableFuture<T>>> fetches = new HashMap<>();
+  private final EventDispatcher dispatcher = new EventDispatcher();
+  private final ListenerRegistration<WebswingConnectorActionEvent> registration;
+
+  /**
+   * Creates a replica of the given collection.
+   *
+   * @param connector the connector of the Swing application owning the collection
+   * @param collection the name of the collection, must not contain {@code /} or {@code #}
+   * @param type the class of the records
+   * @param keyFunction the function returning the key of a record
+   */
+  public WebswingRecordSync(WebswingConnector connector, String collection, Class<T> type,
+      Function<T, String> keyFunction) {
+    this.actionName = RecordSyncProtocol.getActionName(collection);
+    this.connector = connector;
+    this.adapter = connector.getCodecs().getGson().getAdapter(type);
+    this.keyFunction = keyFunction;
+    this.replica = new RecordReplica(this::send, new ReplicaListener());
+    this.registration = connector.onAction(actionName, this::handle);
+  }
+
+  /**
+   * Gets the name of the action exchanging the messages of the collection.
+   *
+   * @return the action name
+   */
+  public String getActionName() {
+    return actionName;
+  }
+
+  /**
+   * Gets a record of the replica, including the local changes which are not confirmed yet.
+   *
+   * @param key the key of the record
+   * @return a new instance holding the record or null if the record is not in the replica
+   */
+  public T get(String key) {
+    JsonObject record = replica.get(key);
+    return record != null ? adapter.fromJsonTree(record) : null;
+  }
+
+  /**
+   * Gets the version of a record confirmed by the Swing application.
+   *
+   * @param key the key of the record
+   * @return the version or 0 if the record is not in the replica
+   */
+  public long getVersion(String key) {
+    return replica.getVersion(key);
+  }
+
+  /**
+   * Checks whether the replica holds the given record.
+   *
+   * @param key the key of the record
+   * @return true if the record is in the replica
+   */
+  public boolean contains(String key) {
+    return replica.contains(key);
+  }
+
+  /**
+   * Checks whether local changes of a record wait for the confirmation of the Swing application.
+   *
+   * @param key the key of the record
+   * @return true if changes are pending
+   */
+  public boolean isPending(String key) {
+    return replica.isPending(key);
+  }
+
+  /**
+   * Gets a record, asking the Swing application for it if it is not in the replica yet.
+   *
+   * @param key the key of the record
+   * @return a future completed with the record or with null if the Swing application does not
+   *         know it
+   */
+  public CompletableFuture<T> fetch(String key) {
+    if (replica.contains(key)) {
+      return CompletableFuture.completedFuture(get(key));
+    }
+
+    CompletableFuture<T> future = new CompletableFuture<>();
+    List<CompletableFuture<T>> waiting = fetches.computeIfAbsent(key, k -> new ArrayList<>());
+    waiting.add(future);
+    if (waiting.size() == 1) {
+      replica.fetch(key);
+    }
+
+    return future;
+  }
+
+  /**
+   * Updates a record and sends the changed fields to the Swing application. A record which is not
+   * in the replica is created.
+   *
+   * @param record the record
+   * @return true if the record changed and a patch is sent or queued, false otherwise
+   */
+  public boolean update(T record) {
+    return replica.update(keyFunction.apply(record), adapter.toJsonTree(record).getAsJsonObject());
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingRecordChangeEvent} event.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingRecordChangeEvent<T>> addChangeListener(
+      EventListener<WebswingRecordChangeEvent<T>> listener) {
+    return dispatcher.addListener(WebswingRecordChangeEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addChangeListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingRecordChangeEvent<T>> onChange(
+      EventListener<WebswingRecordChangeEvent<T>> listener) {
+    return addChangeListener(listener);
+  }
+
+  /**
+   * Adds a listener for the {@link WebswingRecordConflictEvent} event.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingRecordConflictEvent<T>> addConflictListener(
+      EventListener<WebswingRecordConflictEvent<T>> listener) {
+    return dispatcher.addListener(WebswingRecordConflictEvent.class, listener);
+  }
+
+  /**
+   * Alias for {@link #addConflictListener(EventListener)}.
+   *
+   * @param listener the listener
+   * @return A registration object for removing the event listener
+   */
+  public ListenerRegistration<WebswingRecordConflictEvent<T>> onConflict(
+      EventListener<WebswingRecordConflictEvent<T>> listener) {
+    return addConflictListener(listener);
+  }
+
+  /**
+   * Stops listening to the Swing application and cancels the pending fetches. The replica keeps
+   * its records but is no longer updated.
+   */
+  @Override
+  public void close() {
+    registration.remove();
+    for (List<CompletableFuture<T>> waiting : fetches.values()) {
+      waiting.forEach(future -> future.cancel(false));
+    }
+
+    fetches.clear();
+  }
+
+  private void handle(WebswingConnectorActionEvent event) {
+    String data = event.getActionData();
+    if (data == null || data.isEmpty()) {
+      return;
+    }
+
+    replica.receive(JsonParser.parseString(data).getAsJsonObject());
+  }
+
+  private void send(JsonObject message) {
+    connector.performAction(actionName, message.toString());
+  }
+
+  /**
+   * Turns the notifications of the replica into events and completes the pending fetches.
+   */
+  private final class ReplicaListener implements RecordReplica.Listener {
+
+    @Override
+    public void recordChanged(String key, JsonObject record, long version, Set<String> fields) {
+      dispatcher.dispatchEvent(new WebswingRecordChangeEvent<>(connector, key,
+          adapter.fromJsonTree(record), version, fields));
+    }
+
+    @Override
+    public void recordConflict(String key, JsonObject record, JsonObject rejected, long version,
+        Set<String> rejectedFields) {
+      T authoritative = record != null ? adapter.fromJsonTree(record) : null;
+      dispatcher.dispatchEvent(new WebswingRecordConflictEvent<>(connector, key, authoritative,
+          adapter.fromJsonTree(rejected), version, rejectedFields));
+    }
+
+    @Override
+    public void recordFetched(String key, JsonObject record) {
+      List<CompletableFuture<T>> waiting = fetches.remove(key);
+      if (waiting != null) {
+        T value = record != null ? adapter.fromJsonTree(record) : null;
+        waiting.forEach(future -> future.complete(value));
+      }
+    }
+  }
+}
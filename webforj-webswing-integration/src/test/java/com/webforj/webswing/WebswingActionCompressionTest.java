@@ -0,0 +1,24 @@
+package com.webforj.webswing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.webforj.webswing.protocol.ActionCompression;
+import org.junit.jupiter.api.Test;
+
+class WebswingActionCompressionTest {
+
+  @Test
+  void shouldOnlyCompressDataReachingTheThreshold() {
+    WebswingAction small = new WebswingAction("export", "a".repeat(100));
+    WebswingAction large = new WebswingAction("export", "a".repeat(10_000));
+
+    assertSame(small, WebswingActionCompression.compress(small, 1024));
+    assertSame(large, WebswingActionCompression.compress(large, 0));
+
+    WebswingAction compressed = WebswingActionCompression.compress(large, 1024);
+    assertEquals(ActionCompression.MARKER, compressed.getData());
+    assertTrue(compressed.hasBinaryData());
+  }
+}
@@ -0,0 +1,49 @@
+package com.webforj.webswing.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.webforj.webswing.WebswingConnector;
+import com.webforj.webswing.WebswingConnectorOptions;
+import com.webforj.webswing.protocol.ActionCompression;
+import org.junit.jupiter.api.Test;
+
+class WebswingConnectorActionEventTest {
+
+  private static Map<String, Object> compressedEvent(String data) {
+    Map<String, Object> eventMap = new HashMap<>();
+    eventMap.put("actionName", "export");
+    eventMap.put("data", ActionCompression.MARKER);
+    eventMap.put("binaryDataBase64",
+        Base64.getEncoder().encodeToString(ActionCompression.deflate(data)));
+    return eventMap;
+  }
+
+  @Test
+  void shouldInflateWithoutCompressionThreshold() {
+    WebswingConnector connector = new WebswingConnector("http://localhost:8080/app", false);
+    String data = "{\"rows\":[" + "{\"name\":\"Jane\"},".repeat(100) + "{}]}";
+
+    WebswingConnectorActionEvent event =
+        new WebswingConnectorActionEvent(connector, compressedEvent(data));
+
+    assertEquals(data, event.getActionData());
+    assertNull(event.getActionBinaryData());
+  }
+
+  @Test
+  void shouldRejectDataLargerThanTheMaximumInflatedSize() {
+    WebswingConnector connector = new WebswingConnector("http://localhost:8080/app", false);
+    connector.setOptions(new WebswingConnectorOptions().setMaxInflatedSize(100));
+
+    WebswingConnectorActionEvent event =
+        new WebswingConnectorActionEvent(connector, compressedEvent("a".repeat(101)));
+
+    assertThrows(IllegalArgumentException.class, event::getActionData);
+  }
+}
@@ -0,0 +1,96 @@
+package com.webforj.webswing.pool;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local HTTP server standing in for a Webswing server.
+ *
+ * <p>
+ * It answers every request with the configured status and reports the configured load and latency
+ * in the {@value #LOAD_HEADER} and {@value #LATENCY_HEADER} headers, which are read by the
+ * {@link #reportingProbe() reporting probe}.
+ * </p>
+ */
+final class StubWebswingServer implements AutoCloseable {
+  static final String LOAD_HEADER = "X-Webswing-Load";
+  static final String LATENCY_HEADER = "X-Webswing-Latency";
+
+  private final HttpServer server;
+  private final AtomicInteger requests = new AtomicInteger();
+  private volatile int status = 200;
+  private volatile int load = -1;
+  private volatile long latency = 0;
+
+  StubWebswingServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", exchange -> {
+      requests.incrementAndGet();
+      exchange.getResponseHeaders().set(LOAD_HEADER, String.valueOf(load));
+      exchange.getResponseHeaders().set(LATENCY_HEADER, String.valueOf(latency));
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  /**
+   * Creates a probe which sends a GET request and reports the load and latency announced by the
+   * server, so tests do not depend on the measured round trip.
+   */
+  static WebswingServerProbe reportingProbe() {
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    return url -> {
+      HttpRequest request =
+          HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(2)).GET().build();
+      HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+      if (response.statusCode() >= 500) {
+        throw new IOException("The server answered with status " + response.statusCode());
+      }
+
+      long reportedLatency =
+          Long.parseLong(response.headers().firstValue(LATENCY_HEADER).orElse("0"));
+      int reportedLoad = Integer.parseInt(response.headers().firstValue(LOAD_HEADER).orElse("-1"));
+      return WebswingServerProbe.Result.healthy(reportedLatency, reportedLoad);
+    };
+  }
+
+  String getUrl() {
+    return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+        + "/";
+  }
+
+  StubWebswingServer setStatus(int status) {
+    this.status = status;
+    return this;
+  }
+
+  StubWebswingServer setLoad(int load) {
+    this.load = load;
+    return this;
+  }
+
+  StubWebswingServer setLatency(long latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  int getRequests() {
+    return requests.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+}
@@ -0,0 +1,523 @@
+package com.webforj.webswing.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class WebswingServerPoolTest {
+  private final List<StubWebswingServer> stubs = new ArrayList<>();
+  private WebswingServerPool pool;
+
+  @BeforeEach
+  void setUp() {
+    stubs.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+
+    stubs.forEach(StubWebswingServer::close);
+  }
+
+  private StubWebswingServer stub() throws IOException {
+    StubWebswingServer stub = new StubWebswingServer();
+    stubs.add(stub);
+    return stub;
+  }
+
+  private static List<String> urls(StubWebswingServer... servers) {
+    List<String> urls = new ArrayList<>();
+    for (StubWebswingServer server : servers) {
+      urls.add(server.getUrl());
+    }
+
+    return urls;
+  }
+
+  private static WebswingServerStatus status(WebswingServerPool pool, StubWebswingServer server) {
+    return pool.getServers().stream().filter(s -> s.getUrl().equals(server.getUrl())).findFirst()
+        .orElseThrow();
+  }
+
+  @Test
+  void shouldRejectEmptyPool() {
+    assertThrows(IllegalArgumentException.class, () -> new WebswingServerPool(List.of()));
+  }
+
+  @Nested
+  class Health {
+
+    @Test
+    void shouldConsiderServersHealthyBeforeTheFirstProbe() throws IOException {
+      StubWebswingServer server = stub();
+      pool = new WebswingServerPool(server.getUrl());
+
+      WebswingServerStatus status = status(pool, server);
+      assertTrue(status.isHealthy());
+      assertEquals(-1, status.getLatency());
+      assertEquals(0, server.getRequests());
+    }
+
+    @Test
+    void shouldProbeWithHttpHeadRequests() throws IOException {
+      StubWebswingServer server = stub();
+      pool = new WebswingServerPool(server.getUrl());
+
+      pool.probeNow();
+
+      WebswingServerStatus status = status(pool, server);
+      assertEquals(1, server.getRequests());
+      assertTrue(status.isHealthy());
+      assertTrue(status.getLatency() >= 0);
+      assertEquals(-1, status.getLoad());
+    }
+
+    @Test
+    void shouldMarkServerDownOnlyAfterConsecutiveFailures() throws IOException {
+      StubWebswingServer server = stub().setStatus(503);
+      pool = new WebswingServerPool(server.getUrl()).setFailureThreshold(3);
+
+      pool.probeNow();
+      pool.probeNow();
+      assertTrue(status(pool, server).isHealthy());
+
+      pool.probeNow();
+      assertFalse(status(pool, server).isHealthy());
+    }
+
+    @Test
+    void shouldCountUnreachableServerAsFailure() throws IOException {
+      StubWebswingServer server = stub();
+      pool = new WebswingServerPool(server.getUrl()).setFailureThreshold(1);
+      server.close();
+
+      pool.probeNow();
+
+      assertFalse(status(pool, server).isHealthy());
+    }
+
+    @Test
+    void shouldRecoverOnceTheServerAnswersAgain() throws IOException {
+      StubWebswingServer server = stub().setStatus(500);
+      pool = new WebswingServerPool(server.getUrl()).setFailureThreshold(2);
+      pool.probeNow();
+      pool.probeNow();
+      assertFalse(status(pool, server).isHealthy());
+
+      server.setStatus(200);
+      pool.probeNow();
+      assertTrue(status(pool, server).isHealthy());
+
+      // the failures were reset by the successful probe
+      server.setStatus(500);
+      pool.probeNow();
+      assertTrue(status(pool, server).isHealthy());
+    }
+
+    @Test
+    void shouldTreatClientErrorsAsHealthy() throws IOException {
+      StubWebswingServer server = stub().setStatus(404);
+      pool = new WebswingServerPool(server.getUrl()).setFailureThreshold(1);
+
+      pool.probeNow();
+
+      assertTrue(status(pool, server).isHealthy());
+    }
+
+    @Test
+    void shouldSkipUnhealthyServers() throws IOException {
+      StubWebswingServer down = stub().setStatus(503);
+      StubWebswingServer up = stub();
+      pool = new WebswingServerPool(urls(down, up)).setFailureThreshold(1);
+      pool.probeNow();
+
+      for (int i = 0; i < 5; i++) {
+        assertEquals(up.getUrl(), pool.acquire().getUrl());
+      }
+    }
+
+    @Test
+    void shouldFallBackToAllServersWhenNoneIsHealthy() throws IOException {
+      StubWebswingServer first = stub().setStatus(503);
+      StubWebswingServer second = stub().setStatus(503);
+      pool = new WebswingServerPool(urls(first, second)).setFailureThreshold(1);
+      pool.probeNow();
+
+      WebswingServerPool.Lease lease1 = pool.acquire();
+      WebswingServerPool.Lease lease2 = pool.acquire();
+
+      // the leases still spread the load over the unhealthy servers
+      assertEquals(first.getUrl(), lease1.getUrl());
+      assertEquals(second.getUrl(), lease2.getUrl());
+      assertFalse(status(pool, first).isHealthy());
+      assertFalse(status(pool, second).isHealthy());
+    }
+
+    @Test
+    void shouldProbePeriodicallyOnceStarted() throws Exception {
+      StubWebswingServer server = stub().setStatus(503);
+      pool = new WebswingServerPool(server.getUrl()).setFailureThreshold(2)
+          .setProbeInterval(Duration.ofMillis(20)).start();
+
+      long deadline = System.currentTimeMillis() + 5000;
+      while (status(pool, server).isHealthy() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+
+      assertFalse(status(pool, server).isHealthy());
+      assertTrue(server.getRequests() >= 2);
+    }
+  }
+
+  @Nested
+  class LeastLoaded {
+
+    @Test
+    void shouldPickTheServerWithTheLowestReportedLoad() throws IOException {
+      StubWebswingServer busy = stub().setLoad(10).setLatency(5);
+      StubWebswingServer idle = stub().setLoad(2).setLatency(50);
+      pool = new WebswingServerPool(urls(busy, idle))
+          .setProbe(StubWebswingServer.reportingProbe());
+      pool.probeNow();
+
+      assertEquals(idle.getUrl(), pool.acquire().getUrl());
+    }
+
+    @Test
+    void shouldBreakTiesByLatency() throws IOException {
+      StubWebswingServer slow = stub().setLoad(3).setLatency(80);
+      StubWebswingServer fast = stub().setLoad(3).setLatency(20);
+      pool = new WebswingServerPool(urls(slow, fast))
+          .setProbe(StubWebswingServer.reportingProbe());
+      pool.probeNow();
+
+      assertEquals(fast.getUrl(), pool.acquire().getUrl());
+    }
+
+    @Test
+    void shouldBreakFullTiesByServerOrder() throws IOException {
+      StubWebswingServer first = stub().setLoad(1).setLatency(10);
+      StubWebswingServer second = stub().setLoad(1).setLatency(10);
+      pool = new WebswingServerPool(urls(first, second))
+          .setProbe(StubWebswingServer.reportingProbe());
+      pool.probeNow();
+
+      assertEquals(first.getUrl(), pool.acquire().getUrl());
+    }
+
+    @Test
+    void shouldCountLeasesWhenTheLoadIsUnknown() throws IOException {
+      StubWebswingServer first = stub();
+      StubWebswingServer second = stub();
+      pool = new WebswingServerPool(urls(first, second));
+
+      List<String> picked = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        picked.add(pool.acquire().getUrl());
+      }
+
+      assertEquals(List.of(first.getUrl(), second.getUrl(), first.getUrl(), second.getUrl()),
+          picked);
+    }
+
+    @Test
+    void shouldUseTheLeasesWhenTheyExceedTheReportedLoad() throws IOException {
+      StubWebswingServer first = stub().setLoad(0).setLatency(10);
+      StubWebswingServer second = stub().setLoad(1).setLatency(10);
+      pool = new WebswingServerPool(urls(first, second))
+          .setProbe(StubWebswingServer.reportingProbe());
+      pool.probeNow();
+
+      // the first server reports no session yet, but the pool already sent it two connectors
+      assertEquals(first.getUrl(), pool.acquire().getUrl());
+      assertEquals(first.getUrl(), pool.acquire().getUrl());
+      assertEquals(second.getUrl(), pool.acquire().getUrl());
+    }
+  }
+
+  @Nested
+  class LowestLatency {
+
+    @Test
+    void shouldPickTheServerWithTheLowestLatency() throws IOException {
+      StubWebswingServer slow = stub().setLoad(0).setLatency(90);
+      StubWebswingServer fast = stub().setLoad(20).setLatency(10);
+      pool = new WebswingServerPool(urls(slow, fast))
+          .setStrategy(WebswingServerPool.Strategy.LOWEST_LATENCY)
+          .setProbe(StubWebswingServer.reportingProbe());
+      pool.probeNow();
+
+      assertEquals(fast.getUrl(), pool.acquire().getUrl());
+    }
+
+    @Test
+    void shouldBreakTiesByLoad() throws IOException {
+      StubWebswingServer busy = stub().setLoad(8).setLatency(30);
+      StubWebswingServer idle = stub().setLoad(1).setLatency(30);
+      pool = new WebswingServerPool(urls(busy, idle))
+          .setStrategy(WebswingServerPool.Strategy.LOWEST_LATENCY)
+          .setProbe(StubWebswingServer.reportingProbe());
+      pool.probeNow();
+
+      assertEquals(idle.getUrl(), pool.acquire().getUrl());
+    }
+
+    @Test
+    void shouldRankServersWithoutLatencyLast() throws IOException {
+      StubWebswingServer unprobed = stub().setStatus(503).setLoad(0);
+      StubWebswingServer probed = stub().setLoad(5).setLatency(500);
+      pool = new WebswingServerPool(urls(unprobed, probed))
+          .setStrategy(WebswingServerPool.Strategy.LOWEST_LATENCY)
+          .setProbe(StubWebswingServer.reportingProbe()).setFailureThreshold(2);
+
+      // one failure is below the threshold, the server stays healthy but has no latency
+      pool.probeNow();
+      assertTrue(status(pool, unprobed).isHealthy());
+
+      assertEquals(probed.getUrl(), pool.acquire().getUrl());
+    }
+
+    @Test
+    void shouldSmoothTheLatency() throws IOException {
+      StubWebswingServer server = stub().setLatency(100);
+      pool = new WebswingServerPool(server.getUrl()).setProbe(StubWebswingServer.reportingProbe());
+
+      pool.probeNow();
+      assertEquals(100, status(pool, server).getLatency());
+
+      server.setLatency(0);
+      pool.probeNow();
+      assertEquals(70, status(pool, server).getLatency());
+    }
+  }
+
+  @Nested
+  class Sticky {
+    private static final int KEYS = 200;
+
+    private Map<String, String> assign(WebswingServerPool pool) {
+      Map<String, String> assignments = new HashMap<>();
+      for (int i = 0; i < KEYS; i++) {
+        String key = "user-" + i;
+        WebswingServerPool.Lease lease = pool.acquire(key);
+        assignments.put(key, lease.getUrl());
+        lease.release();
+      }
+
+      return assignments;
+    }
+
+    @Test
+    void shouldPickTheSameServerForTheSameKey() throws IOException {
+      pool = new WebswingServerPool(urls(stub(), stub(), stub()))
+          .setStrategy(WebswingServerPool.Strategy.STICKY);
+
+      String url = pool.acquire("alice").getUrl();
+      for (int i = 0; i < 10; i++) {
+        // the leases do not move a sticky key
+        assertEquals(url, pool.acquire("alice").getUrl());
+      }
+    }
+
+    @Test
+    void shouldSpreadKeysOverAllServers() throws IOException {
+      StubWebswingServer a = stub();
+      StubWebswingServer b = stub();
+      StubWebswingServer c = stub();
+      pool = new WebswingServerPool(urls(a, b, c)).setStrategy(WebswingServerPool.Strategy.STICKY);
+
+      Map<String, String> assignments = assign(pool);
+
+      assertTrue(assignments.containsValue(a.getUrl()));
+      assertTrue(assignments.containsValue(b.getUrl()));
+      assertTrue(assignments.containsValue(c.getUrl()));
+    }
+
+    @Test
+    void shouldOnlyMoveKeysToAnAddedServer() throws IOException {
+      StubWebswingServer a = stub();
+      StubWebswingServer b = stub();
+      StubWebswingServer c = stub();
+      StubWebswingServer added = stub();
+      Map<String, String> before;
+      try (WebswingServerPool smaller = new WebswingServerPool(urls(a, b, c))) {
+        smaller.setStrategy(WebswingServerPool.Strategy.STICKY);
+        before = assign(smaller);
+      }
+      pool = new WebswingServerPool(urls(a, b, c, added))
+          .setStrategy(WebswingServerPool.Strategy.STICKY);
+
+      Map<String, String> after = assign(pool);
+
+      int moved = 0;
+      for (String key : before.keySet()) {
+        if (!before.get(key).equals(after.get(key))) {
+          assertEquals(added.getUrl(), after.get(key), key);
+          moved++;
+        }
+      }
+      assertTrue(moved > 0);
+      assertTrue(moved < KEYS / 2);
+    }
+
+    @Test
+    void shouldOnlyMoveTheKeysOfARemovedServer() throws IOException {
+      StubWebswingServer a = stub();
+      StubWebswingServer removed = stub();
+      StubWebswingServer c = stub();
+      Map<String, String> before;
+      try (WebswingServerPool larger = new WebswingServerPool(urls(a, removed, c))) {
+        larger.setStrategy(WebswingServerPool.Strategy.STICKY);
+        before = assign(larger);
+      }
+      pool = new WebswingServerPool(urls(a, c)).setStrategy(WebswingServerPool.Strategy.STICKY);
+
+      Map<String, String> after = assign(pool);
+
+      for (String key : before.keySet()) {
+        if (!before.get(key).equals(removed.getUrl())) {
+          assertEquals(before.get(key), after.get(key), key);
+        }
+      }
+    }
+
+    @Test
+    void shouldMoveTheKeysOfAServerGoingDownAndBringThemBack() throws IOException {
+      StubWebswingServer a = stub();
+      StubWebswingServer failing = stub();
+      StubWebswingServer c = stub();
+      pool = new WebswingServerPool(urls(a, failing, c))
+          .setStrategy(WebswingServerPool.Strategy.STICKY).setFailureThreshold(1);
+      Map<String, String> before = assign(pool);
+
+      failing.setStatus(503);
+      pool.probeNow();
+      Map<String, String> during = assign(pool);
+
+      for (String key : before.keySet()) {
+        if (before.get(key).equals(failing.getUrl())) {
+          assertNotEquals(failing.getUrl(), during.get(key), key);
+        } else {
+          assertEquals(before.get(key), during.get(key), key);
+        }
+      }
+
+      failing.setStatus(200);
+      pool.probeNow();
+      assertEquals(before, assign(pool));
+    }
+
+    @Test
+    void shouldPickTheLeastLoadedServerWithoutKey() throws IOException {
+      StubWebswingServer first = stub();
+      StubWebswingServer second = stub();
+      pool = new WebswingServerPool(urls(first, second))
+          .setStrategy(WebswingServerPool.Strategy.STICKY);
+
+      assertEquals(first.getUrl(), pool.acquire().getUrl());
+      assertEquals(second.getUrl(), pool.acquire().getUrl());
+    }
+  }
+
+  @Nested
+  class Leases {
+
+    @Test
+    void shouldCountTheLeasesOfEachServer() throws IOException {
+      StubWebswingServer first = stub();
+      StubWebswingServer second = stub();
+      pool = new WebswingServerPool(urls(first, second));
+
+      pool.acquire();
+      pool.acquire();
+      pool.acquire();
+
+      assertEquals(2, status(pool, first).getLeases());
+      assertEquals(1, status(pool, second).getLeases());
+    }
+
+    @Test
+    void shouldDecrementTheLeasesOnRelease() throws IOException {
+      StubWebswingServer server = stub();
+      pool = new WebswingServerPool(server.getUrl());
+      WebswingServerPool.Lease lease = pool.acquire();
+      pool.acquire();
+
+      lease.release();
+
+      assertTrue(lease.isReleased());
+      assertEquals(1, status(pool, server).getLeases());
+    }
+
+    @Test
+    void shouldIgnoreRepeatedReleases() throws IOException {
+      StubWebswingServer server = stub();
+      pool = new WebswingServerPool(server.getUrl());
+      WebswingServerPool.Lease lease = pool.acquire();
+      pool.acquire();
+
+      lease.release();
+      lease.release();
+      lease.close();
+
+      assertEquals(1, status(pool, server).getLeases());
+    }
+
+    @Test
+    void shouldReleaseWhenClosed() throws IOException {
+      StubWebswingServer server = stub();
+      pool = new WebswingServerPool(server.getUrl());
+
+      try (WebswingServerPool.Lease lease = pool.acquire()) {
+        assertFalse(lease.isReleased());
+        assertEquals(1, status(pool, server).getLeases());
+      }
+
+      assertEquals(0, status(pool, server).getLeases());
+    }
+
+    @Test
+    void shouldHandTheReleasedCapacityOutAgain() throws IOException {
+      StubWebswingServer first = stub();
+      StubWebswingServer second = stub();
+      pool = new WebswingServerPool(urls(first, second));
+      WebswingServerPool.Lease onFirst = pool.acquire();
+      pool.acquire();
+
+      onFirst.release();
+
+      assertEquals(first.getUrl(), pool.acquire().getUrl());
+      assertEquals(1, status(pool, first).getLeases());
+      assertEquals(1, status(pool, second).getLeases());
+    }
+
+    @Test
+    void shouldKeepLeasesValidAfterThePoolIsClosed() throws IOException {
+      StubWebswingServer server = stub();
+      pool = new WebswingServerPool(server.getUrl()).start();
+      WebswingServerPool.Lease lease = pool.acquire();
+
+      pool.close();
+      lease.release();
+
+      assertEquals(0, status(pool, server).getLeases());
+    }
+  }
+}
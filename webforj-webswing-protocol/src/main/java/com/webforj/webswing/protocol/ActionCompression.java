@@ -0,0 +1,152 @@
+package com.webforj.webswing.protocol;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The envelope of compressed actions, shared by the webforj connector and the Swing bridge.
+ *
+ * <p>
+ * A compressed action keeps its name, so routing, requests and action policies are not affected,
+ * and carries the {@link #MARKER marker} as data and the deflated UTF-8 bytes of the original
+ * data (zlib format) as binary data. Only actions without binary data are compressed. The
+ * browser relays compressed actions as they are and the receiving end inflates them, whatever
+ * its own compression threshold.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class ActionCompression {
+  /**
+   * The data of a compressed action.
+   */
+  public static final String MARKER = "webswing-deflate";
+  /**
+   * The default maximum size of inflated data in bytes.
+   */
+  public static final int DEFAULT_MAX_INFLATED_SIZE = 16 * 1024 * 1024;
+  private static final int BUFFER_SIZE = 8192;
+
+  private ActionCompression() {}
+
+  /**
+   * Checks whether an action carries compressed data.
+   *
+   * @param data the data of the action
+   * @param binaryData the binary data of the action, in any representation
+   * @return true if the binary data holds the deflated data
+   */
+  public static boolean isCompressed(String data, Object binaryData) {
+    return binaryData != null && MARKER.equals(data);
+  }
+
+  /**
+   * Deflates the UTF-8 bytes of the given data.
+   *
+   * @param data the data
+   * @return the deflated bytes
+   */
+  public static byte[] deflate(String data) {
+    return deflate(data.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Deflates the given data if it reaches the threshold and deflating makes it smaller.
+   *
+   * @param data the data, may be null
+   * @param threshold the minimum size of the data in bytes, 0 or less disables the compression
+   * @return the deflated bytes or null if the data is sent as it is
+   */
+  public static byte[] deflate(String data, int threshold) {
+    // a rough upper bound of the UTF-8 size, skips the encoding of small data
+    if (threshold <= 0 || data == null || data.length() * 3 < threshold) {
+      return null;
+    }
+
+    byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length < threshold) {
+      return null;
+    }
+
+    byte[] deflated = deflate(bytes);
+    return deflated.length < bytes.length ? deflated : null;
+  }
+
+  /**
+   * Inflates data deflated by {@link #deflate(String)}, up to
+   * {@link #DEFAULT_MAX_INFLATED_SIZE} bytes.
+   *
+   * @param bytes the deflated bytes
+   * @return the data
+   * @throws IllegalArgumentException if the bytes are not in the zlib format or inflate to more
+   *         than the maximum size
+   */
+  public static String inflate(byte[] bytes) {
+    return inflate(bytes, DEFAULT_MAX_INFLATED_SIZE);
+  }
+
+  /**
+   * Inflates data deflated by {@link #deflate(String)}.
+   *
+   * <p>
+   * The inflation stops as soon as the data exceeds the maximum size, a few kilobytes of deflated
+   * bytes can otherwise expand to gigabytes.
+   * </p>
+   *
+   * @param bytes the deflated bytes
+   * @param maxSize the maximum size of the inflated data in bytes
+   * @return the data
+   * @throws IllegalArgumentException if the bytes are not in the zlib format or inflate to more
+   *         than the maximum size
+   */
+  public static String inflate(byte[] bytes, int maxSize) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(bytes);
+      // JSON deflates about 4 times, the buffer grows for the rest
+      ByteArrayOutputStream out =
+          new ByteArrayOutputStream((int) Math.min(maxSize, Math.max(64, bytes.length * 4L)));
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!inflater.finished()) {
+        int count = inflater.inflate(buffer);
+        if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          throw new IllegalArgumentException("The compressed data is truncated");
+        }
+
+        if (count > maxSize - out.size()) {
+          throw new IllegalArgumentException(
+              "The compressed data inflates to more than " + maxSize + " bytes");
+        }
+
+        out.write(buffer, 0, count);
+      }
+
+      return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("The compressed data is invalid", e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static byte[] deflate(byte[] bytes) {
+    Deflater deflater = new Deflater();
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+      byte[] buffer = new byte[BUFFER_SIZE];
+      while (!deflater.finished()) {
+        int count = deflater.deflate(buffer);
+        out.write(buffer, 0, count);
+      }
+
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.webforj.webswing.protocol;
+
+/**
+ * The routing information the webforj connector adds to the action names.
+ *
+ * <p>
+ * On a shared connection the name of an action starts with the channel of its connector followed
+ * by {@link #CHANNEL_SEPARATOR}, and the name of a request ends with {@link #REQUEST_SEPARATOR}
+ * followed by its correlation id. Both characters are therefore reserved: the names given to the
+ * connector and to the bridge must not contain them.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class ActionNames {
+  /**
+   * Separates the channel of a shared connection from the action name.
+   */
+  public static final char CHANNEL_SEPARATOR = '/';
+  /**
+   * Separates the action name from the correlation id of a request.
+   */
+  public static final char REQUEST_SEPARATOR = '#';
+
+  private ActionNames() {}
+
+  /**
+   * Checks whether the given action name is free of the reserved characters.
+   *
+   * @param name the action name
+   * @return true if the name is not null, not empty and contains no reserved character
+   */
+  public static boolean isValid(String name) {
+    return name != null && !name.isEmpty() && name.indexOf(CHANNEL_SEPARATOR) < 0
+        && name.indexOf(REQUEST_SEPARATOR) < 0;
+  }
+
+  /**
+   * Rejects action names containing the reserved characters.
+   *
+   * @param name the action name
+   * @return the action name
+   * @throws IllegalArgumentException if the name is null, empty or contains a reserved character
+   */
+  public static String check(String name) {
+    if (!isValid(name)) {
+      throw new IllegalArgumentException("Invalid action name, it must not be empty or contain '"
+          + CHANNEL_SEPARATOR + "' or '" + REQUEST_SEPARATOR + "': " + name);
+    }
+
+    return name;
+  }
+}
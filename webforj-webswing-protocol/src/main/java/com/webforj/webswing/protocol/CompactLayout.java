@@ -0,0 +1,454 @@
+package com.webforj.webswing.protocol;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The compact binary layout of a class, shared by the webforj connector and the Swing side bridge.
+ * An action in the compact format carries the {@link #MARKER marker} as data and the value as
+ * binary data.
+ *
+ * <p>
+ * The fields are written one after the other without names, ordered by name so two classes with
+ * the same field names and types share the layout, whatever their declaration order. Integers
+ * are written as zigzag varints, floating point numbers as their IEEE 754 bits, strings and enum
+ * constants as UTF-8 prefixed by their length. Nullable values are preceded by a presence byte.
+ * Fields of other types are written as JSON strings.
+ * </p>
+ *
+ * <p>
+ * The layout is computed once per class by reflection. Instances are created with the canonical
+ * constructor of records or with the constructor without parameters of other classes.
+ * </p>
+ *
+ * @param <T> the type of the values
+ * @author Hyyan Abo Fakher
+ */
+public final class CompactLayout<T> {
+  /**
+   * The data of an action carrying a value in the compact format.
+   */
+  public static final String MARKER = "webswing-compact";
+  private static final Gson GSON = new Gson();
+  private static final ClassValue<CompactLayout<?>> LAYOUTS = new ClassValue<>() {
+    @Override
+    protected CompactLayout<?> computeValue(Class<?> type) {
+      return new CompactLayout<>(type);
+    }
+  };
+
+  private final Class<T> type;
+  private final Slot[] slots;
+  private final Constructor<T> constructor;
+  private final int[] argumentSlots;
+
+  private CompactLayout(Class<T> type) {
+    if (type.isInterface() || type.isPrimitive() || type.isArray()
+        || Modifier.isAbstract(type.getModifiers())) {
+      throw new IllegalArgumentException(
+          "The compact format only supports concrete classes: " + type.getName());
+    }
+
+    this.type = type;
+    List<Field> fields = type.isRecord() ? recordFields(type) : instanceFields(type);
+    fields.sort(Comparator.comparing(Field::getName));
+
+    slots = new Slot[fields.size()];
+    Map<String, Integer> slotByName = new HashMap<>();
+    for (int i = 0; i < slots.length; i++) {
+      Field field = fields.get(i);
+      field.setAccessible(true);
+      slots[i] = new Slot(field);
+      slotByName.put(field.getName(), i);
+    }
+
+    try {
+      if (type.isRecord()) {
+        RecordComponent[] components = type.getRecordComponents();
+        Class<?>[] parameterTypes = new Class<?>[components.length];
+        argumentSlots = new int[components.length];
+        for (int i = 0; i < components.length; i++) {
+          parameterTypes[i] = components[i].getType();
+          argumentSlots[i] = slotByName.get(components[i].getName());
+        }
+
+        constructor = type.getDeclaredConstructor(parameterTypes);
+      } else {
+        constructor = type.getDeclaredConstructor();
+        argumentSlots = null;
+      }
+
+      constructor.setAccessible(true);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalArgumentException("The compact format needs a constructor without "
+          + "parameters or a record: " + type.getName(), e);
+    }
+  }
+
+  /**
+   * Gets the layout of the given class, computed on first use.
+   *
+   * @param <T> the type of the values
+   * @param type the class
+   * @return the layout
+   * @throws IllegalArgumentException if the class cannot be written in the compact format
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> CompactLayout<T> of(Class<T> type) {
+    return (CompactLayout<T>) LAYOUTS.get(type);
+  }
+
+  /**
+   * Writes the given value with the layout of its class.
+   *
+   * @param value the value
+   * @return the bytes
+   * @throws IllegalArgumentException if the class cannot be written in the compact format
+   */
+  @SuppressWarnings("unchecked")
+  public static byte[] encode(Object value) {
+    return ((CompactLayout<Object>) LAYOUTS.get(value.getClass())).write(value);
+  }
+
+  /**
+   * Writes the given value.
+   *
+   * @param value the value
+   * @return the bytes
+   */
+  public byte[] write(T value) {
+    Output out = new Output();
+    try {
+      for (Slot slot : slots) {
+        slot.write(out, slot.field.get(value));
+      }
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Cannot read the fields of " + type.getName(), e);
+    }
+
+    return out.toByteArray();
+  }
+
+  /**
+   * Reads a value.
+   *
+   * @param in the bytes, from the current position
+   * @return the value
+   * @throws IllegalArgumentException if the bytes do not match the layout
+   */
+  public T read(ByteBuffer in) {
+    Object[] values = new Object[slots.length];
+    try {
+      for (int i = 0; i < slots.length; i++) {
+        values[i] = slots[i].read(in);
+      }
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("The data does not match the layout of "
+          + type.getName(), e);
+    }
+
+    try {
+      if (argumentSlots != null) {
+        Object[] arguments = new Object[argumentSlots.length];
+        for (int i = 0; i < arguments.length; i++) {
+          arguments[i] = values[argumentSlots[i]];
+        }
+
+        return constructor.newInstance(arguments);
+      }
+
+      T value = constructor.newInstance();
+      for (int i = 0; i < slots.length; i++) {
+        if (values[i] != null || !slots[i].field.getType().isPrimitive()) {
+          slots[i].field.set(value, values[i]);
+        }
+      }
+
+      return value;
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Cannot create an instance of " + type.getName(), e);
+    }
+  }
+
+  private static List<Field> recordFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (RecordComponent component : type.getRecordComponents()) {
+      try {
+        fields.add(type.getDeclaredField(component.getName()));
+      } catch (NoSuchFieldException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    return fields;
+  }
+
+  private static List<Field> instanceFields(Class<?> type) {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> current = type; current != null && current != Object.class; current =
+        current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)
+            && !field.isSynthetic()) {
+          fields.add(field);
+        }
+      }
+    }
+
+    return fields;
+  }
+
+  private enum Kind {
+    BOOLEAN, BYTE, SHORT, CHAR, INT, LONG, FLOAT, DOUBLE, STRING, ENUM, JSON
+  }
+
+  /**
+   * A field and the way its values are written.
+   */
+  private static final class Slot {
+    private static final Map<Class<?>, Kind> KINDS = new HashMap<>();
+
+    static {
+      KINDS.put(boolean.class, Kind.BOOLEAN);
+      KINDS.put(Boolean.class, Kind.BOOLEAN);
+      KINDS.put(byte.class, Kind.BYTE);
+      KINDS.put(Byte.class, Kind.BYTE);
+      KINDS.put(short.class, Kind.SHORT);
+      KINDS.put(Short.class, Kind.SHORT);
+      KINDS.put(char.class, Kind.CHAR);
+      KINDS.put(Character.class, Kind.CHAR);
+      KINDS.put(int.class, Kind.INT);
+      KINDS.put(Integer.class, Kind.INT);
+      KINDS.put(long.class, Kind.LONG);
+      KINDS.put(Long.class, Kind.LONG);
+      KINDS.put(float.class, Kind.FLOAT);
+      KINDS.put(Float.class, Kind.FLOAT);
+      KINDS.put(double.class, Kind.DOUBLE);
+      KINDS.put(Double.class, Kind.DOUBLE);
+      KINDS.put(String.class, Kind.STRING);
+    }
+
+    private final Field field;
+    private final Kind kind;
+    private final boolean nullable;
+    private final Object[] constants;
+    private final TypeAdapter<Object> adapter;
+
+    @SuppressWarnings("unchecked")
+    Slot(Field field) {
+      Class<?> fieldType = field.getType();
+      this.field = field;
+      this.nullable = !fieldType.isPrimitive();
+
+      Kind known = KINDS.get(fieldType);
+      if (known != null) {
+        kind = known;
+        constants = null;
+        adapter = null;
+      } else if (fieldType.isEnum()) {
+        kind = Kind.ENUM;
+        constants = fieldType.getEnumConstants();
+        adapter = null;
+      } else {
+        kind = Kind.JSON;
+        constants = null;
+        Type genericType = field.getGenericType();
+        adapter = (TypeAdapter<Object>) GSON.getAdapter(TypeToken.get(genericType));
+      }
+    }
+
+    void write(Output out, Object value) {
+      if (nullable) {
+        if (value == null) {
+          out.writeByte(0);
+          return;
+        }
+
+        out.writeByte(1);
+      }
+
+      switch (kind) {
+        case BOOLEAN:
+          out.writeByte((Boolean) value ? 1 : 0);
+          break;
+        case BYTE:
+          out.writeByte((Byte) value);
+          break;
+        case SHORT:
+          out.writeVarLong((Short) value);
+          break;
+        case CHAR:
+          out.writeVarLong((Character) value);
+          break;
+        case INT:
+          out.writeVarLong((Integer) value);
+          break;
+        case LONG:
+          out.writeVarLong((Long) value);
+          break;
+        case FLOAT:
+          out.writeFixed(Float.floatToIntBits((Float) value), 4);
+          break;
+        case DOUBLE:
+          out.writeFixed(Double.doubleToLongBits((Double) value), 8);
+          break;
+        case STRING:
+          out.writeString((String) value);
+          break;
+        case ENUM:
+          out.writeString(((Enum<?>) value).name());
+          break;
+        default:
+          out.writeString(adapter.toJson(value));
+          break;
+      }
+    }
+
+    Object read(ByteBuffer in) {
+      if (nullable && in.get() == 0) {
+        return null;
+      }
+
+      switch (kind) {
+        case BOOLEAN:
+          return in.get() != 0;
+        case BYTE:
+          return in.get();
+        case SHORT:
+          return (short) readVarLong(in);
+        case CHAR:
+          return (char) readVarLong(in);
+        case INT:
+          return (int) readVarLong(in);
+        case LONG:
+          return readVarLong(in);
+        case FLOAT:
+          return Float.intBitsToFloat(in.getInt());
+        case DOUBLE:
+          return Double.longBitsToDouble(in.getLong());
+        case STRING:
+          return readString(in);
+        case ENUM:
+          return readConstant(readString(in));
+        default:
+          try {
+            return adapter.fromJson(readString(in));
+          } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid JSON in field " + field.getName(), e);
+          }
+      }
+    }
+
+    private Object readConstant(String name) {
+      for (Object constant : constants) {
+        if (((Enum<?>) constant).name().equals(name)) {
+          return constant;
+        }
+      }
+
+      throw new IllegalArgumentException("Unknown constant " + name + " of field "
+          + field.getName());
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+      long raw = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = in.get();
+        raw |= (long) (b & 0x7F) << shift;
+        if (b >= 0) {
+          return (raw >>> 1) ^ -(raw & 1);
+        }
+      }
+
+      throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static String readString(ByteBuffer in) {
+      int length = (int) readVarLong(in);
+      if (length < 0 || length > in.remaining()) {
+        throw new BufferUnderflowException();
+      }
+
+      String value;
+      if (in.hasArray()) {
+        value = new String(in.array(), in.arrayOffset() + in.position(), length,
+            StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+      } else {
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        value = new String(bytes, StandardCharsets.UTF_8);
+      }
+
+      return value;
+    }
+  }
+
+  /**
+   * A growable byte array, written big endian like {@link ByteBuffer}.
+   */
+  private static final class Output {
+    private byte[] bytes = new byte[64];
+    private int size = 0;
+
+    void writeByte(int value) {
+      ensure(1);
+      bytes[size++] = (byte) value;
+    }
+
+    void writeVarLong(long value) {
+      ensure(10);
+      long zigzag = (value << 1) ^ (value >> 63);
+      while ((zigzag & ~0x7FL) != 0) {
+        bytes[size++] = (byte) ((zigzag & 0x7F) | 0x80);
+        zigzag >>>= 7;
+      }
+
+      bytes[size++] = (byte) zigzag;
+    }
+
+    void writeFixed(long value, int length) {
+      ensure(length);
+      for (int shift = (length - 1) * 8; shift >= 0; shift -= 8) {
+        bytes[size++] = (byte) (value >>> shift);
+      }
+    }
+
+    void writeString(String value) {
+      byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+      writeVarLong(utf8.length);
+      ensure(utf8.length);
+      System.arraycopy(utf8, 0, bytes, size, utf8.length);
+      size += utf8.length;
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensure(int count) {
+      if (size + count > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + count));
+      }
+    }
+  }
+}
@@ -0,0 +1,257 @@
+package com.webforj.webswing.protocol;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.google.gson.JsonObject;
+
+/**
+ * The authority side of a synchronized collection, independent of the transport.
+ *
+ * <p>
+ * The records stay in the application, the authority reads them from its source when a replica
+ * asks for one. Only the records a replica fetched or patched are tracked: the authority keeps
+ * their version, bumped by each accepted change, and the JSON the replicas last saw, which local
+ * changes reported with {@link #changed(String)} are compared to. The changed fields are
+ * broadcast to the replicas as patches. Patches of a replica are accepted when they are based on
+ * the current version and answered with the new version, otherwise they are rejected with the
+ * current record so the replica can resolve the conflict.
+ * </p>
+ *
+ * <p>
+ * The authority can be used from any thread, messages are sent while holding its lock so they
+ * leave in the order of the versions. The source is called without holding the lock.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class RecordAuthority {
+  private final Function<String, JsonObject> source;
+  private final Consumer<JsonObject> broadcaster;
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  /**
+   * Creates a new authority.
+   *
+   * @param source returns the current record of a key as JSON, or null if there is none. The
+   *        returned object is not modified.
+   * @param broadcaster sends a message to all the replicas
+   */
+  public RecordAuthority(Function<String, JsonObject> source, Consumer<JsonObject> broadcaster) {
+    this.source = source;
+    this.broadcaster = broadcaster;
+  }
+
+  /**
+   * Reports that a record of the source changed. When a replica holds the record, its changed
+   * fields are broadcast. Records no replica holds are not read.
+   *
+   * @param key the key of the record
+   * @return true if the changed fields were broadcast
+   */
+  public boolean changed(String key) {
+    if (getVersion(key) == 0) {
+      return false;
+    }
+
+    JsonObject record = source.apply(key);
+    if (record == null) {
+      return false;
+    }
+
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      RecordPatch patch = RecordPatch.diff(entry.record, record);
+      if (patch.isEmpty()) {
+        return false;
+      }
+
+      long base = entry.version;
+      patch.applyTo(entry.record);
+      entry.version++;
+      broadcast(key, base, entry.version, patch);
+      return true;
+    }
+  }
+
+  /**
+   * Gets a record as the replicas know it.
+   *
+   * @param key the key of the record
+   * @return a copy of the record or null if no replica fetched or patched it
+   */
+  public JsonObject get(String key) {
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      return entry != null ? entry.record.deepCopy() : null;
+    }
+  }
+
+  /**
+   * Gets the version of a record.
+   *
+   * @param key the key of the record
+   * @return the version or 0 if no replica fetched or patched the record
+   */
+  public long getVersion(String key) {
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      return entry != null ? entry.version : 0;
+    }
+  }
+
+  /**
+   * Handles a message of a replica.
+   *
+   * @param message the message
+   * @param reply sends a message back to the replica
+   * @param broadcast whether an accepted patch is broadcast, which is only needed when other
+   *        replicas share the transport, the sender skips the echo as it already knows the version
+   * @return the accepted change or null if the message did not change a record
+   */
+  public Change receive(JsonObject message, Consumer<JsonObject> reply, boolean broadcast) {
+    String key = message.get(RecordSyncProtocol.KEY).getAsString();
+    switch (message.get(RecordSyncProtocol.OP).getAsString()) {
+      case RecordSyncProtocol.OP_FETCH:
+        onFetch(key, reply);
+        return null;
+      case RecordSyncProtocol.OP_PATCH:
+        return onPatch(key, message, reply, broadcast);
+      default:
+        return null;
+    }
+  }
+
+  // a record is read from the source once, when a replica first asks for it
+  private void track(String key) {
+    if (getVersion(key) != 0) {
+      return;
+    }
+
+    JsonObject record = source.apply(key);
+    synchronized (entries) {
+      if (record != null && !entries.containsKey(key)) {
+        entries.put(key, new Entry(record.deepCopy(), 1));
+      }
+    }
+  }
+
+  private void onFetch(String key, Consumer<JsonObject> reply) {
+    track(key);
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      JsonObject answer;
+      if (entry != null) {
+        answer = RecordSyncProtocol.message(RecordSyncProtocol.OP_SNAPSHOT, key);
+        answer.addProperty(RecordSyncProtocol.VERSION, entry.version);
+        answer.add(RecordSyncProtocol.RECORD, entry.record.deepCopy());
+      } else {
+        answer = RecordSyncProtocol.message(RecordSyncProtocol.OP_MISSING, key);
+      }
+
+      reply.accept(answer);
+    }
+  }
+
+  private Change onPatch(String key, JsonObject message, Consumer<JsonObject> reply,
+      boolean broadcast) {
+    RecordPatch patch = RecordPatch.fromJson(message);
+
+    track(key);
+    synchronized (entries) {
+      Entry entry = entries.get(key);
+      long version = entry != null ? entry.version : 0;
+      if (message.get(RecordSyncProtocol.BASE).getAsLong() != version) {
+        JsonObject conflict = RecordSyncProtocol.message(RecordSyncProtocol.OP_CONFLICT, key);
+        conflict.addProperty(RecordSyncProtocol.VERSION, version);
+        if (entry != null) {
+          conflict.add(RecordSyncProtocol.RECORD, entry.record.deepCopy());
+        }
+
+        reply.accept(conflict);
+        return null;
+      }
+
+      if (entry == null) {
+        entry = new Entry(new JsonObject(), 0);
+        entries.put(key, entry);
+      }
+
+      patch.applyTo(entry.record);
+      entry.version = version + 1;
+
+      JsonObject ack = RecordSyncProtocol.message(RecordSyncProtocol.OP_ACK, key);
+      ack.addProperty(RecordSyncProtocol.VERSION, entry.version);
+      reply.accept(ack);
+
+      if (broadcast) {
+        broadcast(key, version, entry.version, patch);
+      }
+
+      return new Change(key, entry.record.deepCopy(), patch.getFields());
+    }
+  }
+
+  private void broadcast(String key, long base, long version, RecordPatch patch) {
+    JsonObject message = RecordSyncProtocol.message(RecordSyncProtocol.OP_PATCH, key);
+    message.addProperty(RecordSyncProtocol.BASE, base);
+    message.addProperty(RecordSyncProtocol.VERSION, version);
+    patch.writeTo(message);
+    broadcaster.accept(message);
+  }
+
+  /**
+   * A change of a replica accepted by the authority.
+   */
+  public static final class Change {
+    private final String key;
+    private final JsonObject record;
+    private final Set<String> fields;
+
+    Change(String key, JsonObject record, Set<String> fields) {
+      this.key = key;
+      this.record = record;
+      this.fields = fields;
+    }
+
+    /**
+     * Gets the key of the changed record.
+     *
+     * @return the key
+     */
+    public String getKey() {
+      return key;
+    }
+
+    /**
+     * Gets the record after the change.
+     *
+     * @return a copy of the record
+     */
+    public JsonObject getRecord() {
+      return record;
+    }
+
+    /**
+     * Gets the names of the changed fields.
+     *
+     * @return the field names
+     */
+    public Set<String> getFields() {
+      return fields;
+    }
+  }
+
+  private static final class Entry {
+    private final JsonObject record;
+    private long version;
+
+    Entry(JsonObject record, long version) {
+      this.record = record;
+      this.version = version;
+    }
+  }
+}
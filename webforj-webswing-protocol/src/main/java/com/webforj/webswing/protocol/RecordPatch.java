@@ -0,0 +1,159 @@
+package com.webforj.webswing.protocol;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * The field level difference between two versions of a record.
+ *
+ * <p>
+ * Only the top level members of the JSON object are compared: a changed member is sent whole,
+ * which keeps patches trivial to apply on both sides while still skipping every unchanged field of
+ * wide records.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class RecordPatch {
+  /**
+   * The member of a message holding the changed fields and their values.
+   */
+  public static final String SET = "set";
+  /**
+   * The member of a message holding the names of the removed fields.
+   */
+  public static final String UNSET = "unset";
+
+  private final JsonObject set;
+  private final Set<String> unset;
+
+  private RecordPatch(JsonObject set, Set<String> unset) {
+    this.set = set;
+    this.unset = unset;
+  }
+
+  /**
+   * Computes the patch turning the first record into the second.
+   *
+   * @param from the current record
+   * @param to the new record
+   * @return the patch, empty if both records are equal
+   */
+  public static RecordPatch diff(JsonObject from, JsonObject to) {
+    JsonObject set = new JsonObject();
+    Set<String> unset = new LinkedHashSet<>();
+
+    for (Map.Entry<String, JsonElement> member : to.entrySet()) {
+      if (!member.getValue().equals(from.get(member.getKey()))) {
+        set.add(member.getKey(), member.getValue().deepCopy());
+      }
+    }
+
+    for (String name : from.keySet()) {
+      if (!to.has(name)) {
+        unset.add(name);
+      }
+    }
+
+    return new RecordPatch(set, unset);
+  }
+
+  /**
+   * Reads the patch from a sync message.
+   *
+   * @param message the message
+   * @return the patch
+   */
+  public static RecordPatch fromJson(JsonObject message) {
+    JsonObject set = message.has(SET) ? message.getAsJsonObject(SET) : new JsonObject();
+    Set<String> unset = new LinkedHashSet<>();
+    if (message.has(UNSET)) {
+      for (JsonElement name : message.getAsJsonArray(UNSET)) {
+        unset.add(name.getAsString());
+      }
+    }
+
+    return new RecordPatch(set, unset);
+  }
+
+  /**
+   * Writes the patch into a sync message, leaving out the empty parts.
+   *
+   * @param message the message
+   */
+  public void writeTo(JsonObject message) {
+    if (set.size() > 0) {
+      message.add(SET, set);
+    }
+
+    if (!unset.isEmpty()) {
+      JsonArray names = new JsonArray();
+      unset.forEach(names::add);
+      message.add(UNSET, names);
+    }
+  }
+
+  /**
+   * Applies the patch to the given record.
+   *
+   * @param record the record, modified in place
+   */
+  public void applyTo(JsonObject record) {
+    for (Map.Entry<String, JsonElement> member : set.entrySet()) {
+      record.add(member.getKey(), member.getValue().deepCopy());
+    }
+
+    for (String name : unset) {
+      record.remove(name);
+    }
+  }
+
+  /**
+   * Creates a patch with the effect of this patch followed by the given one.
+   *
+   * @param later the patch applied after this one
+   * @return the merged patch
+   */
+  public RecordPatch merge(RecordPatch later) {
+    JsonObject mergedSet = set.deepCopy();
+    Set<String> mergedUnset = new LinkedHashSet<>(unset);
+
+    for (Map.Entry<String, JsonElement> member : later.set.entrySet()) {
+      mergedSet.add(member.getKey(), member.getValue().deepCopy());
+      mergedUnset.remove(member.getKey());
+    }
+
+    for (String name : later.unset) {
+      mergedSet.remove(name);
+      mergedUnset.add(name);
+    }
+
+    return new RecordPatch(mergedSet, mergedUnset);
+  }
+
+  /**
+   * Gets the names of the fields touched by the patch.
+   *
+   * @return the field names
+   */
+  public Set<String> getFields() {
+    Set<String> fields = new LinkedHashSet<>(set.keySet());
+    fields.addAll(unset);
+    return Collections.unmodifiableSet(fields);
+  }
+
+  /**
+   * Checks whether the patch changes nothing.
+   *
+   * @return true if the patch is empty
+   */
+  public boolean isEmpty() {
+    return set.size() == 0 && unset.isEmpty();
+  }
+}
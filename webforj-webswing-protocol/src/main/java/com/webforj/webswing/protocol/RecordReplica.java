@@ -0,0 +1,315 @@
+package com.webforj.webswing.protocol;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * The replica side of a synchronized collection, independent of the transport.
+ *
+ * <p>
+ * The replica keeps, for every record, the version confirmed by the {@link RecordAuthority} and
+ * the local changes on top of it. At most one patch per record is in flight, changes made while
+ * waiting for its confirmation are merged and sent together once it arrives. A patch of the
+ * authority which does not follow the confirmed version means a change was missed, the record is
+ * then fetched again.
+ * </p>
+ *
+ * <p>
+ * The replica is not thread safe. The records handed to the {@link Listener} are owned by the
+ * replica and must not be modified.
+ * </p>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class RecordReplica {
+  private final Consumer<JsonObject> sender;
+  private final Listener listener;
+  private final Map<String, Entry> entries = new HashMap<>();
+
+  /**
+   * Creates a new replica.
+   *
+   * @param sender sends the messages of the replica to the authority
+   * @param listener notified of the changes of the records
+   */
+  public RecordReplica(Consumer<JsonObject> sender, Listener listener) {
+    this.sender = sender;
+    this.listener = listener;
+  }
+
+  /**
+   * Gets a record, including the local changes which are not confirmed yet.
+   *
+   * @param key the key of the record
+   * @return a copy of the record or null if the replica does not hold it
+   */
+  public JsonObject get(String key) {
+    Entry entry = entries.get(key);
+    return entry != null ? entry.view.deepCopy() : null;
+  }
+
+  /**
+   * Gets the version of a record confirmed by the authority.
+   *
+   * @param key the key of the record
+   * @return the version or 0 if the replica does not hold the record
+   */
+  public long getVersion(String key) {
+    Entry entry = entries.get(key);
+    return entry != null ? entry.version : 0;
+  }
+
+  /**
+   * Checks whether the replica holds the given record.
+   *
+   * @param key the key of the record
+   * @return true if the record is in the replica
+   */
+  public boolean contains(String key) {
+    return entries.containsKey(key);
+  }
+
+  /**
+   * Checks whether local changes of a record wait for the confirmation of the authority.
+   *
+   * @param key the key of the record
+   * @return true if changes are pending
+   */
+  public boolean isPending(String key) {
+    Entry entry = entries.get(key);
+    return entry != null && entry.inFlight != null;
+  }
+
+  /**
+   * Asks the authority for a record. The answer is reported to
+   * {@link Listener#recordFetched(String, JsonObject)}.
+   *
+   * @param key the key of the record
+   */
+  public void fetch(String key) {
+    sender.accept(RecordSyncProtocol.message(RecordSyncProtocol.OP_FETCH, key));
+  }
+
+  /**
+   * Updates a record and sends the changed fields to the authority. A record which is not in the
+   * replica is created.
+   *
+   * @param key the key of the record
+   * @param record the record, not modified
+   * @return true if the record changed and a patch is sent or queued, false otherwise
+   */
+  public boolean update(String key, JsonObject record) {
+    Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+    RecordPatch patch = RecordPatch.diff(entry.view, record);
+    if (patch.isEmpty()) {
+      return false;
+    }
+
+    entry.view = record.deepCopy();
+    if (entry.inFlight == null) {
+      sendPatch(key, entry, patch);
+    } else {
+      entry.queued = entry.queued != null ? entry.queued.merge(patch) : patch;
+    }
+
+    return true;
+  }
+
+  /**
+   * Handles a message of the authority.
+   *
+   * @param message the message
+   */
+  public void receive(JsonObject message) {
+    String key = message.get(RecordSyncProtocol.KEY).getAsString();
+    switch (message.get(RecordSyncProtocol.OP).getAsString()) {
+      case RecordSyncProtocol.OP_SNAPSHOT:
+        onSnapshot(key, message);
+        break;
+      case RecordSyncProtocol.OP_MISSING:
+        onMissing(key);
+        break;
+      case RecordSyncProtocol.OP_PATCH:
+        onPatch(key, message);
+        break;
+      case RecordSyncProtocol.OP_ACK:
+        onAck(key, message);
+        break;
+      case RecordSyncProtocol.OP_CONFLICT:
+        onConflict(key, message);
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void onSnapshot(String key, JsonObject message) {
+    Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+    JsonObject previous = entry.view;
+    entry.confirmed = message.getAsJsonObject(RecordSyncProtocol.RECORD).deepCopy();
+    entry.version = message.get(RecordSyncProtocol.VERSION).getAsLong();
+    entry.rebuildView();
+
+    Set<String> fields = RecordPatch.diff(previous, entry.view).getFields();
+    if (!fields.isEmpty()) {
+      listener.recordChanged(key, entry.view, entry.version, fields);
+    }
+
+    listener.recordFetched(key, entry.view);
+  }
+
+  private void onMissing(String key) {
+    Entry entry = entries.get(key);
+    if (entry != null && entry.inFlight == null) {
+      entries.remove(key);
+    }
+
+    listener.recordFetched(key, null);
+  }
+
+  private void onPatch(String key, JsonObject message) {
+    Entry entry = entries.get(key);
+    long version = message.get(RecordSyncProtocol.VERSION).getAsLong();
+    if (entry == null || version <= entry.version) {
+      // not replicated or already seen, e.g. the echo of our own change
+      return;
+    }
+
+    if (message.get(RecordSyncProtocol.BASE).getAsLong() != entry.version) {
+      // a change was missed, unless our pending change is about to be rejected for the same
+      // reason the replica is stale and has to be fetched again
+      if (entry.inFlight == null) {
+        fetch(key);
+      }
+
+      return;
+    }
+
+    RecordPatch patch = RecordPatch.fromJson(message);
+    patch.applyTo(entry.confirmed);
+    entry.version = version;
+    entry.rebuildView();
+    listener.recordChanged(key, entry.view, entry.version, patch.getFields());
+  }
+
+  private void onAck(String key, JsonObject message) {
+    Entry entry = entries.get(key);
+    if (entry == null || entry.inFlight == null) {
+      return;
+    }
+
+    entry.inFlight.applyTo(entry.confirmed);
+    entry.version = message.get(RecordSyncProtocol.VERSION).getAsLong();
+    entry.inFlight = null;
+
+    RecordPatch queued = entry.queued;
+    entry.queued = null;
+    if (queued != null) {
+      sendPatch(key, entry, queued);
+    }
+  }
+
+  private void onConflict(String key, JsonObject message) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return;
+    }
+
+    RecordPatch rejected = entry.inFlight;
+    if (rejected != null && entry.queued != null) {
+      rejected = rejected.merge(entry.queued);
+    }
+
+    JsonObject local = entry.view;
+    long version = message.get(RecordSyncProtocol.VERSION).getAsLong();
+    JsonElement record = message.get(RecordSyncProtocol.RECORD);
+    JsonObject authoritative = null;
+    if (record != null && record.isJsonObject()) {
+      entry.confirmed = record.getAsJsonObject().deepCopy();
+      entry.version = version;
+      entry.inFlight = null;
+      entry.queued = null;
+      entry.rebuildView();
+      authoritative = entry.view;
+    } else {
+      entries.remove(key);
+    }
+
+    Set<String> fields = rejected != null ? rejected.getFields() : Set.of();
+    listener.recordConflict(key, authoritative, local, version, fields);
+  }
+
+  private void sendPatch(String key, Entry entry, RecordPatch patch) {
+    JsonObject message = RecordSyncProtocol.message(RecordSyncProtocol.OP_PATCH, key);
+    message.addProperty(RecordSyncProtocol.BASE, entry.version);
+    patch.writeTo(message);
+    entry.inFlight = patch;
+    sender.accept(message);
+  }
+
+  /**
+   * Notified of the changes of the records of a {@link RecordReplica}.
+   */
+  public interface Listener {
+
+    /**
+     * Called when the authority changed a record, or a fetched snapshot differs from the record
+     * held by the replica.
+     *
+     * @param key the key of the record
+     * @param record the record after the change, including the local changes not confirmed yet
+     * @param version the version confirmed by the authority
+     * @param fields the names of the changed fields
+     */
+    void recordChanged(String key, JsonObject record, long version, Set<String> fields);
+
+    /**
+     * Called when the authority rejected local changes of a record. The replica then holds the
+     * record of the authority, the local changes are dropped.
+     *
+     * @param key the key of the record
+     * @param record the record of the authority or null if the authority does not know it
+     * @param rejected the record as it was with the rejected changes
+     * @param version the version of the authority
+     * @param rejectedFields the names of the fields of the rejected changes
+     */
+    void recordConflict(String key, JsonObject record, JsonObject rejected, long version,
+        Set<String> rejectedFields);
+
+    /**
+     * Called when the authority answered a fetch.
+     *
+     * @param key the key of the record
+     * @param record the record or null if the authority does not know it
+     */
+    void recordFetched(String key, JsonObject record);
+  }
+
+  /**
+   * A record of the replica: the version confirmed by the authority and the local changes on top
+   * of it.
+   */
+  private static final class Entry {
+    private JsonObject confirmed = new JsonObject();
+    private long version = 0;
+    private RecordPatch inFlight;
+    private RecordPatch queued;
+    private JsonObject view = new JsonObject();
+
+    void rebuildView() {
+      view = confirmed.deepCopy();
+      if (inFlight != null) {
+        inFlight.applyTo(view);
+      }
+
+      if (queued != null) {
+        queued.applyTo(view);
+      }
+    }
+  }
+}
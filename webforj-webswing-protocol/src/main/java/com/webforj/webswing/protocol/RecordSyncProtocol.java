@@ -0,0 +1,110 @@
+package com.webforj.webswing.protocol;
+
+import com.google.gson.JsonObject;
+
+/**
+ * The messages exchanged by a {@link RecordReplica} and its {@link RecordAuthority}.
+ *
+ * <p>
+ * Every collection has its own action, named {@link #ACTION_PREFIX} followed by the name of the
+ * collection, whose data is a JSON object holding the {@link #OP operation} and the {@link #KEY
+ * key} of the record:
+ * </p>
+ *
+ * <ul>
+ * <li>{@link #OP_FETCH}: the replica asks for a record.</li>
+ * <li>{@link #OP_SNAPSHOT}: the authority answers with the {@link #RECORD record} and its
+ * {@link #VERSION version}.</li>
+ * <li>{@link #OP_MISSING}: the authority does not know the record.</li>
+ * <li>{@link #OP_PATCH}: a {@link RecordPatch} turning the {@link #BASE base} version into the
+ * next one. Patches of the authority also carry the resulting version.</li>
+ * <li>{@link #OP_ACK}: the authority accepted a patch of the replica and answers with the new
+ * version.</li>
+ * <li>{@link #OP_CONFLICT}: the authority rejected a patch based on an outdated version and
+ * answers with its version and, if it knows the record, the record.</li>
+ * </ul>
+ *
+ * @author Hyyan Abo Fakher
+ */
+public final class RecordSyncProtocol {
+  /**
+   * The prefix of the action exchanging the messages of a collection.
+   */
+  public static final String ACTION_PREFIX = "webswing-sync:";
+  /**
+   * The member holding the operation of a message.
+   */
+  public static final String OP = "op";
+  /**
+   * The member holding the key of the record.
+   */
+  public static final String KEY = "key";
+  /**
+   * The member holding the version a patch is based on.
+   */
+  public static final String BASE = "base";
+  /**
+   * The member holding the version of the record.
+   */
+  public static final String VERSION = "version";
+  /**
+   * The member holding the whole record.
+   */
+  public static final String RECORD = "record";
+  /**
+   * Asks for a record.
+   */
+  public static final String OP_FETCH = "fetch";
+  /**
+   * Answers a fetch with the record.
+   */
+  public static final String OP_SNAPSHOT = "snapshot";
+  /**
+   * Answers a fetch of an unknown record.
+   */
+  public static final String OP_MISSING = "missing";
+  /**
+   * Carries the changed fields of a record.
+   */
+  public static final String OP_PATCH = "patch";
+  /**
+   * Accepts a patch.
+   */
+  public static final String OP_ACK = "ack";
+  /**
+   * Rejects a patch based on an outdated version.
+   */
+  public static final String OP_CONFLICT = "conflict";
+
+  private RecordSyncProtocol() {}
+
+  /**
+   * Gets the name of the action exchanging the messages of a collection.
+   *
+   * @param collection the name of the collection
+   * @return the action name
+   * @throws IllegalArgumentException if the name is empty or contains one of the
+   *         {@link ActionNames reserved characters}
+   */
+  public static String getActionName(String collection) {
+    if (!ActionNames.isValid(collection)) {
+      throw new IllegalArgumentException("Invalid collection name: " + collection);
+    }
+
+    return ACTION_PREFIX + collection;
+  }
+
+  /**
+   * Creates a message.
+   *
+   * @param op the operation
+   * @param key the key of the record
+   * @return the message
+   */
+  public static JsonObject message(String op, String key) {
+    JsonObject message = new JsonObject();
+    message.addProperty(OP, op);
+    message.addProperty(KEY, key);
+    return message;
+  }
+}
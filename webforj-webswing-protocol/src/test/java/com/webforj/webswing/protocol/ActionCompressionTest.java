@@ -0,0 +1,76 @@
+package com.webforj.webswing.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class ActionCompressionTest {
+
+  private static String repeat(char c, int count) {
+    char[] chars = new char[count];
+    Arrays.fill(chars, c);
+    return new String(chars);
+  }
+
+  @Test
+  void shouldInflateDeflatedData() {
+    String data = "{\"rows\":[" + "{\"name\":\"Jane\"},".repeat(1000) + "{}]}";
+
+    assertEquals(data, ActionCompression.inflate(ActionCompression.deflate(data)));
+  }
+
+  @Test
+  void shouldInflateDataOfTheMaximumSize() {
+    String data = repeat('a', 100_000);
+
+    assertEquals(data, ActionCompression.inflate(ActionCompression.deflate(data), 100_000));
+  }
+
+  @Test
+  void shouldRejectDataLargerThanTheMaximumSize() {
+    byte[] deflated = ActionCompression.deflate(repeat('a', 100_001));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> ActionCompression.inflate(deflated, 100_000));
+  }
+
+  @Test
+  void shouldRejectDataLargerThanTheDefaultMaximumSize() {
+    int size = ActionCompression.DEFAULT_MAX_INFLATED_SIZE + 1;
+    byte[] deflated = ActionCompression.deflate(repeat(' ', size));
+    assertTrue(deflated.length < 100_000);
+
+    assertThrows(IllegalArgumentException.class, () -> ActionCompression.inflate(deflated));
+  }
+
+  @Test
+  void shouldRejectTruncatedData() {
+    byte[] deflated = ActionCompression.deflate(repeat('a', 10_000));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> ActionCompression.inflate(Arrays.copyOf(deflated, deflated.length / 2)));
+  }
+
+  @Test
+  void shouldOnlyDeflateDataReachingTheThreshold() {
+    assertNull(ActionCompression.deflate(repeat('a', 100), 1024));
+    assertNull(ActionCompression.deflate(repeat('a', 10_000), 0));
+    assertNull(ActionCompression.deflate(null, 1024));
+
+    byte[] deflated = ActionCompression.deflate(repeat('a', 10_000), 1024);
+    assertEquals(repeat('a', 10_000), ActionCompression.inflate(deflated));
+  }
+
+  @Test
+  void shouldRecognizeTheMarker() {
+    assertTrue(ActionCompression.isCompressed(ActionCompression.MARKER, new byte[0]));
+    assertFalse(ActionCompression.isCompressed(ActionCompression.MARKER, null));
+    assertFalse(ActionCompression.isCompressed("data", new byte[0]));
+  }
+}
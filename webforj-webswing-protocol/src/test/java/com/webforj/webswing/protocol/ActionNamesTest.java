@@ -0,0 +1,28 @@
+package com.webforj.webswing.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ActionNamesTest {
+
+  @Test
+  void shouldAcceptNamesWithoutReservedCharacters() {
+    assertTrue(ActionNames.isValid("select-customer"));
+    assertTrue(ActionNames.isValid(RecordSyncProtocol.getActionName("customers")));
+    assertEquals("export", ActionNames.check("export"));
+  }
+
+  @Test
+  void shouldRejectNamesWithReservedCharacters() {
+    assertFalse(ActionNames.isValid("customers/select"));
+    assertFalse(ActionNames.isValid("select#1"));
+    assertFalse(ActionNames.isValid(""));
+    assertFalse(ActionNames.isValid(null));
+    assertThrows(IllegalArgumentException.class, () -> ActionNames.check("a/b"));
+    assertThrows(IllegalArgumentException.class, () -> ActionNames.check("a#b"));
+  }
+}
@@ -0,0 +1,287 @@
+package com.webforj.webswing.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CompactLayoutTest {
+
+  enum Status {
+    ACTIVE, BLOCKED
+  }
+
+  record CustomerRecord(long id, String name, Status status, Double balance, List<String> tags) {
+  }
+
+  /**
+   * The same fields as {@link CustomerRecord}, declared in another order.
+   */
+  static class CustomerBean {
+    private List<String> tags;
+    private Status status;
+    private String name;
+    private Double balance;
+    private long id;
+  }
+
+  static class Primitives {
+    boolean flag;
+    byte tiny;
+    short small;
+    char letter;
+    int count;
+    long big;
+    float ratio;
+    double precise;
+    transient int ignored;
+    static int shared;
+  }
+
+  static class Boxed {
+    Boolean flag;
+    Byte tiny;
+    Short small;
+    Character letter;
+    Integer count;
+    Long big;
+    Float ratio;
+    Double precise;
+    Map<String, Integer> scores;
+  }
+
+  static class Parent {
+    String inherited;
+  }
+
+  static class Child extends Parent {
+    String own;
+  }
+
+  static class Ordered {
+    String b;
+    String a;
+  }
+
+  static class OnlyA {
+    String a;
+  }
+
+  static class WithoutDefaultConstructor {
+    final String name;
+
+    WithoutDefaultConstructor(String name) {
+      this.name = name;
+    }
+  }
+
+  private static <T> T roundTrip(Class<T> type, T value) {
+    return CompactLayout.of(type).read(ByteBuffer.wrap(CompactLayout.of(type).write(value)));
+  }
+
+  @Nested
+  class RoundTrip {
+
+    @Test
+    void shouldRoundTripRecord() {
+      CustomerRecord customer =
+          new CustomerRecord(42, "Jane", Status.BLOCKED, 12.5, List.of("vip", "new"));
+
+      assertEquals(customer, roundTrip(CustomerRecord.class, customer));
+    }
+
+    @Test
+    void shouldRoundTripPrimitives() {
+      Primitives value = new Primitives();
+      value.flag = true;
+      value.tiny = -7;
+      value.small = Short.MIN_VALUE;
+      value.letter = 'é';
+      value.count = -1;
+      value.big = Long.MIN_VALUE;
+      value.ratio = Float.NaN;
+      value.precise = -0.0;
+      value.ignored = 3;
+
+      Primitives read = roundTrip(Primitives.class, value);
+      assertEquals(true, read.flag);
+      assertEquals(-7, read.tiny);
+      assertEquals(Short.MIN_VALUE, read.small);
+      assertEquals('é', read.letter);
+      assertEquals(-1, read.count);
+      assertEquals(Long.MIN_VALUE, read.big);
+      assertEquals(Float.NaN, read.ratio);
+      assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(read.precise));
+      assertEquals(0, read.ignored);
+    }
+
+    @Test
+    void shouldRoundTripBoxedValuesAndJsonFields() {
+      Boxed value = new Boxed();
+      value.flag = false;
+      value.tiny = Byte.MAX_VALUE;
+      value.small = (short) 300;
+      value.letter = 'x';
+      value.count = Integer.MAX_VALUE;
+      value.big = Long.MAX_VALUE;
+      value.ratio = 1.5f;
+      value.precise = Math.PI;
+      value.scores = Map.of("a", 1);
+
+      Boxed read = roundTrip(Boxed.class, value);
+      assertEquals(false, read.flag);
+      assertEquals(Byte.MAX_VALUE, read.tiny);
+      assertEquals((short) 300, read.small);
+      assertEquals('x', read.letter);
+      assertEquals(Integer.MAX_VALUE, read.count);
+      assertEquals(Long.MAX_VALUE, read.big);
+      assertEquals(1.5f, read.ratio);
+      assertEquals(Math.PI, read.precise);
+      assertEquals(Map.of("a", 1), read.scores);
+    }
+
+    @Test
+    void shouldRoundTripNullFields() {
+      Boxed read = roundTrip(Boxed.class, new Boxed());
+
+      assertNull(read.flag);
+      assertNull(read.count);
+      assertNull(read.precise);
+      assertNull(read.scores);
+      assertEquals(new CustomerRecord(1, null, null, null, null),
+          roundTrip(CustomerRecord.class, new CustomerRecord(1, null, null, null, null)));
+    }
+
+    @Test
+    void shouldIncludeInheritedFields() {
+      Child child = new Child();
+      child.inherited = "parent";
+      child.own = "child";
+
+      Child read = roundTrip(Child.class, child);
+      assertEquals("parent", read.inherited);
+      assertEquals("child", read.own);
+    }
+
+    @Test
+    void shouldEncodeWithTheLayoutOfTheClass() {
+      CustomerRecord customer = new CustomerRecord(42, "Jane", Status.ACTIVE, null, List.of());
+
+      assertArrayEquals(CompactLayout.of(CustomerRecord.class).write(customer),
+          CompactLayout.encode(customer));
+      assertSame(CompactLayout.of(CustomerRecord.class), CompactLayout.of(CustomerRecord.class));
+    }
+  }
+
+  @Nested
+  class Compatibility {
+
+    @Test
+    void shouldReadRecordAsClassWithTheSameFields() {
+      CustomerRecord customer =
+          new CustomerRecord(42, "Jane", Status.BLOCKED, null, List.of("vip"));
+
+      CustomerBean bean = CompactLayout.of(CustomerBean.class)
+          .read(ByteBuffer.wrap(CompactLayout.encode(customer)));
+
+      assertEquals(42, bean.id);
+      assertEquals("Jane", bean.name);
+      assertEquals(Status.BLOCKED, bean.status);
+      assertNull(bean.balance);
+      assertEquals(List.of("vip"), bean.tags);
+    }
+
+    @Test
+    void shouldWriteClassAndRecordWithTheSameFieldsAlike() {
+      CustomerBean bean = new CustomerBean();
+      bean.id = 7;
+      bean.name = "John";
+      bean.status = Status.ACTIVE;
+      bean.balance = -3.25;
+      bean.tags = List.of("a", "b");
+
+      byte[] bytes = CompactLayout.encode(bean);
+      CustomerRecord customer =
+          CompactLayout.of(CustomerRecord.class).read(ByteBuffer.wrap(bytes));
+
+      assertEquals(new CustomerRecord(7, "John", Status.ACTIVE, -3.25, List.of("a", "b")),
+          customer);
+      assertArrayEquals(bytes, CompactLayout.encode(customer));
+    }
+
+    @Test
+    void shouldOrderFieldsByName() {
+      Ordered value = new Ordered();
+      value.a = "x";
+      value.b = "y";
+
+      // presence byte, length and UTF-8 of "x" then of "y", whatever the declaration order
+      assertArrayEquals(new byte[] {1, 2, 'x', 1, 2, 'y'}, CompactLayout.encode(value));
+    }
+
+    @Test
+    void shouldWriteEnumsByName() {
+      byte[] bytes = CompactLayout.encode(new CustomerRecord(0, null, Status.BLOCKED, null, null));
+
+      // balance, id, name, status and tags, the constant as a string with its zigzag length
+      byte[] expected = {0, 0, 0, 1, 14, 'B', 'L', 'O', 'C', 'K', 'E', 'D', 0};
+      assertArrayEquals(expected, bytes);
+    }
+
+    @Test
+    void shouldReadOnlyTheBytesOfItsLayout() {
+      Ordered value = new Ordered();
+      value.a = "x";
+      value.b = "y";
+      ByteBuffer bytes = ByteBuffer.wrap(CompactLayout.encode(value));
+
+      assertEquals("x", CompactLayout.of(OnlyA.class).read(bytes).a);
+      assertEquals(3, bytes.remaining());
+    }
+  }
+
+  @Nested
+  class Errors {
+
+    @Test
+    void shouldRejectUnsupportedClasses() {
+      assertThrows(IllegalArgumentException.class, () -> CompactLayout.of(Runnable.class));
+      assertThrows(IllegalArgumentException.class, () -> CompactLayout.of(int.class));
+      assertThrows(IllegalArgumentException.class, () -> CompactLayout.of(String[].class));
+      assertThrows(IllegalArgumentException.class, () -> CompactLayout.of(Number.class));
+      assertThrows(IllegalArgumentException.class,
+          () -> CompactLayout.of(WithoutDefaultConstructor.class));
+    }
+
+    @Test
+    void shouldRejectTruncatedData() {
+      byte[] bytes = CompactLayout.encode(new CustomerRecord(42, "Jane", null, null, null));
+      ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 2));
+
+      assertThrows(IllegalArgumentException.class,
+          () -> CompactLayout.of(CustomerRecord.class).read(truncated));
+    }
+
+    @Test
+    void shouldRejectUnknownEnumConstant() {
+      CustomerBean bean = new CustomerBean();
+      bean.status = Status.ACTIVE;
+      byte[] bytes = CompactLayout.encode(bean);
+      String renamed = new String(bytes, StandardCharsets.ISO_8859_1)
+          .replace("ACTIVE", "ACTIVX");
+
+      assertThrows(IllegalArgumentException.class, () -> CompactLayout.of(CustomerBean.class)
+          .read(ByteBuffer.wrap(renamed.getBytes(StandardCharsets.ISO_8859_1))));
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package com.webforj.webswing.protocol;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * An in-memory transport connecting replicas to an authority.
+ *
+ * <p>
+ * Messages are queued and only delivered when a test asks for it, so tests decide the order in
+ * which both sides see them and can drop messages to simulate a lost update. Messages are passed
+ * as strings, like on the wire, so no side shares a JSON tree with the other.
+ * </p>
+ *
+ * <p>
+ * The records of the authority live in a map standing for the model of the application, accepted
+ * changes are written back to it like an application would.
+ * </p>
+ */
+final class FakeTransport {
+  private final List<Client> clients = new ArrayList<>();
+  private final List<RecordAuthority.Change> changes = new ArrayList<>();
+  private final Map<String, JsonObject> records = new HashMap<>();
+  private final RecordAuthority authority = new RecordAuthority(this::read, this::broadcast);
+  private int reads = 0;
+
+  RecordAuthority getAuthority() {
+    return authority;
+  }
+
+  /**
+   * Changes a record of the application and reports it to the authority.
+   *
+   * @return true if the changed fields were broadcast
+   */
+  boolean change(String key, JsonObject record) {
+    records.put(key, record.deepCopy());
+    return authority.changed(key);
+  }
+
+  /**
+   * Gets the records of the application.
+   */
+  Map<String, JsonObject> getRecords() {
+    return records;
+  }
+
+  /**
+   * Gets how many times the authority read a record of the application.
+   */
+  int getReads() {
+    return reads;
+  }
+
+  /**
+   * Gets the changes accepted by the authority.
+   */
+  List<RecordAuthority.Change> getChanges() {
+    return changes;
+  }
+
+  /**
+   * Connects a new replica. As soon as more than one replica is connected, the connection is
+   * shared and accepted patches are broadcast.
+   */
+  Client connect() {
+    Client client = new Client();
+    clients.add(client);
+    return client;
+  }
+
+  /**
+   * Delivers all the queued messages in both directions until none is left.
+   */
+  void flush() {
+    boolean delivered = true;
+    while (delivered) {
+      delivered = false;
+      for (Client client : clients) {
+        while (client.deliverOutbound() || client.deliverInbound()) {
+          delivered = true;
+        }
+      }
+    }
+  }
+
+  private JsonObject read(String key) {
+    reads++;
+    return records.get(key);
+  }
+
+  private void broadcast(JsonObject message) {
+    for (Client client : clients) {
+      client.inbound.add(message.toString());
+    }
+  }
+
+  private static JsonObject parse(String message) {
+    return JsonParser.parseString(message).getAsJsonObject();
+  }
+
+  /**
+   * A replica connected to the authority, recording what its listener is told.
+   */
+  final class Client implements RecordReplica.Listener {
+    private final Deque<String> outbound = new ArrayDeque<>();
+    private final Deque<String> inbound = new ArrayDeque<>();
+    private final RecordReplica replica =
+        new RecordReplica(message -> outbound.add(message.toString()), this);
+    final List<Set<String>> changed = new ArrayList<>();
+    final List<Set<String>> conflicts = new ArrayList<>();
+    final List<JsonObject> rejected = new ArrayList<>();
+    final List<JsonObject> fetched = new ArrayList<>();
+
+    RecordReplica getReplica() {
+      return replica;
+    }
+
+    Deque<String> getOutbound() {
+      return outbound;
+    }
+
+    Deque<String> getInbound() {
+      return inbound;
+    }
+
+    /**
+     * Delivers the oldest message of the replica to the authority.
+     *
+     * @return false if no message was queued
+     */
+    boolean deliverOutbound() {
+      String message = outbound.poll();
+      if (message == null) {
+        return false;
+      }
+
+      RecordAuthority.Change change = authority.receive(parse(message),
+          reply -> inbound.add(reply.toString()), clients.size() > 1);
+      if (change != null) {
+        changes.add(change);
+        records.put(change.getKey(), change.getRecord());
+      }
+
+      return true;
+    }
+
+    /**
+     * Delivers the oldest message of the authority to the replica.
+     *
+     * @return false if no message was queued
+     */
+    boolean deliverInbound() {
+      String message = inbound.poll();
+      if (message == null) {
+        return false;
+      }
+
+      replica.receive(parse(message));
+      return true;
+    }
+
+    /**
+     * Drops the oldest message of the authority, as if it was lost.
+     */
+    void dropInbound() {
+      inbound.remove();
+    }
+
+    @Override
+    public void recordChanged(String key, JsonObject record, long version, Set<String> fields) {
+      changed.add(fields);
+    }
+
+    @Override
+    public void recordConflict(String key, JsonObject record, JsonObject rejected, long version,
+        Set<String> rejectedFields) {
+      conflicts.add(rejectedFields);
+      this.rejected.add(rejected);
+    }
+
+    @Override
+    public void recordFetched(String key, JsonObject record) {
+      fetched.add(record);
+    }
+  }
+}
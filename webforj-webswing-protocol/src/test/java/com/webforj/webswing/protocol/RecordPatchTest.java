@@ -0,0 +1,98 @@
+package com.webforj.webswing.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+class RecordPatchTest {
+
+  private static JsonObject json(String json) {
+    return JsonParser.parseString(json).getAsJsonObject();
+  }
+
+  @Test
+  void shouldBeEmptyForEqualRecords() {
+    RecordPatch patch =
+        RecordPatch.diff(json("{\"a\":1,\"b\":[1,2]}"), json("{\"b\":[1,2],\"a\":1}"));
+
+    assertTrue(patch.isEmpty());
+    assertTrue(patch.getFields().isEmpty());
+  }
+
+  @Test
+  void shouldHoldOnlyChangedAndRemovedFields() {
+    RecordPatch patch =
+        RecordPatch.diff(json("{\"a\":1,\"b\":2,\"c\":3}"), json("{\"a\":1,\"b\":5,\"d\":4}"));
+
+    assertEquals(Set.of("b", "d", "c"), patch.getFields());
+
+    JsonObject message = new JsonObject();
+    patch.writeTo(message);
+    assertEquals(json("{\"set\":{\"b\":5,\"d\":4},\"unset\":[\"c\"]}"), message);
+  }
+
+  @Test
+  void shouldLeaveOutEmptyParts() {
+    JsonObject message = new JsonObject();
+    RecordPatch.diff(json("{\"a\":1}"), json("{}")).writeTo(message);
+
+    assertFalse(message.has(RecordPatch.SET));
+    assertTrue(message.has(RecordPatch.UNSET));
+  }
+
+  @Test
+  void shouldTurnTheFirstRecordIntoTheSecond() {
+    JsonObject from = json("{\"a\":1,\"b\":{\"x\":1},\"c\":3}");
+    JsonObject to = json("{\"a\":2,\"b\":{\"x\":2},\"d\":null}");
+
+    JsonObject message = new JsonObject();
+    RecordPatch.diff(from, to).writeTo(message);
+    RecordPatch.fromJson(json(message.toString())).applyTo(from);
+
+    assertEquals(to, from);
+  }
+
+  @Test
+  void shouldNotShareValuesWithTheRecords() {
+    JsonObject to = json("{\"b\":{\"x\":1}}");
+    RecordPatch patch = RecordPatch.diff(new JsonObject(), to);
+    to.getAsJsonObject("b").addProperty("x", 2);
+
+    JsonObject record = new JsonObject();
+    patch.applyTo(record);
+    assertEquals(json("{\"b\":{\"x\":1}}"), record);
+  }
+
+  @Test
+  void shouldMergeLaterChangesOverEarlierOnes() {
+    JsonObject v1 = json("{\"a\":1,\"b\":2,\"c\":3}");
+    JsonObject v2 = json("{\"a\":5,\"c\":3}");
+    JsonObject v3 = json("{\"a\":6,\"b\":7}");
+
+    RecordPatch merged = RecordPatch.diff(v1, v2).merge(RecordPatch.diff(v2, v3));
+    JsonObject record = v1.deepCopy();
+    merged.applyTo(record);
+
+    assertEquals(v3, record);
+    assertEquals(Set.of("a", "b", "c"), merged.getFields());
+  }
+
+  @Test
+  void shouldUnsetFieldsSetEarlierWhenMerging() {
+    JsonObject v1 = json("{\"a\":1}");
+    JsonObject v2 = json("{\"a\":1,\"b\":2}");
+    JsonObject v3 = json("{\"a\":1}");
+
+    RecordPatch merged = RecordPatch.diff(v1, v2).merge(RecordPatch.diff(v2, v3));
+    JsonObject message = new JsonObject();
+    merged.writeTo(message);
+
+    assertEquals(json("{\"unset\":[\"b\"]}"), message);
+  }
+}
@@ -0,0 +1,363 @@
+package com.webforj.webswing.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class RecordSyncTest {
+  private static final String KEY = "42";
+
+  private FakeTransport transport;
+  private RecordAuthority authority;
+
+  @BeforeEach
+  void setUp() {
+    transport = new FakeTransport();
+    authority = transport.getAuthority();
+    transport.getRecords().put(KEY,
+        json("{\"name\":\"Jane\",\"email\":\"jane@example.com\",\"city\":\"Paris\"}"));
+  }
+
+  private static JsonObject json(String json) {
+    return JsonParser.parseString(json).getAsJsonObject();
+  }
+
+  private static JsonObject with(JsonObject record, String field, String value) {
+    JsonObject copy = record.deepCopy();
+    copy.addProperty(field, value);
+    return copy;
+  }
+
+  private FakeTransport.Client fetched() {
+    FakeTransport.Client client = transport.connect();
+    client.getReplica().fetch(KEY);
+    transport.flush();
+    return client;
+  }
+
+  private static JsonObject nextMessage(FakeTransport.Client client) {
+    return JsonParser.parseString(client.getOutbound().peek()).getAsJsonObject();
+  }
+
+  @Test
+  void shouldRejectInvalidCollectionNames() {
+    assertEquals("webswing-sync:customers", RecordSyncProtocol.getActionName("customers"));
+    assertThrows(IllegalArgumentException.class, () -> RecordSyncProtocol.getActionName(""));
+    assertThrows(IllegalArgumentException.class, () -> RecordSyncProtocol.getActionName(null));
+    assertThrows(IllegalArgumentException.class, () -> RecordSyncProtocol.getActionName("a/b"));
+    assertThrows(IllegalArgumentException.class, () -> RecordSyncProtocol.getActionName("a#b"));
+  }
+
+  @Nested
+  class Fetch {
+
+    @Test
+    void shouldReplicateKnownRecord() {
+      FakeTransport.Client client = fetched();
+
+      assertTrue(client.getReplica().contains(KEY));
+      assertEquals(1, client.getReplica().getVersion(KEY));
+      assertEquals(authority.get(KEY), client.getReplica().get(KEY));
+      assertEquals(List.of(authority.get(KEY)), client.fetched);
+      assertEquals(List.of(Set.of("name", "email", "city")), client.changed);
+    }
+
+    @Test
+    void shouldReadRecordOnlyWhenFirstFetched() {
+      assertEquals(0, authority.getVersion(KEY));
+      assertNull(authority.get(KEY));
+      assertEquals(0, transport.getReads());
+
+      fetched();
+      fetched();
+
+      assertEquals(1, transport.getReads());
+      assertEquals(transport.getRecords().get(KEY), authority.get(KEY));
+    }
+
+    @Test
+    void shouldReportUnknownRecord() {
+      FakeTransport.Client client = transport.connect();
+      client.getReplica().fetch("unknown");
+      transport.flush();
+
+      assertFalse(client.getReplica().contains("unknown"));
+      assertEquals(1, client.fetched.size());
+      assertNull(client.fetched.get(0));
+    }
+
+    @Test
+    void shouldKeepRecordWithPendingChangesWhenMissing() {
+      FakeTransport.Client client = transport.connect();
+      client.getReplica().update("new", json("{\"name\":\"John\"}"));
+      client.getReplica().fetch("new");
+
+      // the answer to the fetch arrives while the patch creating the record is still in flight
+      client.getOutbound().addFirst(client.getOutbound().removeLast());
+      client.deliverOutbound();
+      client.deliverInbound();
+
+      assertTrue(client.getReplica().contains("new"));
+      assertTrue(client.getReplica().isPending("new"));
+    }
+  }
+
+  @Nested
+  class Update {
+
+    @Test
+    void shouldSendOnlyChangedFieldsBasedOnTheConfirmedVersion() {
+      FakeTransport.Client client = fetched();
+      JsonObject record = client.getReplica().get(KEY);
+
+      assertFalse(client.getReplica().update(KEY, record));
+      assertTrue(client.getReplica().update(KEY, with(record, "city", "Berlin")));
+
+      JsonObject patch = nextMessage(client);
+      assertEquals(RecordSyncProtocol.OP_PATCH, patch.get(RecordSyncProtocol.OP).getAsString());
+      assertEquals(1, patch.get(RecordSyncProtocol.BASE).getAsLong());
+      assertEquals(json("{\"city\":\"Berlin\"}"), patch.getAsJsonObject(RecordPatch.SET));
+      assertTrue(client.getReplica().isPending(KEY));
+    }
+
+    @Test
+    void shouldConfirmAcknowledgedPatch() {
+      FakeTransport.Client client = fetched();
+      client.getReplica().update(KEY, with(client.getReplica().get(KEY), "city", "Berlin"));
+      transport.flush();
+
+      assertFalse(client.getReplica().isPending(KEY));
+      assertEquals(2, client.getReplica().getVersion(KEY));
+      assertEquals(2, authority.getVersion(KEY));
+      assertEquals("Berlin", authority.get(KEY).get("city").getAsString());
+      assertEquals(1, transport.getChanges().size());
+      assertEquals(Set.of("city"), transport.getChanges().get(0).getFields());
+    }
+
+    @Test
+    void shouldCreateRecordUnknownToTheAuthority() {
+      FakeTransport.Client client = transport.connect();
+      client.getReplica().update("new", json("{\"name\":\"John\"}"));
+      transport.flush();
+
+      assertEquals(1, authority.getVersion("new"));
+      assertEquals(json("{\"name\":\"John\"}"), authority.get("new"));
+      assertEquals(1, client.getReplica().getVersion("new"));
+    }
+
+    @Test
+    void shouldQueueChangesWhilePatchIsInFlightAndSendThemOnAck() {
+      FakeTransport.Client client = fetched();
+      JsonObject record = client.getReplica().get(KEY);
+      record = with(record, "city", "Berlin");
+      client.getReplica().update(KEY, record);
+      record = with(record, "name", "Janet");
+      client.getReplica().update(KEY, record);
+      record = with(record, "email", "janet@example.com");
+      client.getReplica().update(KEY, record);
+
+      // only the first patch leaves, the others wait for its ack
+      assertEquals(1, client.getOutbound().size());
+      assertEquals(record, client.getReplica().get(KEY));
+
+      client.deliverOutbound();
+      client.deliverInbound();
+
+      JsonObject queued = nextMessage(client);
+      assertEquals(1, client.getOutbound().size());
+      assertEquals(2, queued.get(RecordSyncProtocol.BASE).getAsLong());
+      assertEquals(json("{\"name\":\"Janet\",\"email\":\"janet@example.com\"}"),
+          queued.getAsJsonObject(RecordPatch.SET));
+
+      transport.flush();
+      assertEquals(3, client.getReplica().getVersion(KEY));
+      assertEquals(record, authority.get(KEY));
+      assertFalse(client.getReplica().isPending(KEY));
+      assertTrue(client.conflicts.isEmpty());
+    }
+  }
+
+  @Nested
+  class AuthorityChanges {
+
+    @Test
+    void shouldApplyPatchOfTheAuthority() {
+      FakeTransport.Client client = fetched();
+      client.changed.clear();
+
+      transport.change(KEY, with(authority.get(KEY), "city", "Rome"));
+      transport.flush();
+
+      assertEquals(2, client.getReplica().getVersion(KEY));
+      assertEquals("Rome", client.getReplica().get(KEY).get("city").getAsString());
+      assertEquals(List.of(Set.of("city")), client.changed);
+    }
+
+    @Test
+    void shouldIgnoreChangesOfRecordsNoReplicaHolds() {
+      FakeTransport.Client client = transport.connect();
+
+      assertFalse(transport.change(KEY, json("{\"name\":\"Janet\"}")));
+      assertEquals(0, transport.getReads());
+      assertTrue(client.getInbound().isEmpty());
+
+      client.getReplica().fetch(KEY);
+      transport.flush();
+      assertEquals("Janet", client.getReplica().get(KEY).get("name").getAsString());
+    }
+
+    @Test
+    void shouldNotBroadcastUnchangedRecord() {
+      FakeTransport.Client client = fetched();
+
+      assertFalse(transport.change(KEY, authority.get(KEY)));
+      assertTrue(client.getInbound().isEmpty());
+    }
+
+    @Test
+    void shouldKeepLocalChangesOnTopOfPatchOfTheAuthority() {
+      FakeTransport.Client client = fetched();
+      client.getReplica().update(KEY, with(client.getReplica().get(KEY), "city", "Berlin"));
+
+      transport.change(KEY, with(authority.get(KEY), "name", "Janet"));
+      client.deliverInbound();
+
+      JsonObject view = client.getReplica().get(KEY);
+      assertEquals("Janet", view.get("name").getAsString());
+      assertEquals("Berlin", view.get("city").getAsString());
+      assertTrue(client.getReplica().isPending(KEY));
+    }
+
+    @Test
+    void shouldFetchAgainOnBaseMismatch() {
+      FakeTransport.Client client = fetched();
+      client.changed.clear();
+
+      transport.change(KEY, with(authority.get(KEY), "city", "Rome"));
+      client.dropInbound();
+      transport.change(KEY, with(authority.get(KEY), "name", "Janet"));
+      client.deliverInbound();
+
+      // the patch from version 2 to 3 does not follow version 1, it is not applied
+      assertEquals(1, client.getReplica().getVersion(KEY));
+      JsonObject fetch = nextMessage(client);
+      assertEquals(RecordSyncProtocol.OP_FETCH, fetch.get(RecordSyncProtocol.OP).getAsString());
+
+      transport.flush();
+      assertEquals(3, client.getReplica().getVersion(KEY));
+      assertEquals(authority.get(KEY), client.getReplica().get(KEY));
+      assertEquals(List.of(Set.of("name", "city")), client.changed);
+    }
+
+    @Test
+    void shouldNotFetchOnBaseMismatchWhilePatchIsInFlight() {
+      FakeTransport.Client client = fetched();
+      client.getReplica().update(KEY, with(client.getReplica().get(KEY), "email", "j@x.org"));
+
+      transport.change(KEY, with(authority.get(KEY), "city", "Rome"));
+      client.dropInbound();
+      transport.change(KEY, with(authority.get(KEY), "name", "Janet"));
+      client.deliverInbound();
+
+      // the pending patch is rejected anyway and the conflict carries the current record
+      assertEquals(1, client.getOutbound().size());
+      transport.flush();
+
+      assertEquals(3, client.getReplica().getVersion(KEY));
+      assertEquals(authority.get(KEY), client.getReplica().get(KEY));
+      assertEquals(List.of(Set.of("email")), client.conflicts);
+    }
+
+    @Test
+    void shouldIgnoreStalePatch() {
+      FakeTransport.Client client = fetched();
+      transport.change(KEY, with(authority.get(KEY), "city", "Rome"));
+      String patch = client.getInbound().peek();
+      transport.flush();
+      client.changed.clear();
+
+      client.getInbound().add(patch);
+      client.deliverInbound();
+
+      assertEquals(2, client.getReplica().getVersion(KEY));
+      assertTrue(client.changed.isEmpty());
+      assertTrue(client.getOutbound().isEmpty());
+    }
+  }
+
+  @Nested
+  class SharedConnection {
+
+    @Test
+    void shouldBroadcastAcceptedPatchToOtherReplicasAndIgnoreTheEcho() {
+      FakeTransport.Client first = fetched();
+      FakeTransport.Client second = fetched();
+      first.changed.clear();
+      second.changed.clear();
+
+      first.getReplica().update(KEY, with(first.getReplica().get(KEY), "city", "Berlin"));
+      transport.flush();
+
+      assertTrue(first.changed.isEmpty());
+      assertEquals(List.of(Set.of("city")), second.changed);
+      assertEquals(2, second.getReplica().getVersion(KEY));
+      assertEquals(first.getReplica().get(KEY), second.getReplica().get(KEY));
+    }
+
+    @Test
+    void shouldResolveConflictWithTheRecordOfTheAuthority() {
+      FakeTransport.Client first = fetched();
+      FakeTransport.Client second = fetched();
+
+      first.getReplica().update(KEY, with(first.getReplica().get(KEY), "city", "Berlin"));
+      first.deliverOutbound();
+
+      // the second replica changes the record before seeing the change of the first one, a
+      // second change is queued behind its in flight patch
+      JsonObject local = with(second.getReplica().get(KEY), "city", "Madrid");
+      second.getReplica().update(KEY, local);
+      local = with(local, "name", "Janet");
+      second.getReplica().update(KEY, local);
+      transport.flush();
+
+      assertEquals(List.of(Set.of("city", "name")), second.conflicts);
+      assertEquals(local, second.rejected.get(0));
+      assertFalse(second.getReplica().isPending(KEY));
+      assertEquals(2, second.getReplica().getVersion(KEY));
+      assertEquals(authority.get(KEY), second.getReplica().get(KEY));
+      assertEquals("Berlin", second.getReplica().get(KEY).get("city").getAsString());
+      assertEquals(first.getReplica().get(KEY), second.getReplica().get(KEY));
+      assertEquals(1, transport.getChanges().size());
+    }
+
+    @Test
+    void shouldReplaceRecordCreatedConcurrently() {
+      FakeTransport.Client first = transport.connect();
+      FakeTransport.Client second = transport.connect();
+
+      first.getReplica().update("new", json("{\"name\":\"John\"}"));
+      first.deliverOutbound();
+      first.getReplica().update("new", json("{\"name\":\"Johnny\"}"));
+      second.getInbound().clear();
+
+      // the second replica missed the creation and creates the record itself
+      second.getReplica().update("new", json("{\"name\":\"Jack\"}"));
+      transport.flush();
+
+      assertEquals(List.of(Set.of("name")), second.conflicts);
+      assertEquals(authority.get("new"), second.getReplica().get("new"));
+      assertEquals(json("{\"name\":\"Johnny\"}"), authority.get("new"));
+    }
+  }
+}